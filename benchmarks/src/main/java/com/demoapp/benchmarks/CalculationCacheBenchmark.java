@@ -0,0 +1,61 @@
+package com.demoapp.benchmarks;
+
+import com.demoapp.services.PhysicsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class CalculationCacheBenchmark {
+
+    /**
+     * {@code resident} keeps every key below the default 10,000 entry capacity so lookups measure
+     * hits. {@code evicting} cycles five times that many keys through the cache, so most lookups
+     * miss and most writes evict.
+     */
+    @Param({"resident", "evicting"})
+    private String workingSet;
+
+    private final PhysicsService physics = new PhysicsService();
+    private String[] keys;
+
+    @Setup(Level.Trial)
+    public void populate() {
+        int keyCount = workingSet.equals("resident") ? 8_000 : 50_000;
+        keys = new String[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            keys[i] = "force:" + i;
+            physics.cacheCalculation(keys[i], i);
+        }
+    }
+
+    @Benchmark
+    public double getCachedCalculation() {
+        return physics.getCachedCalculation(keys[ThreadLocalRandom.current().nextInt(keys.length)]);
+    }
+
+    @Benchmark
+    public void cacheCalculation() {
+        int i = ThreadLocalRandom.current().nextInt(keys.length);
+        physics.cacheCalculation(keys[i], i);
+    }
+}
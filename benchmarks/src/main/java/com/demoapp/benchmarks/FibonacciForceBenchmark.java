@@ -0,0 +1,40 @@
+package com.demoapp.benchmarks;
+
+import com.demoapp.services.PhysicsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FibonacciForceBenchmark {
+
+    @Param({"20", "45", "90", "1000"})
+    private int n;
+
+    private final PhysicsService physics = new PhysicsService();
+
+    @Benchmark
+    public double calculateFibonacciForce() {
+        return physics.calculateFibonacciForce(n);
+    }
+
+    @Benchmark
+    public BigInteger calculateExactFibonacciForce() {
+        return physics.calculateExactFibonacciForce(n);
+    }
+}
@@ -0,0 +1,73 @@
+package com.demoapp.benchmarks;
+
+import com.demoapp.services.PhysicsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the kernels that use {@code PhysicalConstants} against the same formulas written with the
+ * {@code Math.pow(10, k)} literals they used to evaluate on every call and every step.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PhysicalConstantsBenchmark {
+
+    @Param({"1000"})
+    private int totalSteps;
+
+    private final PhysicsService physics = new PhysicsService();
+
+    private double mass1 = 2.8e30;
+    private double mass2 = 2.6e30;
+    private double charge = 1.6e-19;
+    private double distance = 4.2e6;
+    private double velocity = 6.0e7;
+
+    @Benchmark
+    public double calculateCoulombForce() {
+        return physics.calculateCoulombForce(charge, charge, distance);
+    }
+
+    @Benchmark
+    public double calculateCoulombForceWithLiteralPow() {
+        return (8.9875517923 * Math.pow(10, 9)) * charge * charge / (distance * distance);
+    }
+
+    @Benchmark
+    public double calculateEscapeVelocity() {
+        return physics.calculateEscapeVelocity(mass1, distance);
+    }
+
+    @Benchmark
+    public double calculateEscapeVelocityWithLiteralPow() {
+        return Math.sqrt(2 * 6.67430 * Math.pow(10, -11) * mass1 / distance);
+    }
+
+    @Benchmark
+    public double simulateGravitationalSlingshot() {
+        return physics.simulateGravitationalSlingshot(mass1, mass2, velocity, distance, totalSteps);
+    }
+
+    @Benchmark
+    public double simulateGravitationalSlingshotWithLiteralPow() {
+        double newVelocity = velocity;
+        for (int i = 0; i < totalSteps; i++) {
+            newVelocity += 2 * (6.67430 * Math.pow(10, -11) * mass1 * mass2) / (distance * velocity * i + 1);
+        }
+        return newVelocity;
+    }
+}
@@ -0,0 +1,68 @@
+package com.demoapp.benchmarks;
+
+import com.demoapp.services.PhysicsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ScalarFormulaBenchmark {
+
+    private final PhysicsService physics = new PhysicsService();
+
+    private double mass = 72.5;
+    private double velocity = 13.1;
+    private double acceleration = 3.7;
+    private double height = 12.0;
+    private double distance = 4.2e6;
+    private double charge = 1.6e-19;
+    private double area = 0.75;
+
+    @Benchmark
+    public double calculateForce() {
+        return physics.calculateForce(mass, acceleration);
+    }
+
+    @Benchmark
+    public double calculateKineticEnergy() {
+        return physics.calculateKineticEnergy(mass, velocity);
+    }
+
+    @Benchmark
+    public double calculatePotentialEnergy() {
+        return physics.calculatePotentialEnergy(mass, height);
+    }
+
+    @Benchmark
+    public double calculateDragForce() {
+        return physics.calculateDragForce(0.47, 1.225, velocity, area);
+    }
+
+    @Benchmark
+    public double calculateCoulombForce() {
+        return physics.calculateCoulombForce(charge, charge, distance);
+    }
+
+    @Benchmark
+    public double calculateGravitationalForce() {
+        return physics.calculateGravitationalForce(5.97e24, mass, distance);
+    }
+
+    @Benchmark
+    public double calculateEscapeVelocity() {
+        return physics.calculateEscapeVelocity(5.97e24, distance);
+    }
+}
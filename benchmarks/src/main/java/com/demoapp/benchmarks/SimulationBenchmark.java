@@ -0,0 +1,60 @@
+package com.demoapp.benchmarks;
+
+import com.demoapp.services.PhysicsService;
+import com.demoapp.services.Trajectory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SimulationBenchmark {
+
+    @Param({"100", "10000", "1000000"})
+    private int totalSteps;
+
+    private final PhysicsService physics = new PhysicsService();
+
+    @Benchmark
+    public String simulateNuclearDecay() {
+        return physics.simulateNuclearDecay(1000.0, 0.01, 0.1, totalSteps);
+    }
+
+    @Benchmark
+    public Trajectory simulateNuclearDecayTrajectory() {
+        return physics.simulateNuclearDecayTrajectory(1000.0, 0.01, 0.1, totalSteps);
+    }
+
+    @Benchmark
+    public String simulateCosmicExpansion() {
+        return physics.simulateCosmicExpansion(2.2e-18, 1.0e22, 1.0e9, totalSteps);
+    }
+
+    @Benchmark
+    public String simulateNeutronStarMerger() {
+        return physics.simulateNeutronStarMerger(2.8e30, 2.6e30, 6.0e7, totalSteps);
+    }
+
+    @Benchmark
+    public double simulateGammaRayBurst() {
+        return physics.simulateGammaRayBurst(1.0e44, 3.0e24, totalSteps);
+    }
+
+    @Benchmark
+    public double simulateDampedOscillator() {
+        return physics.simulateDampedOscillator(1.0, 10.0, 0.1, 1.0, 0.0, 0.001, totalSteps);
+    }
+}
@@ -0,0 +1,107 @@
+package com.demoapp.controllers;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Request counts and latency histograms per handler and response status, exportable in the Prometheus
+ * text exposition format.
+ * <p>
+ * The histogram for an (endpoint, status) pair is created on its first request; after that recording
+ * is a map lookup plus the lock-free updates in {@link LatencyHistogram}. Throughput is the rate of
+ * the exported {@code _count} series.
+ */
+public class EndpointMetrics {
+
+    private static final String METRIC_PREFIX = "user_controller_";
+
+    private static final String[] BUCKET_BOUNDS_SECONDS = {
+            "0.0005", "0.001", "0.0025", "0.005", "0.01", "0.025", "0.05", "0.1", "0.25", "0.5", "1", "2.5", "5", "10"
+    };
+    private static final long[] BUCKET_BOUNDS_NANOS = new long[BUCKET_BOUNDS_SECONDS.length];
+
+    static {
+        for (int i = 0; i < BUCKET_BOUNDS_SECONDS.length; i++) {
+            BUCKET_BOUNDS_NANOS[i] = new BigDecimal(BUCKET_BOUNDS_SECONDS[i]).movePointRight(9).longValueExact();
+        }
+    }
+
+    private final Map<String, Map<Integer, LatencyHistogram>> histograms = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Marks the start of a request. Every call must be paired with {@link #record(String, int, long)}.
+     *
+     * @return the start time to pass to {@link #record(String, int, long)}
+     */
+    public long start(String endpoint) {
+        inFlight.computeIfAbsent(endpoint, name -> new LongAdder()).increment();
+        return System.nanoTime();
+    }
+
+    public void record(String endpoint, int status, long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        histogram(endpoint, status).recordNanos(elapsed);
+        inFlight.get(endpoint).decrement();
+    }
+
+    public LatencyHistogram.Snapshot snapshot(String endpoint, int status) {
+        Map<Integer, LatencyHistogram> byStatus = histograms.get(endpoint);
+        LatencyHistogram histogram = byStatus == null ? null : byStatus.get(status);
+        return histogram == null ? new LatencyHistogram().snapshot() : histogram.snapshot();
+    }
+
+    public void writePrometheus(Appendable out) throws IOException {
+        out.append("# HELP ").append(METRIC_PREFIX).append("request_duration_seconds Time from handler entry to response written.\n");
+        out.append("# TYPE ").append(METRIC_PREFIX).append("request_duration_seconds histogram\n");
+        for (Map.Entry<String, Map<Integer, LatencyHistogram>> endpoint : new TreeMap<>(histograms).entrySet()) {
+            for (Map.Entry<Integer, LatencyHistogram> status : new TreeMap<>(endpoint.getValue()).entrySet()) {
+                String labels = "endpoint=\"" + endpoint.getKey() + "\",status=\"" + status.getKey() + "\"";
+                LatencyHistogram.Snapshot snapshot = status.getValue().snapshot();
+                for (int i = 0; i < BUCKET_BOUNDS_SECONDS.length; i++) {
+                    long count = snapshot.getCountAtOrBelow(BUCKET_BOUNDS_NANOS[i]);
+                    sample(out, "request_duration_seconds_bucket", labels + ",le=\"" + BUCKET_BOUNDS_SECONDS[i] + "\"", Long.toString(count));
+                }
+                sample(out, "request_duration_seconds_bucket", labels + ",le=\"+Inf\"", Long.toString(snapshot.getCount()));
+                sample(out, "request_duration_seconds_sum", labels, Double.toString(snapshot.getTotalNanos() / 1e9));
+                sample(out, "request_duration_seconds_count", labels, Long.toString(snapshot.getCount()));
+            }
+        }
+
+        out.append("# HELP ").append(METRIC_PREFIX).append("requests_in_flight Requests started but not yet answered.\n");
+        out.append("# TYPE ").append(METRIC_PREFIX).append("requests_in_flight gauge\n");
+        for (Map.Entry<String, LongAdder> endpoint : new TreeMap<>(inFlight).entrySet()) {
+            sample(out, "requests_in_flight", "endpoint=\"" + endpoint.getKey() + "\"", Long.toString(endpoint.getValue().sum()));
+        }
+    }
+
+    public String toPrometheusText() {
+        StringBuilder builder = new StringBuilder(4096);
+        try {
+            writePrometheus(builder);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return builder.toString();
+    }
+
+    private LatencyHistogram histogram(String endpoint, int status) {
+        Map<Integer, LatencyHistogram> byStatus = histograms.get(endpoint);
+        if (byStatus == null) {
+            byStatus = histograms.computeIfAbsent(endpoint, name -> new ConcurrentHashMap<>());
+        }
+        LatencyHistogram histogram = byStatus.get(status);
+        if (histogram == null) {
+            histogram = byStatus.computeIfAbsent(status, code -> new LatencyHistogram());
+        }
+        return histogram;
+    }
+
+    private static void sample(Appendable out, String name, String labels, String value) throws IOException {
+        out.append(METRIC_PREFIX).append(name).append('{').append(labels).append("} ").append(value).append('\n');
+    }
+}
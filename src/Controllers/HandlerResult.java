@@ -0,0 +1,67 @@
+package com.demoapp.controllers;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Status and optional body produced by a {@link UserController} handler, computed before anything is
+ * written so the same logic can answer on the container thread or from an async worker.
+ * <p>
+ * A body is a constant prefix, encoded once by the caller, followed by a payload. Both go straight to
+ * the servlet {@link ServletOutputStream} with the Content-Length set first, so the message is neither
+ * concatenated into a new {@code String} nor chunked by the container.
+ */
+final class HandlerResult {
+
+    private static final byte[] NO_PREFIX = new byte[0];
+    private static final String CONTENT_TYPE = "text/plain; charset=UTF-8";
+
+    private final int status;
+    private final byte[] prefix;
+    private final String payload;
+
+    private HandlerResult(int status, byte[] prefix, String payload) {
+        this.status = status;
+        this.prefix = prefix;
+        this.payload = payload;
+    }
+
+    static HandlerResult ok(String body) {
+        return new HandlerResult(HttpServletResponse.SC_OK, NO_PREFIX, body);
+    }
+
+    /**
+     * @param prefix  UTF-8 bytes written before the payload; shared, so it must never be modified
+     * @param payload written as {@code String.valueOf(payload)}, matching string concatenation
+     */
+    static HandlerResult ok(byte[] prefix, String payload) {
+        return new HandlerResult(HttpServletResponse.SC_OK, prefix, String.valueOf(payload));
+    }
+
+    static HandlerResult status(int status) {
+        return new HandlerResult(status, null, null);
+    }
+
+    static byte[] encode(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    int getStatus() {
+        return status;
+    }
+
+    void writeTo(HttpServletResponse response) throws IOException {
+        if (prefix == null) {
+            response.setStatus(status);
+            return;
+        }
+        byte[] body = payload == null ? NO_PREFIX : payload.getBytes(StandardCharsets.UTF_8);
+        response.setContentType(CONTENT_TYPE);
+        response.setContentLength(prefix.length + body.length);
+        ServletOutputStream out = response.getOutputStream();
+        out.write(prefix);
+        out.write(body);
+    }
+}
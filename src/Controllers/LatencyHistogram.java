@@ -0,0 +1,138 @@
+package com.demoapp.controllers;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with HDR-style log-linear buckets.
+ * <p>
+ * Every power-of-two range of nanoseconds is split into {@value #SUB_BUCKETS} equal buckets, so any
+ * recorded value is known to within about 3% across the whole range from 1 ns to
+ * {@value #MAX_EXPONENT}-bit values (roughly 18 minutes). Larger values land in the last bucket.
+ * Recording is one array increment and one {@link LongAdder} add, with no allocation.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKET_COUNT = SUB_BUCKETS + (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalNanos = new LongAdder();
+
+    public void recordNanos(long nanos) {
+        long value = Math.max(nanos, 0);
+        counts.incrementAndGet(bucketIndex(value));
+        totalNanos.add(value);
+    }
+
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.get(i);
+        }
+        return new Snapshot(copy, totalNanos.sum());
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        int shift = exponent - SUB_BUCKET_BITS;
+        int mantissa = (int) (value >>> shift) - SUB_BUCKETS;
+        return SUB_BUCKETS + shift * SUB_BUCKETS + mantissa;
+    }
+
+    /**
+     * Largest value that maps to {@code index}; used as the reported value of every sample in it.
+     */
+    static long highestValueIn(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        if (index == BUCKET_COUNT - 1) {
+            return Long.MAX_VALUE;
+        }
+        int shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+        int mantissa = (index - SUB_BUCKETS) % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + mantissa + 1) << shift) - 1;
+    }
+
+    /**
+     * Point-in-time copy of the bucket counts. Buckets are read one by one while writers keep
+     * recording, so the copy is not atomic, but its own count and quantiles are consistent with each
+     * other.
+     */
+    public static final class Snapshot {
+
+        private final long[] counts;
+        private final long count;
+        private final long totalNanos;
+
+        private Snapshot(long[] counts, long totalNanos) {
+            long sum = 0;
+            for (long c : counts) {
+                sum += c;
+            }
+            this.counts = counts;
+            this.count = sum;
+            this.totalNanos = totalNanos;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        public double getMeanNanos() {
+            return count == 0 ? 0.0 : (double) totalNanos / count;
+        }
+
+        public long getMaxNanos() {
+            for (int i = counts.length - 1; i >= 0; i--) {
+                if (counts[i] != 0) {
+                    return highestValueIn(i);
+                }
+            }
+            return 0;
+        }
+
+        /**
+         * @param percentile in {@code [0, 100]}
+         */
+        public long getValueAtPercentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(Math.min(Math.max(percentile, 0.0), 100.0) / 100.0 * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return highestValueIn(i);
+                }
+            }
+            return getMaxNanos();
+        }
+
+        /**
+         * Number of samples known to be at most {@code nanos}: a bucket is counted only if every value
+         * it can hold is within the bound.
+         */
+        public long getCountAtOrBelow(long nanos) {
+            long result = 0;
+            for (int i = 0; i < counts.length && highestValueIn(i) <= nanos; i++) {
+                result += counts[i];
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.demoapp.controllers;
+
+import com.demoapp.services.BoundedCache;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory login rate limiter keyed by client IP and by username.
+ * <p>
+ * Every budget is a token bucket kept in its virtual-scheduling form: a single {@code long} holding the
+ * time at which the bucket would be full again, updated with one compare-and-set per attempt. The
+ * client IP is checked before the username, so a flood from one address cannot drain a victim's
+ * username budget.
+ * <p>
+ * Usernames are tracked exactly, so guessing against one account never spends another account's budget.
+ * They live in a {@link BoundedCache} of at most {@code maxTrackedUsernames} entries; when it is full the
+ * least recently attempted username is dropped and starts again from a full bucket. A bucket left idle
+ * for {@code usernameBurst} refill intervals is full anyway, so eviction only loosens the limit for an
+ * account if more than {@code maxTrackedUsernames} other usernames are attempted in that window. With the
+ * defaults a single address needs about nine hours of its IP budget to do that. Client IPs are hashed onto
+ * a fixed number of stripes instead, so memory stays constant however many addresses are seen; addresses
+ * that share a stripe share its budget.
+ */
+public class LoginThrottle {
+
+    private static final int DEFAULT_IP_STRIPES = 4096;
+    private static final int DEFAULT_MAX_TRACKED_USERNAMES = 65_536;
+    private static final int DEFAULT_USERNAME_BURST = 5;
+    private static final long DEFAULT_USERNAME_REFILL_MILLIS = 10_000;
+    private static final int DEFAULT_IP_BURST = 20;
+    private static final long DEFAULT_IP_REFILL_MILLIS = 500;
+
+    private final UsernameBuckets byUsername;
+    private final StripedBuckets byIp;
+    private final long origin = System.nanoTime();
+
+    private final LongAdder permitted = new LongAdder();
+    private final LongAdder throttledByUsername = new LongAdder();
+    private final LongAdder throttledByIp = new LongAdder();
+
+    public LoginThrottle() {
+        this(DEFAULT_IP_STRIPES, DEFAULT_MAX_TRACKED_USERNAMES, DEFAULT_USERNAME_BURST, DEFAULT_USERNAME_REFILL_MILLIS,
+                DEFAULT_IP_BURST, DEFAULT_IP_REFILL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param ipStripes              number of shared buckets client IPs are hashed onto
+     * @param maxTrackedUsernames    usernames remembered before the least recently attempted is dropped
+     * @param usernameBurst          attempts a username may make back to back
+     * @param usernameRefillInterval time for one username attempt to be credited back
+     * @param ipBurst                attempts a client IP may make back to back
+     * @param ipRefillInterval       time for one client IP attempt to be credited back
+     */
+    public LoginThrottle(int ipStripes, int maxTrackedUsernames, int usernameBurst, long usernameRefillInterval,
+                         int ipBurst, long ipRefillInterval, TimeUnit unit) {
+        if (ipStripes <= 0) {
+            throw new IllegalArgumentException("ipStripes must be positive: " + ipStripes);
+        }
+        if (maxTrackedUsernames <= 0) {
+            throw new IllegalArgumentException("maxTrackedUsernames must be positive: " + maxTrackedUsernames);
+        }
+        this.byUsername = new UsernameBuckets(maxTrackedUsernames, new Rate(usernameBurst, unit.toNanos(usernameRefillInterval)));
+        this.byIp = new StripedBuckets(ipStripes, new Rate(ipBurst, unit.toNanos(ipRefillInterval)));
+    }
+
+    /**
+     * Takes one attempt from the client IP's and the username's budgets.
+     *
+     * @return {@code false} if either budget is exhausted and the attempt must be rejected
+     */
+    public boolean tryAcquire(String username, String clientIp) {
+        long now = System.nanoTime() - origin;
+        if (!byIp.tryAcquire(clientIp, now)) {
+            throttledByIp.increment();
+            return false;
+        }
+        if (!byUsername.tryAcquire(username, now)) {
+            throttledByUsername.increment();
+            return false;
+        }
+        permitted.increment();
+        return true;
+    }
+
+    public long getPermittedCount() {
+        return permitted.sum();
+    }
+
+    public long getThrottledByUsernameCount() {
+        return throttledByUsername.sum();
+    }
+
+    public long getThrottledByIpCount() {
+        return throttledByIp.sum();
+    }
+
+    public long getThrottledCount() {
+        return throttledByUsername.sum() + throttledByIp.sum();
+    }
+
+    private static final class Rate {
+
+        static final long REJECTED = Long.MIN_VALUE;
+
+        private final long interval;
+        private final long tolerance;
+
+        Rate(int burst, long interval) {
+            if (burst <= 0) {
+                throw new IllegalArgumentException("burst must be positive: " + burst);
+            }
+            if (interval <= 0) {
+                throw new IllegalArgumentException("refill interval must be positive: " + interval);
+            }
+            this.interval = interval;
+            this.tolerance = Math.multiplyExact(interval, (long) burst);
+        }
+
+        /**
+         * @return the bucket's new full-at time, or {@link #REJECTED} if it has no attempt left
+         */
+        long admit(long fullAt, long now) {
+            long next = Math.max(fullAt, now) + interval;
+            return next - now > tolerance ? REJECTED : next;
+        }
+    }
+
+    private static final class UsernameBuckets {
+
+        private final BoundedCache<String, AtomicLong> fullAt;
+        private final Rate rate;
+
+        UsernameBuckets(int maximumSize, Rate rate) {
+            this.fullAt = new BoundedCache<>(maximumSize);
+            this.rate = rate;
+        }
+
+        boolean tryAcquire(String username, long now) {
+            AtomicLong bucket = bucket(username);
+            while (true) {
+                long current = bucket.get();
+                long next = rate.admit(current, now);
+                if (next == Rate.REJECTED) {
+                    return false;
+                }
+                if (bucket.compareAndSet(current, next)) {
+                    return true;
+                }
+            }
+        }
+
+        private AtomicLong bucket(String username) {
+            AtomicLong bucket = fullAt.get(username);
+            if (bucket != null) {
+                return bucket;
+            }
+            AtomicLong created = new AtomicLong();
+            if (fullAt.putIfAbsent(username, created)) {
+                return created;
+            }
+            AtomicLong winner = fullAt.get(username);
+            return winner != null ? winner : created;
+        }
+    }
+
+    private static final class StripedBuckets {
+
+        private final AtomicLongArray fullAt;
+        private final int stripeMask;
+        private final Rate rate;
+
+        StripedBuckets(int stripes, Rate rate) {
+            int size = Integer.highestOneBit(stripes);
+            this.fullAt = new AtomicLongArray(size);
+            this.stripeMask = size - 1;
+            this.rate = rate;
+        }
+
+        boolean tryAcquire(String key, long now) {
+            int stripe = stripe(key);
+            while (true) {
+                long current = fullAt.get(stripe);
+                long next = rate.admit(current, now);
+                if (next == Rate.REJECTED) {
+                    return false;
+                }
+                if (fullAt.compareAndSet(stripe, current, next)) {
+                    return true;
+                }
+            }
+        }
+
+        private int stripe(String key) {
+            int hash = key == null ? 0 : key.hashCode() * 0x9E3779B9;
+            return (hash ^ (hash >>> 16)) & stripeMask;
+        }
+    }
+}
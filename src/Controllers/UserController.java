@@ -1,61 +1,464 @@
 package com.demoapp.controllers;
 
+import com.demoapp.services.CacheStats;
 import com.demoapp.services.UserService;
-import com.demoapp.utils.SecurityUtils;
+import com.demoapp.utils.TokenSigner;
 
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletOutputStream;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 public class UserController {
 
-    private UserService userService = new UserService();
+    private static final long DEFAULT_ASYNC_TIMEOUT_MILLIS = 5_000;
+    private static final int SC_TOO_MANY_REQUESTS = 429;
+    private static final int MAX_BATCH_SIZE = 100;
+    private static final String NDJSON_CONTENT_TYPE = "application/x-ndjson; charset=UTF-8";
+
+    private static final byte[] USER_UPDATED_PREFIX = HandlerResult.encode("User updated successfully: ");
+    private static final byte[] PASSWORD_RESET_PREFIX = HandlerResult.encode("Password reset to: ");
+    private static final byte[] AUTHENTICATED_PREFIX = HandlerResult.encode("Authenticated, token: ");
+
+    private final UserService userService;
+    private final UserLookupCache userCache;
+    private final Executor asyncExecutor;
+    private final long asyncTimeoutMillis;
+    private final EndpointMetrics metrics = new EndpointMetrics();
+    private final LoginThrottle loginThrottle = new LoginThrottle();
+    private final TokenSigner tokenSigner = new TokenSigner();
+
+    public UserController() {
+        this(new UserService(), Executors.newVirtualThreadPerTaskExecutor(), DEFAULT_ASYNC_TIMEOUT_MILLIS);
+    }
+
+    public UserController(UserService userService, Executor asyncExecutor, long asyncTimeoutMillis) {
+        this(userService, new UserLookupCache(userService), asyncExecutor, asyncTimeoutMillis);
+    }
+
+    public UserController(UserService userService, UserLookupCache userCache, Executor asyncExecutor, long asyncTimeoutMillis) {
+        this.userService = userService;
+        this.userCache = userCache;
+        this.asyncExecutor = asyncExecutor;
+        this.asyncTimeoutMillis = asyncTimeoutMillis;
+    }
+
+    public CacheStats getUserCacheStats() {
+        return userCache.stats();
+    }
+
+    public EndpointMetrics getMetrics() {
+        return metrics;
+    }
+
+    public LoginThrottle getLoginThrottle() {
+        return loginThrottle;
+    }
+
+    public TokenSigner getTokenSigner() {
+        return tokenSigner;
+    }
+
+    public void metrics(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType("text/plain; version=0.0.4; charset=utf-8");
+        metrics.writePrometheus(response.getWriter());
+    }
 
     public void getUser(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        dispatch("getUser", request, response, this::bindGetUser);
+    }
+
+    public void updateUser(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        dispatch("updateUser", request, response, this::bindUpdateUser);
+    }
+
+    public void resetPassword(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        dispatch("resetPassword", request, response, this::bindResetPassword);
+    }
+
+    public void login(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        dispatch("login", request, response, this::bindLogin);
+    }
+
+    /**
+     * Looks up every {@code userId} parameter (repeated, or comma separated in {@code userIds}) and
+     * streams one NDJSON line per distinct id, in request order, as
+     * {@code {"userId":"...","status":200,"user":"..."}}. Items fail individually: unknown ids get 404,
+     * lookups that throw get 500 and lookups still running when the async timeout expires get 504 and
+     * are cancelled, interrupting them so they stop holding async executor threads.
+     * <p>
+     * {@code UserService} has no multi-get, so the ids are resolved through the user cache, and the
+     * misses run concurrently on the async executor instead of one after another.
+     */
+    public void getUsers(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        long start = metrics.start("getUsers");
+        int status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        try {
+            List<String> userIds = batchUserIds(request);
+            if (userIds.isEmpty() || userIds.size() > MAX_BATCH_SIZE) {
+                status = HttpServletResponse.SC_BAD_REQUEST;
+                response.setStatus(status);
+                return;
+            }
+
+            Map<String, Future<String>> lookups = new LinkedHashMap<>();
+            try {
+                for (String userId : userIds) {
+                    lookups.computeIfAbsent(userId, this::lookupAsync);
+                }
+
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(asyncTimeoutMillis);
+                response.setContentType(NDJSON_CONTENT_TYPE);
+                ServletOutputStream out = response.getOutputStream();
+                StringBuilder line = new StringBuilder(256);
+                for (Map.Entry<String, Future<String>> lookup : lookups.entrySet()) {
+                    Future<String> future = lookup.getValue();
+                    if (!future.isDone()) {
+                        out.flush();
+                    }
+                    line.setLength(0);
+                    appendBatchEntry(line, lookup.getKey(), future, deadline);
+                    out.write(line.toString().getBytes(StandardCharsets.UTF_8));
+                }
+            } finally {
+                for (Future<String> future : lookups.values()) {
+                    future.cancel(true);
+                }
+            }
+            status = HttpServletResponse.SC_OK;
+        } finally {
+            metrics.record("getUsers", status, start);
+        }
+    }
+
+    public void getUserAsync(HttpServletRequest request, HttpServletResponse response) {
+        dispatchAsync("getUser", request, response, this::bindGetUser);
+    }
+
+    public void updateUserAsync(HttpServletRequest request, HttpServletResponse response) {
+        dispatchAsync("updateUser", request, response, this::bindUpdateUser);
+    }
+
+    public void resetPasswordAsync(HttpServletRequest request, HttpServletResponse response) {
+        dispatchAsync("resetPassword", request, response, this::bindResetPassword);
+    }
+
+    public void loginAsync(HttpServletRequest request, HttpServletResponse response) {
+        dispatchAsync("login", request, response, this::bindLogin);
+    }
+
+    /**
+     * Starts a lookup on {@link #asyncExecutor} as a {@link FutureTask}, so cancelling it also interrupts
+     * a lookup that is already running and hands its thread back to the async handlers.
+     */
+    private Future<String> lookupAsync(String userId) {
+        FutureTask<String> lookup = new FutureTask<>(() -> userCache.findUserById(userId));
+        try {
+            asyncExecutor.execute(lookup);
+        } catch (RejectedExecutionException e) {
+            FutureTask<String> rejected = new FutureTask<>(() -> {
+                throw e;
+            });
+            rejected.run();
+            return rejected;
+        }
+        return lookup;
+    }
+
+    private static List<String> batchUserIds(HttpServletRequest request) {
+        List<String> userIds = new ArrayList<>();
+        String[] repeated = request.getParameterValues("userId");
+        if (repeated != null) {
+            for (String userId : repeated) {
+                if (!userId.isEmpty()) {
+                    userIds.add(userId);
+                }
+            }
+        }
+        String joined = request.getParameter("userIds");
+        if (joined != null) {
+            for (String userId : joined.split(",")) {
+                if (!userId.isEmpty()) {
+                    userIds.add(userId);
+                }
+            }
+        }
+        return userIds;
+    }
+
+    private static void appendBatchEntry(StringBuilder line, String userId, Future<String> lookup, long deadline) {
+        int status;
+        String user = null;
+        try {
+            user = lookup.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+            status = user != null ? HttpServletResponse.SC_OK : HttpServletResponse.SC_NOT_FOUND;
+        } catch (TimeoutException e) {
+            lookup.cancel(true);
+            status = HttpServletResponse.SC_GATEWAY_TIMEOUT;
+        } catch (ExecutionException e) {
+            status = e.getCause() instanceof RejectedExecutionException
+                    ? HttpServletResponse.SC_SERVICE_UNAVAILABLE
+                    : HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            status = HttpServletResponse.SC_SERVICE_UNAVAILABLE;
+        }
+
+        line.append("{\"userId\":");
+        appendJsonString(line, userId);
+        line.append(",\"status\":").append(status);
+        if (user != null) {
+            line.append(",\"user\":");
+            appendJsonString(line, user);
+        }
+        line.append("}\n");
+    }
+
+    private static void appendJsonString(StringBuilder out, String value) {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    out.append("\\\"");
+                    break;
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                case '\r':
+                    out.append("\\r");
+                    break;
+                case '\t':
+                    out.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+            }
+        }
+        out.append('"');
+    }
+
+    private Supplier<HandlerResult> bindGetUser(HttpServletRequest request) {
         String userId = request.getParameter("userId");
+        return () -> handleGetUser(userId);
+    }
 
-        String user = userService.findUserById(userId);
+    private HandlerResult handleGetUser(String userId) {
+        String user = userCache.findUserById(userId);
 
         if (user != null) {
-            response.getWriter().write(user);
+            return HandlerResult.ok(user);
         } else {
-            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return HandlerResult.status(HttpServletResponse.SC_NOT_FOUND);
         }
     }
 
-    public void updateUser(HttpServletRequest request, HttpServletResponse response) throws IOException {
+    private Supplier<HandlerResult> bindUpdateUser(HttpServletRequest request) {
         String userId = request.getParameter("userId");
         String userData = request.getParameter("userData");
+        return () -> handleUpdateUser(userId, userData);
+    }
 
-        boolean result = userService.updateUser(userId, userData);
+    private HandlerResult handleUpdateUser(String userId, String userData) {
+        boolean result;
+        try {
+            result = userService.updateUser(userId, userData);
+        } finally {
+            userCache.invalidate(userId);
+        }
 
         if (result) {
-            response.getWriter().write("User updated successfully: " + userData);
+            return HandlerResult.ok(USER_UPDATED_PREFIX, userData);
         } else {
-            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            return HandlerResult.status(HttpServletResponse.SC_BAD_REQUEST);
         }
     }
 
-    public void resetPassword(HttpServletRequest request, HttpServletResponse response) throws IOException {
+    private Supplier<HandlerResult> bindResetPassword(HttpServletRequest request) {
         String email = request.getParameter("email");
+        return () -> handleResetPassword(email);
+    }
 
+    private HandlerResult handleResetPassword(String email) {
         String newPassword = userService.resetPassword(email);
 
-        response.getWriter().write("Password reset to: " + newPassword);
+        return HandlerResult.ok(PASSWORD_RESET_PREFIX, newPassword);
     }
 
-    public void login(HttpServletRequest request, HttpServletResponse response) throws IOException {
+    private Supplier<HandlerResult> bindLogin(HttpServletRequest request) {
         String username = request.getParameter("username");
         String password = request.getParameter("password");
+        String clientIp = request.getRemoteAddr();
+        return () -> handleLogin(username, password, clientIp);
+    }
+
+    private HandlerResult handleLogin(String username, String password, String clientIp) {
+        if (!TokenSigner.isIssuable(username)) {
+            return HandlerResult.status(HttpServletResponse.SC_BAD_REQUEST);
+        }
+
+        if (!loginThrottle.tryAcquire(username, clientIp)) {
+            return HandlerResult.status(SC_TOO_MANY_REQUESTS);
+        }
 
         boolean authenticated = userService.authenticate(username, password);
 
         if (authenticated) {
-            String token = SecurityUtils.generateToken(username);
+            String token = tokenSigner.issue(username);
 
-            response.getWriter().write("Authenticated, token: " + token);
+            return HandlerResult.ok(AUTHENTICATED_PREFIX, token);
         } else {
-            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            return HandlerResult.status(HttpServletResponse.SC_UNAUTHORIZED);
+        }
+    }
+
+    private void dispatch(String endpoint, HttpServletRequest request, HttpServletResponse response, Handler handler) throws IOException {
+        long start = metrics.start(endpoint);
+        int status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        try {
+            HandlerResult result = handler.bind(request).get();
+            result.writeTo(response);
+            status = result.getStatus();
+        } finally {
+            metrics.record(endpoint, status, start);
+        }
+    }
+
+    /**
+     * Reads the request on the container thread, then releases it and runs {@code handler} on
+     * {@link #asyncExecutor}. The worker only sees the values bound here, never the request itself,
+     * which the container may recycle as soon as the exchange has been completed. Whichever of the
+     * handler, the timeout or an error gets there first answers the request. A worker that loses is
+     * dropped. A timeout or error that loses blocks its container callback until the winner has
+     * finished writing and completed the context, because returning early would let the container
+     * run its own error handling on a response that is still being written. A timeout answers 504,
+     * like a batch lookup that outlives the same timeout.
+     */
+    private void dispatchAsync(String endpoint, HttpServletRequest request, HttpServletResponse response, Handler handler) {
+        Supplier<HandlerResult> call = handler.bind(request);
+        AsyncContext context = request.startAsync(request, response);
+        context.setTimeout(asyncTimeoutMillis);
+        AsyncExchange exchange = new AsyncExchange(endpoint, context, response, metrics.start(endpoint));
+
+        context.addListener(new AsyncListener() {
+            @Override
+            public void onTimeout(AsyncEvent event) {
+                exchange.completeOrAwait(HandlerResult.status(HttpServletResponse.SC_GATEWAY_TIMEOUT));
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+                exchange.completeOrAwait(HandlerResult.status(HttpServletResponse.SC_INTERNAL_SERVER_ERROR));
+            }
+
+            @Override
+            public void onComplete(AsyncEvent event) {
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+        });
+
+        try {
+            asyncExecutor.execute(() -> {
+                HandlerResult result;
+                try {
+                    result = call.get();
+                } catch (RuntimeException e) {
+                    result = HandlerResult.status(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+                }
+                exchange.complete(result);
+            });
+        } catch (RejectedExecutionException e) {
+            exchange.complete(HandlerResult.status(HttpServletResponse.SC_SERVICE_UNAVAILABLE));
         }
     }
+
+    private final class AsyncExchange {
+
+        private final String endpoint;
+        private final AsyncContext context;
+        private final HttpServletResponse response;
+        private final long start;
+        private final AtomicReference<Thread> writer = new AtomicReference<>();
+        private final CountDownLatch finished = new CountDownLatch(1);
+
+        AsyncExchange(String endpoint, AsyncContext context, HttpServletResponse response, long start) {
+            this.endpoint = endpoint;
+            this.context = context;
+            this.response = response;
+            this.start = start;
+        }
+
+        /**
+         * Answers with {@code result} unless another party already has, in which case this returns at once.
+         */
+        boolean complete(HandlerResult result) {
+            if (!writer.compareAndSet(null, Thread.currentThread())) {
+                return false;
+            }
+            try {
+                result.writeTo(response);
+            } catch (IOException e) {
+                // The client has gone away; there is nobody left to report the failure to.
+            } finally {
+                try {
+                    metrics.record(endpoint, result.getStatus(), start);
+                    context.complete();
+                } finally {
+                    finished.countDown();
+                }
+            }
+            return true;
+        }
+
+        /**
+         * For container callbacks: answers with {@code result}, or waits until whoever won has finished.
+         */
+        void completeOrAwait(HandlerResult result) {
+            if (complete(result) || writer.get() == Thread.currentThread()) {
+                return;
+            }
+            try {
+                finished.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Copies what an endpoint needs out of the request and returns the work to run with those values.
+     */
+    @FunctionalInterface
+    private interface Handler {
+        Supplier<HandlerResult> bind(HttpServletRequest request);
+    }
 }
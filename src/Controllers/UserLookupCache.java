@@ -0,0 +1,174 @@
+package com.demoapp.controllers;
+
+import com.demoapp.services.BoundedCache;
+import com.demoapp.services.CacheStats;
+import com.demoapp.services.UserService;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Read-through cache in front of {@link UserService#findUserById(String)}.
+ * <p>
+ * Found users and unknown ids are kept in separate {@link BoundedCache}s so not-found answers can use a
+ * shorter TTL. Loads that overlap an {@link #invalidate(String)} are not cached, which keeps a lookup
+ * that started before an update from putting the old value back afterwards.
+ * <p>
+ * Concurrent misses for the same id are coalesced: the first caller loads it and the others wait for
+ * that load's result, so a cold hot key costs one {@code UserService} call however many requests
+ * arrive together.
+ */
+public class UserLookupCache {
+
+    private static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+    private static final long DEFAULT_TTL_SECONDS = 60;
+    private static final long DEFAULT_NEGATIVE_TTL_SECONDS = 5;
+
+    private final UserService userService;
+    private final BoundedCache<String, String> users;
+    private final BoundedCache<String, Boolean> missing;
+    private final ConcurrentHashMap<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final LongAdder coalesced = new LongAdder();
+
+    public UserLookupCache(UserService userService) {
+        this(userService, DEFAULT_MAXIMUM_SIZE, DEFAULT_TTL_SECONDS, DEFAULT_NEGATIVE_TTL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    public UserLookupCache(UserService userService, int maximumSize, long ttl, long negativeTtl, TimeUnit unit) {
+        this.userService = userService;
+        this.users = new BoundedCache<>(maximumSize, ttl, unit);
+        this.missing = new BoundedCache<>(maximumSize, negativeTtl, unit);
+    }
+
+    public String findUserById(String userId) {
+        if (userId == null) {
+            return userService.findUserById(null);
+        }
+        String user = users.get(userId);
+        if (user != null) {
+            return user;
+        }
+        if (missing.get(userId) != null) {
+            return null;
+        }
+
+        CompletableFuture<String> load = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(userId, load);
+        if (existing != null) {
+            coalesced.increment();
+            return await(userId, existing);
+        }
+        try {
+            user = load(userId);
+            load.complete(user);
+            return user;
+        } catch (RuntimeException | Error e) {
+            if (Thread.currentThread().isInterrupted()) {
+                load.cancel(false);
+            } else {
+                load.completeExceptionally(e);
+            }
+            throw e;
+        } finally {
+            inFlight.remove(userId, load);
+        }
+    }
+
+    public void invalidate(String userId) {
+        invalidations.incrementAndGet();
+        if (userId != null) {
+            inFlight.remove(userId);
+            users.invalidate(userId);
+            missing.invalidate(userId);
+        }
+    }
+
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        users.invalidateAll();
+        missing.invalidateAll();
+    }
+
+    /**
+     * Number of lookups that waited for another caller's in-flight load instead of calling
+     * {@code UserService} themselves.
+     */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    public CacheStats getPositiveStats() {
+        return users.stats();
+    }
+
+    public CacheStats getNegativeStats() {
+        return missing.stats();
+    }
+
+    /**
+     * Combined view of both caches. Each lookup probes the positive cache first and only consults the
+     * negative cache on a miss, so a lookup counts as a hit if either cache answered it.
+     */
+    public CacheStats stats() {
+        CacheStats positive = users.stats();
+        CacheStats negative = missing.stats();
+        long requests = positive.getRequestCount();
+        long hits = positive.getHitCount() + negative.getHitCount();
+        return new CacheStats(hits, requests - hits,
+                positive.getEvictionCount() + negative.getEvictionCount(),
+                positive.getExpirationCount() + negative.getExpirationCount(),
+                positive.getSize() + negative.getSize());
+    }
+
+    /**
+     * Calls the backend and caches the answer unless an invalidation overlapped the call. The
+     * generation is checked again after the put: an invalidation that bumped it before that second
+     * check is undone here, and one that bumps it later removes the entry itself, so a stale value
+     * can never outlive an invalidation.
+     */
+    private String load(String userId) {
+        long generation = invalidations.get();
+        String user = userService.findUserById(userId);
+        if (invalidations.get() != generation) {
+            return user;
+        }
+        if (user != null) {
+            users.put(userId, user);
+        } else {
+            missing.put(userId, Boolean.TRUE);
+        }
+        if (invalidations.get() != generation) {
+            users.invalidate(userId);
+            missing.invalidate(userId);
+        }
+        return user;
+    }
+
+    /**
+     * Waits for another caller's load. If that caller was interrupted (a batch lookup past its deadline)
+     * its failure says nothing about the id, so the waiter loads it again itself.
+     */
+    private String await(String userId, CompletableFuture<String> load) {
+        try {
+            return load.join();
+        } catch (CancellationException e) {
+            inFlight.remove(userId, load);
+            return findUserById(userId);
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.demoapp.services;
+
+import java.util.Arrays;
+
+/**
+ * Barnes-Hut octree over an {@link NBodySystem}, stored in flat arrays.
+ * <p>
+ * Bodies are sorted along a Morton (Z-order) curve, so every octree node covers a contiguous range of
+ * the sorted order, and building the tree is a recursive split of that range by the next three key
+ * bits. Nodes are laid out depth first, each with a skip index to the node after its subtree, so the
+ * force walk is a loop without a stack. The tree is rebuilt from scratch every step; a build is
+ * O(n log n) and much cheaper than the force evaluation it serves.
+ */
+final class BarnesHutTree {
+
+    private static final int BITS_PER_AXIS = 14;
+    private static final int INDEX_BITS = 21;
+    private static final long INDEX_MASK = (1L << INDEX_BITS) - 1;
+    private static final int LEAF_CAPACITY = 16;
+
+    static final int MAX_BODIES = 1 << INDEX_BITS;
+
+    private int bodyCount;
+    private long[] keys = new long[0];
+    private int[] order = new int[0];
+    private double[] sortedX = new double[0];
+    private double[] sortedY = new double[0];
+    private double[] sortedZ = new double[0];
+    private double[] sortedMass = new double[0];
+
+    private int nodeCount;
+    private double[] nodeMass = new double[0];
+    private double[] nodeX = new double[0];
+    private double[] nodeY = new double[0];
+    private double[] nodeZ = new double[0];
+    private double[] nodeSizeSquared = new double[0];
+    private int[] nodeFrom = new int[0];
+    private int[] nodeTo = new int[0];
+    private int[] nodeSkip = new int[0];
+
+    void build(NBodySystem system) {
+        int n = system.size();
+        if (n > MAX_BODIES) {
+            throw new IllegalArgumentException("At most " + MAX_BODIES + " bodies are supported: " + n);
+        }
+        bodyCount = n;
+        nodeCount = 0;
+        if (n == 0) {
+            return;
+        }
+        if (keys.length < n) {
+            keys = new long[n];
+            order = new int[n];
+            sortedX = new double[n];
+            sortedY = new double[n];
+            sortedZ = new double[n];
+            sortedMass = new double[n];
+        }
+
+        double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY, minZ = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY, maxZ = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < n; i++) {
+            minX = Math.min(minX, system.x[i]);
+            minY = Math.min(minY, system.y[i]);
+            minZ = Math.min(minZ, system.z[i]);
+            maxX = Math.max(maxX, system.x[i]);
+            maxY = Math.max(maxY, system.y[i]);
+            maxZ = Math.max(maxZ, system.z[i]);
+        }
+        double side = Math.max(maxX - minX, Math.max(maxY - minY, maxZ - minZ));
+        if (!(side > 0)) {
+            side = 1;
+        }
+        if (Double.isInfinite(side)) {
+            throw new IllegalStateException("Body positions are not finite");
+        }
+        double scale = ((1 << BITS_PER_AXIS) - 1) / side;
+
+        for (int i = 0; i < n; i++) {
+            long code = interleave((int) ((system.x[i] - minX) * scale))
+                    | interleave((int) ((system.y[i] - minY) * scale)) << 1
+                    | interleave((int) ((system.z[i] - minZ) * scale)) << 2;
+            keys[i] = code << INDEX_BITS | i;
+        }
+        Arrays.parallelSort(keys, 0, n);
+        for (int k = 0; k < n; k++) {
+            int i = (int) (keys[k] & INDEX_MASK);
+            order[k] = i;
+            sortedX[k] = system.x[i];
+            sortedY[k] = system.y[i];
+            sortedZ[k] = system.z[i];
+            sortedMass[k] = system.mass[i];
+        }
+
+        buildNode(0, n, 0, side);
+    }
+
+    int bodyCount() {
+        return bodyCount;
+    }
+
+    int nodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Index of the body at position {@code k} of the Morton order. Walking bodies in this order keeps
+     * consecutive force evaluations on the same branches of the tree.
+     */
+    int bodyAt(int k) {
+        return order[k];
+    }
+
+    /**
+     * Writes the acceleration (without the gravitational constant) of the body at Morton position
+     * {@code k} into {@code out[0..2]}.
+     *
+     * @param thetaSquared     square of the opening angle; a node is approximated by its centre of mass
+     *                         when {@code size^2 < thetaSquared * distance^2}
+     * @param softeningSquared added to every squared distance to bound close-encounter forces
+     */
+    void acceleration(int k, double thetaSquared, double softeningSquared, double[] out) {
+        double x = sortedX[k];
+        double y = sortedY[k];
+        double z = sortedZ[k];
+        double accelerationX = 0;
+        double accelerationY = 0;
+        double accelerationZ = 0;
+
+        int node = 0;
+        while (node < nodeCount) {
+            int from = nodeFrom[node];
+            int to = nodeTo[node];
+            double dx = nodeX[node] - x;
+            double dy = nodeY[node] - y;
+            double dz = nodeZ[node] - z;
+            double distanceSquared = dx * dx + dy * dy + dz * dz;
+
+            if ((k < from || k >= to) && nodeSizeSquared[node] < thetaSquared * distanceSquared) {
+                double r2 = distanceSquared + softeningSquared;
+                double inverse = 1 / Math.sqrt(r2);
+                double factor = nodeMass[node] * inverse * inverse * inverse;
+                accelerationX += dx * factor;
+                accelerationY += dy * factor;
+                accelerationZ += dz * factor;
+                node = nodeSkip[node];
+            } else if (nodeSkip[node] == node + 1) {
+                for (int j = from; j < to; j++) {
+                    double bx = sortedX[j] - x;
+                    double by = sortedY[j] - y;
+                    double bz = sortedZ[j] - z;
+                    double r2 = bx * bx + by * by + bz * bz + softeningSquared;
+                    if (r2 == 0) {
+                        continue;
+                    }
+                    double inverse = 1 / Math.sqrt(r2);
+                    double factor = sortedMass[j] * inverse * inverse * inverse;
+                    accelerationX += bx * factor;
+                    accelerationY += by * factor;
+                    accelerationZ += bz * factor;
+                }
+                node = nodeSkip[node];
+            } else {
+                node++;
+            }
+        }
+
+        out[0] = accelerationX;
+        out[1] = accelerationY;
+        out[2] = accelerationZ;
+    }
+
+    private void buildNode(int from, int to, int level, double size) {
+        int node = allocateNode();
+        nodeFrom[node] = from;
+        nodeTo[node] = to;
+        nodeSizeSquared[node] = size * size;
+
+        double mass = 0;
+        double weightedX = 0;
+        double weightedY = 0;
+        double weightedZ = 0;
+
+        if (to - from <= LEAF_CAPACITY || level == BITS_PER_AXIS) {
+            for (int j = from; j < to; j++) {
+                double m = sortedMass[j];
+                mass += m;
+                weightedX += m * sortedX[j];
+                weightedY += m * sortedY[j];
+                weightedZ += m * sortedZ[j];
+            }
+        } else {
+            int shift = INDEX_BITS + 3 * (BITS_PER_AXIS - 1 - level);
+            int start = from;
+            while (start < to) {
+                long prefix = keys[start] >>> shift;
+                int end = endOfPrefix(start, to, prefix, shift);
+                int child = nodeCount;
+                buildNode(start, end, level + 1, size / 2);
+                double m = nodeMass[child];
+                mass += m;
+                weightedX += m * nodeX[child];
+                weightedY += m * nodeY[child];
+                weightedZ += m * nodeZ[child];
+                start = end;
+            }
+        }
+
+        nodeMass[node] = mass;
+        nodeX[node] = weightedX / mass;
+        nodeY[node] = weightedY / mass;
+        nodeZ[node] = weightedZ / mass;
+        nodeSkip[node] = nodeCount;
+    }
+
+    private int endOfPrefix(int from, int to, long prefix, int shift) {
+        int low = from + 1;
+        int high = to;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys[middle] >>> shift == prefix) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private int allocateNode() {
+        if (nodeCount == nodeMass.length) {
+            int capacity = Math.max(64, nodeCount * 2);
+            nodeMass = Arrays.copyOf(nodeMass, capacity);
+            nodeX = Arrays.copyOf(nodeX, capacity);
+            nodeY = Arrays.copyOf(nodeY, capacity);
+            nodeZ = Arrays.copyOf(nodeZ, capacity);
+            nodeSizeSquared = Arrays.copyOf(nodeSizeSquared, capacity);
+            nodeFrom = Arrays.copyOf(nodeFrom, capacity);
+            nodeTo = Arrays.copyOf(nodeTo, capacity);
+            nodeSkip = Arrays.copyOf(nodeSkip, capacity);
+        }
+        return nodeCount++;
+    }
+
+    // Spreads the bits of v (at most 21 of them) so that two zero bits separate each pair.
+    private static long interleave(int v) {
+        long x = v & 0x1F_FFFFL;
+        x = (x | x << 32) & 0x1F_0000_0000_FFFFL;
+        x = (x | x << 16) & 0x1F_0000_FF00_00FFL;
+        x = (x | x << 8) & 0x100F_00F0_0F00_F00FL;
+        x = (x | x << 4) & 0x10C3_0C30_C30C_30C3L;
+        x = (x | x << 2) & 0x1249_2492_4924_9249L;
+        return x;
+    }
+}
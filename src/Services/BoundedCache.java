@@ -0,0 +1,205 @@
+package com.demoapp.services;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Size-bounded, thread-safe LRU cache with optional expire-after-write.
+ * <p>
+ * Keys are spread over independently locked segments, so threads only contend when they hit the
+ * same segment. Each segment evicts its least recently used entry once it holds its share of
+ * {@code maximumSize}, which keeps the total bounded without a global lock.
+ */
+public class BoundedCache<K, V> {
+
+    private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+    private final Segment<K, V>[] segments;
+    private final int segmentMask;
+    private final long expireAfterWriteNanos;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    public BoundedCache(int maximumSize) {
+        this(maximumSize, 0, TimeUnit.NANOSECONDS);
+    }
+
+    public BoundedCache(int maximumSize, long expireAfterWrite, TimeUnit unit) {
+        this(maximumSize, expireAfterWrite, unit, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public BoundedCache(int maximumSize, long expireAfterWrite, TimeUnit unit, int concurrencyLevel) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+        if (expireAfterWrite < 0) {
+            throw new IllegalArgumentException("expireAfterWrite must not be negative: " + expireAfterWrite);
+        }
+        if (concurrencyLevel <= 0) {
+            throw new IllegalArgumentException("concurrencyLevel must be positive: " + concurrencyLevel);
+        }
+
+        int segmentCount = Integer.highestOneBit(Math.min(concurrencyLevel, maximumSize));
+        int segmentCapacity = maximumSize / segmentCount;
+        int remainder = maximumSize % segmentCount;
+
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(i < remainder ? segmentCapacity + 1 : segmentCapacity, evictions);
+        }
+        this.segmentMask = segmentCount - 1;
+        this.expireAfterWriteNanos = unit.toNanos(expireAfterWrite);
+    }
+
+    public V get(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            Entry<V> entry = segment.entries.get(key);
+            if (entry != null && isExpired(entry, System.nanoTime())) {
+                segment.entries.remove(key);
+                expirations.increment();
+                entry = null;
+            }
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.value;
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    public V getOrDefault(K key, V defaultValue) {
+        V value = get(key);
+        return value != null ? value : defaultValue;
+    }
+
+    public void put(K key, V value) {
+        requireValue(value);
+        Segment<K, V> segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            segment.entries.put(key, new Entry<>(value, System.nanoTime()));
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * Stores {@code value} only if no live entry exists for {@code key}. The check and the write
+     * happen under the same segment lock, so concurrent callers cannot both win.
+     *
+     * @return {@code true} if the value was stored
+     */
+    public boolean putIfAbsent(K key, V value) {
+        requireValue(value);
+        Segment<K, V> segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            long now = System.nanoTime();
+            Entry<V> existing = segment.entries.get(key);
+            if (existing != null && !isExpired(existing, now)) {
+                return false;
+            }
+            if (existing != null) {
+                expirations.increment();
+            }
+            segment.entries.put(key, new Entry<>(value, now));
+            return true;
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    public void invalidate(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            segment.entries.remove(key);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        for (Segment<K, V> segment : segments) {
+            segment.lock.lock();
+            try {
+                segment.entries.clear();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+
+    public long size() {
+        long size = 0;
+        for (Segment<K, V> segment : segments) {
+            segment.lock.lock();
+            try {
+                size += segment.entries.size();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), expirations.sum(), size());
+    }
+
+    private boolean isExpired(Entry<V> entry, long now) {
+        return expireAfterWriteNanos > 0 && now - entry.writtenAt >= expireAfterWriteNanos;
+    }
+
+    private Segment<K, V> segmentFor(Object key) {
+        int hash = key == null ? 0 : key.hashCode();
+        hash ^= hash >>> 16;
+        return segments[hash & segmentMask];
+    }
+
+    private static void requireValue(Object value) {
+        if (value == null) {
+            throw new NullPointerException("Cached values must not be null");
+        }
+    }
+
+    private static final class Entry<V> {
+        final V value;
+        final long writtenAt;
+
+        Entry(V value, long writtenAt) {
+            this.value = value;
+            this.writtenAt = writtenAt;
+        }
+    }
+
+    private static final class Segment<K, V> {
+        final ReentrantLock lock = new ReentrantLock();
+        final LinkedHashMap<K, Entry<V>> entries;
+
+        Segment(int capacity, LongAdder evictions) {
+            this.entries = new LinkedHashMap<K, Entry<V>>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                    if (size() > capacity) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+    }
+}
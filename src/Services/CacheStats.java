@@ -0,0 +1,53 @@
+package com.demoapp.services;
+
+public final class CacheStats {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long expirationCount;
+    private final long size;
+
+    public CacheStats(long hitCount, long missCount, long evictionCount, long expirationCount, long size) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.expirationCount = expirationCount;
+        this.size = size;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public long getExpirationCount() {
+        return expirationCount;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public long getRequestCount() {
+        return hitCount + missCount;
+    }
+
+    public double getHitRate() {
+        long requests = getRequestCount();
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{hits=" + hitCount + ", misses=" + missCount + ", evictions=" + evictionCount
+                + ", expirations=" + expirationCount + ", size=" + size + ", hitRate=" + getHitRate() + "}";
+    }
+}
@@ -0,0 +1,112 @@
+package com.demoapp.services;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Evaluates loops that apply the same loop-invariant step {@code steps} times, either by running the
+ * loop or in O(1) as {@code initial + steps * increment} / {@code initial * factor^steps}.
+ * <p>
+ * {@link Mode#ITERATIVE} is bit-for-bit identical to the original loops. {@link Mode#VERIFIED} runs
+ * both forms, returns the iterative result and counts how often the closed form falls outside the
+ * relative tolerance, so a deployment can be checked before switching to {@link Mode#CLOSED_FORM}.
+ */
+public class ClosedFormEvaluator {
+
+    public enum Mode {
+        ITERATIVE,
+        CLOSED_FORM,
+        VERIFIED
+    }
+
+    private static final double DEFAULT_RELATIVE_TOLERANCE = 1e-9;
+
+    private final double relativeTolerance;
+    private volatile Mode mode;
+
+    private final LongAdder verifications = new LongAdder();
+    private final LongAdder mismatches = new LongAdder();
+
+    public ClosedFormEvaluator() {
+        this(Mode.ITERATIVE, DEFAULT_RELATIVE_TOLERANCE);
+    }
+
+    public ClosedFormEvaluator(Mode mode, double relativeTolerance) {
+        if (relativeTolerance < 0) {
+            throw new IllegalArgumentException("relativeTolerance must not be negative: " + relativeTolerance);
+        }
+        this.mode = mode;
+        this.relativeTolerance = relativeTolerance;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(Mode mode) {
+        this.mode = mode;
+    }
+
+    public double repeatedSum(double initial, double increment, int steps) {
+        Mode current = mode;
+        if (current == Mode.CLOSED_FORM) {
+            return closedFormSum(initial, increment, steps);
+        }
+        double result = initial;
+        for (int i = 0; i < steps; i++) {
+            result += increment;
+        }
+        if (current == Mode.VERIFIED) {
+            verify(result, closedFormSum(initial, increment, steps));
+        }
+        return result;
+    }
+
+    public double repeatedProduct(double initial, double factor, int steps) {
+        Mode current = mode;
+        if (current == Mode.CLOSED_FORM) {
+            return closedFormProduct(initial, factor, steps);
+        }
+        double result = initial;
+        for (int i = 0; i < steps; i++) {
+            result *= factor;
+        }
+        if (current == Mode.VERIFIED) {
+            verify(result, closedFormProduct(initial, factor, steps));
+        }
+        return result;
+    }
+
+    public long getVerificationCount() {
+        return verifications.sum();
+    }
+
+    public long getMismatchCount() {
+        return mismatches.sum();
+    }
+
+    private static double closedFormSum(double initial, double increment, int steps) {
+        return steps <= 0 ? initial : initial + steps * increment;
+    }
+
+    private static double closedFormProduct(double initial, double factor, int steps) {
+        return steps <= 0 ? initial : initial * Math.pow(factor, steps);
+    }
+
+    private void verify(double iterative, double closedForm) {
+        verifications.increment();
+        if (!withinTolerance(iterative, closedForm)) {
+            mismatches.increment();
+        }
+    }
+
+    private boolean withinTolerance(double expected, double actual) {
+        if (Double.compare(expected, actual) == 0) {
+            return true;
+        }
+        if (Double.isNaN(expected) || Double.isNaN(actual) || Double.isInfinite(expected) || Double.isInfinite(actual)) {
+            return false;
+        }
+        double allowed = relativeTolerance * Math.max(Math.abs(expected), Math.abs(actual));
+        return Math.abs(expected - actual) <= Math.max(allowed, Double.MIN_NORMAL);
+    }
+}
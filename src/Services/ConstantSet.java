@@ -0,0 +1,112 @@
+package com.demoapp.services;
+
+import java.util.Locale;
+
+/**
+ * One consistent set of values for the physical constants used by {@link PhysicsService}.
+ * <p>
+ * {@link #LEGACY} reproduces the literals the service has always used (including its {@code 3e8}
+ * speed of light and {@code 1.055e-34} reduced Planck constant), so it is the default.
+ */
+public final class ConstantSet {
+
+    public static final ConstantSet LEGACY = new ConstantSet("legacy",
+            6.67430 * Math.pow(10, -11),
+            3 * Math.pow(10, 8),
+            6.62607015 * Math.pow(10, -34),
+            1.055 * Math.pow(10, -34),
+            8.9875517923 * Math.pow(10, 9),
+            1.380649e-23);
+
+    public static final ConstantSet CODATA_2018 = new ConstantSet("codata-2018",
+            6.67430e-11,
+            299_792_458.0,
+            6.62607015e-34,
+            1.054571817e-34,
+            8.9875517923e9,
+            1.380649e-23);
+
+    public static final ConstantSet CODATA_2014 = new ConstantSet("codata-2014",
+            6.67408e-11,
+            299_792_458.0,
+            6.626070040e-34,
+            1.054571800e-34,
+            8.987551787368176e9,
+            1.38064852e-23);
+
+    // Gaussian Planck units: G = c = hbar = k_B = k_e = 1.
+    public static final ConstantSet PLANCK_UNITS = new ConstantSet("planck",
+            1.0,
+            1.0,
+            2 * Math.PI,
+            1.0,
+            1.0,
+            1.0);
+
+    private final String name;
+    private final double gravitationalConstant;
+    private final double speedOfLight;
+    private final double planckConstant;
+    private final double reducedPlanckConstant;
+    private final double coulombConstant;
+    private final double boltzmannConstant;
+
+    public ConstantSet(String name, double gravitationalConstant, double speedOfLight, double planckConstant,
+                       double reducedPlanckConstant, double coulombConstant, double boltzmannConstant) {
+        this.name = name;
+        this.gravitationalConstant = gravitationalConstant;
+        this.speedOfLight = speedOfLight;
+        this.planckConstant = planckConstant;
+        this.reducedPlanckConstant = reducedPlanckConstant;
+        this.coulombConstant = coulombConstant;
+        this.boltzmannConstant = boltzmannConstant;
+    }
+
+    public static ConstantSet named(String name) {
+        switch (name.toLowerCase(Locale.ROOT)) {
+            case "legacy":
+                return LEGACY;
+            case "codata-2018":
+                return CODATA_2018;
+            case "codata-2014":
+                return CODATA_2014;
+            case "planck":
+                return PLANCK_UNITS;
+            default:
+                throw new IllegalArgumentException("Unknown constant set: " + name);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public double getGravitationalConstant() {
+        return gravitationalConstant;
+    }
+
+    public double getSpeedOfLight() {
+        return speedOfLight;
+    }
+
+    public double getPlanckConstant() {
+        return planckConstant;
+    }
+
+    public double getReducedPlanckConstant() {
+        return reducedPlanckConstant;
+    }
+
+    public double getCoulombConstant() {
+        return coulombConstant;
+    }
+
+    public double getBoltzmannConstant() {
+        return boltzmannConstant;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
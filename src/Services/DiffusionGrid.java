@@ -0,0 +1,138 @@
+package com.demoapp.services;
+
+import java.util.Arrays;
+
+/**
+ * Uniform 1D, 2D or 3D grid of cell values for {@link DiffusionSolver}, stored as one flat
+ * {@code double[]} with x varying fastest ({@code index = (z * ny + y) * nx + x}). Unused dimensions
+ * have size 1.
+ * <p>
+ * The solver double-buffers into a second array of the same size that it swaps in after every step,
+ * so reading the grid between runs always sees the latest state.
+ */
+public final class DiffusionGrid {
+
+    private final int nx;
+    private final int ny;
+    private final int nz;
+    private final double spacing;
+
+    double[] values;
+    double[] scratch;
+
+    public DiffusionGrid(int nx, double spacing) {
+        this(nx, 1, 1, spacing);
+    }
+
+    public DiffusionGrid(int nx, int ny, double spacing) {
+        this(nx, ny, 1, spacing);
+    }
+
+    public DiffusionGrid(int nx, int ny, int nz, double spacing) {
+        if (nx <= 0 || ny <= 0 || nz <= 0) {
+            throw new IllegalArgumentException("Grid dimensions must be positive: " + nx + "x" + ny + "x" + nz);
+        }
+        if ((long) nx * ny * nz > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Grid is too large for a single array: " + nx + "x" + ny + "x" + nz);
+        }
+        if (!(spacing > 0)) {
+            throw new IllegalArgumentException("spacing must be positive: " + spacing);
+        }
+        this.nx = nx;
+        this.ny = ny;
+        this.nz = nz;
+        this.spacing = spacing;
+        this.values = new double[nx * ny * nz];
+    }
+
+    public int getNx() {
+        return nx;
+    }
+
+    public int getNy() {
+        return ny;
+    }
+
+    public int getNz() {
+        return nz;
+    }
+
+    public double getSpacing() {
+        return spacing;
+    }
+
+    /**
+     * Number of dimensions with more than one cell, counted from x; a 1 x 1 x 1 grid reports 1.
+     */
+    public int getDimensions() {
+        return nz > 1 ? 3 : ny > 1 ? 2 : 1;
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public double get(int x) {
+        return values[index(x, 0, 0)];
+    }
+
+    public double get(int x, int y) {
+        return values[index(x, y, 0)];
+    }
+
+    public double get(int x, int y, int z) {
+        return values[index(x, y, z)];
+    }
+
+    public void set(int x, double value) {
+        values[index(x, 0, 0)] = value;
+    }
+
+    public void set(int x, int y, double value) {
+        values[index(x, y, 0)] = value;
+    }
+
+    public void set(int x, int y, int z, double value) {
+        values[index(x, y, z)] = value;
+    }
+
+    public void fill(double value) {
+        Arrays.fill(values, value);
+    }
+
+    public double sum() {
+        double sum = 0;
+        for (double value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    public double mean() {
+        return sum() / values.length;
+    }
+
+    public double[] toArray() {
+        return Arrays.copyOf(values, values.length);
+    }
+
+    double[] scratch() {
+        if (scratch == null) {
+            scratch = new double[values.length];
+        }
+        return scratch;
+    }
+
+    void swap() {
+        double[] previous = values;
+        values = scratch;
+        scratch = previous;
+    }
+
+    private int index(int x, int y, int z) {
+        if (x < 0 || x >= nx || y < 0 || y >= ny || z < 0 || z >= nz) {
+            throw new IndexOutOfBoundsException("Cell (" + x + ", " + y + ", " + z + ") outside " + nx + "x" + ny + "x" + nz);
+        }
+        return (z * ny + y) * nx + x;
+    }
+}
@@ -0,0 +1,253 @@
+package com.demoapp.services;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Explicit finite-difference solver for {@code du/dt = D * laplacian(u) - rate * (u - reference)} on a
+ * {@link DiffusionGrid}: heat conduction with losses to an ambient temperature, or neutron diffusion
+ * with absorption.
+ * <p>
+ * Each step is one 3/5/7-point stencil sweep from the grid's current array into its scratch array. The
+ * sweep is cache blocked: the xy plane is cut into tiles and each tile is streamed through all z
+ * planes, so the neighbouring rows and planes a cell needs are still in cache when it is updated.
+ * Tiles are independent within a step and are split across a {@link ForkJoinPool}. Axes of size 1
+ * are treated as absent, so the same code handles 1D, 2D and 3D grids.
+ */
+public class DiffusionSolver {
+
+    public enum Boundary {
+        /**
+         * Zero flux: cells outside the grid mirror their neighbour inside it.
+         */
+        INSULATED,
+        /**
+         * Cells outside the grid hold {@code boundaryValue}.
+         */
+        FIXED
+    }
+
+    private static final int TILE_X = 256;
+    private static final int TILE_Y = 16;
+    private static final int MIN_CELLS_PER_TASK = 1 << 15;
+
+    private final ForkJoinPool pool;
+    private final double diffusivity;
+    private final double rate;
+    private final double reference;
+    private final Boundary boundary;
+    private final double boundaryValue;
+
+    public DiffusionSolver(double diffusivity, double rate, double reference, Boundary boundary, double boundaryValue) {
+        this(ForkJoinPool.commonPool(), diffusivity, rate, reference, boundary, boundaryValue);
+    }
+
+    public DiffusionSolver(ForkJoinPool pool, double diffusivity, double rate, double reference, Boundary boundary, double boundaryValue) {
+        if (!(diffusivity >= 0)) {
+            throw new IllegalArgumentException("diffusivity must not be negative: " + diffusivity);
+        }
+        if (!(rate >= 0)) {
+            throw new IllegalArgumentException("rate must not be negative: " + rate);
+        }
+        this.pool = pool;
+        this.diffusivity = diffusivity;
+        this.rate = rate;
+        this.reference = reference;
+        this.boundary = boundary;
+        this.boundaryValue = boundaryValue;
+    }
+
+    /**
+     * Largest time step for which the explicit scheme stays stable and free of oscillations on
+     * {@code grid}.
+     */
+    public double maxStableTimeStep(DiffusionGrid grid) {
+        int axes = (grid.getNx() > 1 ? 1 : 0) + (grid.getNy() > 1 ? 1 : 0) + (grid.getNz() > 1 ? 1 : 0);
+        double spacing = grid.getSpacing();
+        return 1 / (2 * axes * diffusivity / (spacing * spacing) + rate);
+    }
+
+    /**
+     * Advances {@code grid} by {@code steps} steps of {@code timeStep}.
+     *
+     * @throws IllegalArgumentException if {@code timeStep} exceeds {@link #maxStableTimeStep}
+     */
+    public void run(DiffusionGrid grid, double timeStep, int steps) {
+        double limit = maxStableTimeStep(grid);
+        if (!(timeStep > 0) || timeStep > limit * (1 + 1e-12)) {
+            throw new IllegalArgumentException("timeStep must be in (0, " + limit + "] for this grid: " + timeStep);
+        }
+        Sweep sweep = new Sweep(grid, timeStep);
+        int tiles = sweep.tilesX * sweep.tilesY;
+        int tilesPerTask = Math.max(1, MIN_CELLS_PER_TASK / (TILE_X * TILE_Y * grid.getNz()));
+        for (int step = 0; step < steps; step++) {
+            sweep.in = grid.values;
+            sweep.out = grid.scratch();
+            if (tiles <= tilesPerTask) {
+                sweep.tiles(0, tiles);
+            } else {
+                pool.invoke(new TileTask(sweep, 0, tiles, tilesPerTask));
+            }
+            grid.swap();
+        }
+    }
+
+    private final class Sweep {
+
+        final int nx;
+        final int ny;
+        final int nz;
+        final int tilesX;
+        final int tilesY;
+        final int[] offsets;
+        final double alpha;
+        final double timeStep;
+        double[] in;
+        double[] out;
+
+        Sweep(DiffusionGrid grid, double timeStep) {
+            this.nx = grid.getNx();
+            this.ny = grid.getNy();
+            this.nz = grid.getNz();
+            this.tilesX = (nx + TILE_X - 1) / TILE_X;
+            this.tilesY = (ny + TILE_Y - 1) / TILE_Y;
+            int axes = (nx > 1 ? 1 : 0) + (ny > 1 ? 1 : 0) + (nz > 1 ? 1 : 0);
+            this.offsets = new int[axes];
+            int axis = 0;
+            if (nx > 1) {
+                offsets[axis++] = 1;
+            }
+            if (ny > 1) {
+                offsets[axis++] = nx;
+            }
+            if (nz > 1) {
+                offsets[axis] = nx * ny;
+            }
+            double spacing = grid.getSpacing();
+            this.alpha = timeStep * diffusivity / (spacing * spacing);
+            this.timeStep = timeStep;
+        }
+
+        void tiles(int from, int to) {
+            for (int tile = from; tile < to; tile++) {
+                int x0 = (tile % tilesX) * TILE_X;
+                int y0 = (tile / tilesX) * TILE_Y;
+                tile(x0, Math.min(x0 + TILE_X, nx), y0, Math.min(y0 + TILE_Y, ny));
+            }
+        }
+
+        private void tile(int x0, int x1, int y0, int y1) {
+            int interiorStart = nx > 1 ? Math.max(x0, 1) : x0;
+            int interiorEnd = nx > 1 ? Math.min(x1, nx - 1) : x1;
+            for (int z = 0; z < nz; z++) {
+                boolean zInterior = nz == 1 || (z > 0 && z < nz - 1);
+                for (int y = y0; y < y1; y++) {
+                    int row = (z * ny + y) * nx;
+                    if (!zInterior || (ny > 1 && (y == 0 || y == ny - 1))) {
+                        for (int x = x0; x < x1; x++) {
+                            edgeCell(x, y, z, row + x);
+                        }
+                        continue;
+                    }
+                    for (int x = x0; x < interiorStart; x++) {
+                        edgeCell(x, y, z, row + x);
+                    }
+                    interiorRow(row + interiorStart, row + Math.max(interiorStart, interiorEnd));
+                    for (int x = Math.max(interiorStart, interiorEnd); x < x1; x++) {
+                        edgeCell(x, y, z, row + x);
+                    }
+                }
+            }
+        }
+
+        private void interiorRow(int from, int to) {
+            double[] in = this.in;
+            double[] out = this.out;
+            switch (offsets.length) {
+                case 0:
+                    for (int c = from; c < to; c++) {
+                        out[c] = in[c] - rate * (in[c] - reference) * timeStep;
+                    }
+                    break;
+                case 1: {
+                    int a = offsets[0];
+                    for (int c = from; c < to; c++) {
+                        double u = in[c];
+                        double laplacian = in[c - a] + in[c + a] - 2 * u;
+                        out[c] = u + alpha * laplacian - rate * (u - reference) * timeStep;
+                    }
+                    break;
+                }
+                case 2: {
+                    int a = offsets[0];
+                    int b = offsets[1];
+                    for (int c = from; c < to; c++) {
+                        double u = in[c];
+                        double laplacian = (in[c - a] + in[c + a] - 2 * u) + (in[c - b] + in[c + b] - 2 * u);
+                        out[c] = u + alpha * laplacian - rate * (u - reference) * timeStep;
+                    }
+                    break;
+                }
+                default: {
+                    int a = offsets[0];
+                    int b = offsets[1];
+                    int d = offsets[2];
+                    for (int c = from; c < to; c++) {
+                        double u = in[c];
+                        double laplacian = (in[c - a] + in[c + a] - 2 * u) + (in[c - b] + in[c + b] - 2 * u)
+                                + (in[c - d] + in[c + d] - 2 * u);
+                        out[c] = u + alpha * laplacian - rate * (u - reference) * timeStep;
+                    }
+                }
+            }
+        }
+
+        private void edgeCell(int x, int y, int z, int c) {
+            double u = in[c];
+            double laplacian = 0;
+            if (nx > 1) {
+                laplacian += neighbour(x > 0, c - 1, u) + neighbour(x < nx - 1, c + 1, u) - 2 * u;
+            }
+            if (ny > 1) {
+                laplacian += neighbour(y > 0, c - nx, u) + neighbour(y < ny - 1, c + nx, u) - 2 * u;
+            }
+            if (nz > 1) {
+                laplacian += neighbour(z > 0, c - nx * ny, u) + neighbour(z < nz - 1, c + nx * ny, u) - 2 * u;
+            }
+            out[c] = u + alpha * laplacian - rate * (u - reference) * timeStep;
+        }
+
+        private double neighbour(boolean inside, int index, double self) {
+            if (inside) {
+                return in[index];
+            }
+            return boundary == Boundary.INSULATED ? self : boundaryValue;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class TileTask extends RecursiveAction {
+
+        private final Sweep sweep;
+        private final int from;
+        private final int to;
+        private final int tilesPerTask;
+
+        TileTask(Sweep sweep, int from, int to, int tilesPerTask) {
+            this.sweep = sweep;
+            this.from = from;
+            this.to = to;
+            this.tilesPerTask = tilesPerTask;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= tilesPerTask) {
+                sweep.tiles(from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new TileTask(sweep, from, middle, tilesPerTask), new TileTask(sweep, middle, to, tilesPerTask));
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.demoapp.services;
+
+/**
+ * Adaptive Runge-Kutta 5(4) integrator (Dormand-Prince) with per-step error control.
+ * <p>
+ * Each step computes fifth- and fourth-order solutions from the same six new evaluations (the last
+ * stage is reused as the first of the next step) and uses their difference as the error estimate. A
+ * step is accepted when the scaled RMS error is at most 1, where each component is scaled by
+ * {@code absoluteTolerance + relativeTolerance * |y|}; the next step size is then chosen from the
+ * error. Smooth stretches are crossed with a few large steps and only stiff or fast-changing
+ * regions pay for small ones.
+ */
+public class DormandPrinceIntegrator {
+
+    private static final double DEFAULT_RELATIVE_TOLERANCE = 1e-9;
+    private static final double DEFAULT_ABSOLUTE_TOLERANCE = 1e-12;
+    private static final int DEFAULT_MAX_STEPS = 1_000_000;
+
+    private static final double SAFETY = 0.9;
+    private static final double MIN_FACTOR = 0.2;
+    private static final double MAX_FACTOR = 5.0;
+
+    private static final double C2 = 1.0 / 5, C3 = 3.0 / 10, C4 = 4.0 / 5, C5 = 8.0 / 9;
+    private static final double A21 = 1.0 / 5;
+    private static final double A31 = 3.0 / 40, A32 = 9.0 / 40;
+    private static final double A41 = 44.0 / 45, A42 = -56.0 / 15, A43 = 32.0 / 9;
+    private static final double A51 = 19372.0 / 6561, A52 = -25360.0 / 2187, A53 = 64448.0 / 6561, A54 = -212.0 / 729;
+    private static final double A61 = 9017.0 / 3168, A62 = -355.0 / 33, A63 = 46732.0 / 5247, A64 = 49.0 / 176, A65 = -5103.0 / 18656;
+    private static final double B1 = 35.0 / 384, B3 = 500.0 / 1113, B4 = 125.0 / 192, B5 = -2187.0 / 6784, B6 = 11.0 / 84;
+    private static final double E1 = 71.0 / 57600, E3 = -71.0 / 16695, E4 = 71.0 / 1920, E5 = -17253.0 / 339200, E6 = 22.0 / 525, E7 = -1.0 / 40;
+
+    private final double relativeTolerance;
+    private final double absoluteTolerance;
+    private final int maxSteps;
+
+    public DormandPrinceIntegrator() {
+        this(DEFAULT_RELATIVE_TOLERANCE, DEFAULT_ABSOLUTE_TOLERANCE, DEFAULT_MAX_STEPS);
+    }
+
+    public DormandPrinceIntegrator(double relativeTolerance, double absoluteTolerance, int maxSteps) {
+        if (!(relativeTolerance >= 0) || !(absoluteTolerance >= 0) || relativeTolerance + absoluteTolerance == 0) {
+            throw new IllegalArgumentException("Tolerances must be non-negative and not both zero");
+        }
+        if (maxSteps <= 0) {
+            throw new IllegalArgumentException("maxSteps must be positive: " + maxSteps);
+        }
+        this.relativeTolerance = relativeTolerance;
+        this.absoluteTolerance = absoluteTolerance;
+        this.maxSteps = maxSteps;
+    }
+
+    public double getRelativeTolerance() {
+        return relativeTolerance;
+    }
+
+    public double getAbsoluteTolerance() {
+        return absoluteTolerance;
+    }
+
+    /**
+     * Advances {@code state} in place from {@code startTime} to {@code endTime}. A remainder of at most 16
+     * ulps of {@code endTime} left by the last accepted step is treated as having arrived rather than
+     * attempted as a step of its own.
+     *
+     * @param initialStep first step size to try; non-positive picks one from the interval length
+     * @throws IllegalStateException if the tolerances cannot be met within {@code maxSteps} accepted
+     *                               steps or the step size underflows
+     */
+    public IntegrationReport integrate(OdeSystem system, double startTime, double[] state, double endTime, double initialStep, StepObserver observer) {
+        if (!(endTime >= startTime)) {
+            throw new IllegalArgumentException("endTime must not be before startTime: " + startTime + " > " + endTime);
+        }
+        int dimension = state.length;
+        double[] k1 = new double[dimension];
+        double[] k2 = new double[dimension];
+        double[] k3 = new double[dimension];
+        double[] k4 = new double[dimension];
+        double[] k5 = new double[dimension];
+        double[] k6 = new double[dimension];
+        double[] k7 = new double[dimension];
+        double[] stage = new double[dimension];
+        double[] next = new double[dimension];
+
+        double t = startTime;
+        double h = initialStep > 0 ? initialStep : (endTime - startTime) / 100;
+        int accepted = 0;
+        int rejected = 0;
+        long evaluations = 1;
+        system.derivatives(t, state, k1);
+
+        while (t < endTime) {
+            if (accepted >= maxSteps) {
+                throw new IllegalStateException("Exceeded " + maxSteps + " steps before reaching t=" + endTime + " (stopped at t=" + t + ")");
+            }
+            double remaining = endTime - t;
+            if (remaining <= Math.ulp(endTime) * 16) {
+                t = endTime;
+                break;
+            }
+            if (h <= Math.ulp(t) * 16) {
+                throw new IllegalStateException("Step size underflow at t=" + t);
+            }
+            boolean last = h >= remaining;
+            if (last) {
+                h = remaining;
+            }
+
+            for (int i = 0; i < dimension; i++) {
+                stage[i] = state[i] + h * A21 * k1[i];
+            }
+            system.derivatives(t + C2 * h, stage, k2);
+            for (int i = 0; i < dimension; i++) {
+                stage[i] = state[i] + h * (A31 * k1[i] + A32 * k2[i]);
+            }
+            system.derivatives(t + C3 * h, stage, k3);
+            for (int i = 0; i < dimension; i++) {
+                stage[i] = state[i] + h * (A41 * k1[i] + A42 * k2[i] + A43 * k3[i]);
+            }
+            system.derivatives(t + C4 * h, stage, k4);
+            for (int i = 0; i < dimension; i++) {
+                stage[i] = state[i] + h * (A51 * k1[i] + A52 * k2[i] + A53 * k3[i] + A54 * k4[i]);
+            }
+            system.derivatives(t + C5 * h, stage, k5);
+            for (int i = 0; i < dimension; i++) {
+                stage[i] = state[i] + h * (A61 * k1[i] + A62 * k2[i] + A63 * k3[i] + A64 * k4[i] + A65 * k5[i]);
+            }
+            system.derivatives(t + h, stage, k6);
+            for (int i = 0; i < dimension; i++) {
+                next[i] = state[i] + h * (B1 * k1[i] + B3 * k3[i] + B4 * k4[i] + B5 * k5[i] + B6 * k6[i]);
+            }
+            system.derivatives(t + h, next, k7);
+            evaluations += 6;
+
+            double error = 0;
+            for (int i = 0; i < dimension; i++) {
+                double estimate = h * (E1 * k1[i] + E3 * k3[i] + E4 * k4[i] + E5 * k5[i] + E6 * k6[i] + E7 * k7[i]);
+                double scale = absoluteTolerance + relativeTolerance * Math.max(Math.abs(state[i]), Math.abs(next[i]));
+                double ratio = estimate / scale;
+                error += ratio * ratio;
+            }
+            error = Math.sqrt(error / dimension);
+
+            if (error <= 1.0) {
+                t = last ? endTime : t + h;
+                System.arraycopy(next, 0, state, 0, dimension);
+                double[] swap = k1;
+                k1 = k7;
+                k7 = swap;
+                observer.onStep(accepted, t, state);
+                accepted++;
+                h *= error == 0 ? MAX_FACTOR : Math.min(MAX_FACTOR, Math.max(MIN_FACTOR, SAFETY * Math.pow(error, -0.2)));
+            } else if (Double.isNaN(error)) {
+                throw new IllegalStateException("Integration produced NaN at t=" + t);
+            } else {
+                rejected++;
+                h *= Math.max(MIN_FACTOR, SAFETY * Math.pow(error, -0.2));
+            }
+        }
+
+        return new IntegrationReport(state, t, accepted, rejected, evaluations);
+    }
+}
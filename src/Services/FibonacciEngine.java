@@ -0,0 +1,78 @@
+package com.demoapp.services;
+
+import java.math.BigInteger;
+
+/**
+ * Fibonacci numbers without the exponential recursion.
+ * <p>
+ * Every {@code double} value the recurrence can produce before overflowing ({@code F(0)..F(1476)}) is
+ * precomputed with the same additions the recursive definition performs, so {@link #fibonacci(int)}
+ * is an O(1) lookup that returns exactly what the recursion would. {@link #exactFibonacci(int)} uses
+ * fast doubling on {@link BigInteger} and needs O(log n) multiplications.
+ * <p>
+ * Like the recursion, both methods return {@code n} itself for {@code n <= 1}, including negative
+ * {@code n}.
+ */
+public final class FibonacciEngine {
+
+    public static final int MAX_FINITE_DOUBLE_INDEX = 1476;
+
+    /**
+     * Largest index {@link #exactFibonacci(int)} accepts. F(1,000,000) has about 694,000 bits (85 KB)
+     * and takes well under a second; the cost grows faster than linearly beyond that.
+     */
+    public static final int MAX_EXACT_N = 1_000_000;
+
+    private static final double[] TABLE = new double[MAX_FINITE_DOUBLE_INDEX + 1];
+
+    static {
+        TABLE[1] = 1;
+        for (int i = 2; i < TABLE.length; i++) {
+            TABLE[i] = TABLE[i - 1] + TABLE[i - 2];
+        }
+    }
+
+    private FibonacciEngine() {
+    }
+
+    public static double fibonacci(int n) {
+        if (n <= 1) {
+            return n;
+        }
+        if (n > MAX_FINITE_DOUBLE_INDEX) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return TABLE[n];
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code n} is greater than {@link #MAX_EXACT_N}
+     */
+    public static BigInteger exactFibonacci(int n) {
+        if (n > MAX_EXACT_N) {
+            throw new IllegalArgumentException("n must not exceed " + MAX_EXACT_N + ": " + n);
+        }
+        if (n <= 1) {
+            return BigInteger.valueOf(n);
+        }
+        return fastDoubling(n)[0];
+    }
+
+    // Returns {F(n), F(n + 1)} using F(2k) = F(k) * (2F(k + 1) - F(k)) and F(2k + 1) = F(k)^2 + F(k + 1)^2.
+    private static BigInteger[] fastDoubling(int n) {
+        BigInteger a = BigInteger.ZERO;
+        BigInteger b = BigInteger.ONE;
+        for (int bit = Integer.highestOneBit(n); bit != 0; bit >>>= 1) {
+            BigInteger c = a.multiply(b.shiftLeft(1).subtract(a));
+            BigInteger d = a.multiply(a).add(b.multiply(b));
+            if ((n & bit) != 0) {
+                a = d;
+                b = c.add(d);
+            } else {
+                a = c;
+                b = d;
+            }
+        }
+        return new BigInteger[]{a, b};
+    }
+}
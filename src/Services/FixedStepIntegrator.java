@@ -0,0 +1,144 @@
+package com.demoapp.services;
+
+/**
+ * Built-in fixed-step integrators. Scratch arrays are allocated once per
+ * {@link #integrate(OdeSystem, double, double[], double, int, StepObserver) integrate} call, so the
+ * constants are stateless and safe to share between threads.
+ * <p>
+ * {@link #EULER} reproduces the stepping the simulations have always used. The symplectic schemes
+ * keep the energy error of conservative oscillators bounded instead of letting it drift, and
+ * {@link #RK4} is fourth-order accurate, so both stay accurate at much larger steps.
+ */
+public enum FixedStepIntegrator implements Integrator {
+
+    /**
+     * Semi-implicit (symplectic) Euler for a {@link SecondOrderSystem}: {@code v += a h} then
+     * {@code x += v h}. Explicit Euler {@code y += f h} for any other system. First order.
+     */
+    EULER {
+        @Override
+        public void integrate(OdeSystem system, double startTime, double[] state, double timeStep, int steps, StepObserver observer) {
+            if (system instanceof SecondOrderSystem) {
+                SecondOrderSystem secondOrder = (SecondOrderSystem) system;
+                int n = state.length / 2;
+                double[] acceleration = new double[n];
+                for (int step = 0; step < steps; step++) {
+                    double t = startTime + step * timeStep;
+                    secondOrder.acceleration(t, state, acceleration, 0);
+                    for (int i = 0; i < n; i++) {
+                        state[n + i] += acceleration[i] * timeStep;
+                        state[i] += state[n + i] * timeStep;
+                    }
+                    observer.onStep(step, t + timeStep, state);
+                }
+                return;
+            }
+            double[] derivative = new double[state.length];
+            for (int step = 0; step < steps; step++) {
+                double t = startTime + step * timeStep;
+                system.derivatives(t, state, derivative);
+                for (int i = 0; i < state.length; i++) {
+                    state[i] += derivative[i] * timeStep;
+                }
+                observer.onStep(step, t + timeStep, state);
+            }
+        }
+    },
+
+    /**
+     * Velocity Verlet (kick-drift-kick). Second order and symplectic for velocity-independent forces;
+     * velocity-dependent terms such as damping are evaluated at the half-step velocity.
+     */
+    VELOCITY_VERLET {
+        @Override
+        public void integrate(OdeSystem system, double startTime, double[] state, double timeStep, int steps, StepObserver observer) {
+            SecondOrderSystem secondOrder = requireSecondOrder(system, this);
+            int n = state.length / 2;
+            double[] acceleration = new double[n];
+            double halfStep = 0.5 * timeStep;
+            for (int step = 0; step < steps; step++) {
+                double t = startTime + step * timeStep;
+                secondOrder.acceleration(t, state, acceleration, 0);
+                for (int i = 0; i < n; i++) {
+                    state[n + i] += acceleration[i] * halfStep;
+                    state[i] += state[n + i] * timeStep;
+                }
+                secondOrder.acceleration(t + timeStep, state, acceleration, 0);
+                for (int i = 0; i < n; i++) {
+                    state[n + i] += acceleration[i] * halfStep;
+                }
+                observer.onStep(step, t + timeStep, state);
+            }
+        }
+    },
+
+    /**
+     * Leapfrog in drift-kick-drift form: one acceleration evaluation per step, second order and
+     * symplectic for velocity-independent forces.
+     */
+    LEAPFROG {
+        @Override
+        public void integrate(OdeSystem system, double startTime, double[] state, double timeStep, int steps, StepObserver observer) {
+            SecondOrderSystem secondOrder = requireSecondOrder(system, this);
+            int n = state.length / 2;
+            double[] acceleration = new double[n];
+            double halfStep = 0.5 * timeStep;
+            for (int step = 0; step < steps; step++) {
+                double t = startTime + step * timeStep;
+                for (int i = 0; i < n; i++) {
+                    state[i] += state[n + i] * halfStep;
+                }
+                secondOrder.acceleration(t + halfStep, state, acceleration, 0);
+                for (int i = 0; i < n; i++) {
+                    state[n + i] += acceleration[i] * timeStep;
+                    state[i] += state[n + i] * halfStep;
+                }
+                observer.onStep(step, t + timeStep, state);
+            }
+        }
+    },
+
+    /**
+     * Classic fourth-order Runge-Kutta for any {@link OdeSystem}; four evaluations per step.
+     */
+    RK4 {
+        @Override
+        public void integrate(OdeSystem system, double startTime, double[] state, double timeStep, int steps, StepObserver observer) {
+            int dimension = state.length;
+            double[] k1 = new double[dimension];
+            double[] k2 = new double[dimension];
+            double[] k3 = new double[dimension];
+            double[] k4 = new double[dimension];
+            double[] stage = new double[dimension];
+            double halfStep = 0.5 * timeStep;
+            double sixthStep = timeStep / 6.0;
+            for (int step = 0; step < steps; step++) {
+                double t = startTime + step * timeStep;
+                system.derivatives(t, state, k1);
+                for (int i = 0; i < dimension; i++) {
+                    stage[i] = state[i] + halfStep * k1[i];
+                }
+                system.derivatives(t + halfStep, stage, k2);
+                for (int i = 0; i < dimension; i++) {
+                    stage[i] = state[i] + halfStep * k2[i];
+                }
+                system.derivatives(t + halfStep, stage, k3);
+                for (int i = 0; i < dimension; i++) {
+                    stage[i] = state[i] + timeStep * k3[i];
+                }
+                system.derivatives(t + timeStep, stage, k4);
+                for (int i = 0; i < dimension; i++) {
+                    state[i] += sixthStep * (k1[i] + 2 * k2[i] + 2 * k3[i] + k4[i]);
+                }
+                observer.onStep(step, t + timeStep, state);
+            }
+        }
+    };
+
+    private static SecondOrderSystem requireSecondOrder(OdeSystem system, FixedStepIntegrator integrator) {
+        if (!(system instanceof SecondOrderSystem)) {
+            throw new IllegalArgumentException(integrator + " requires a SecondOrderSystem");
+        }
+        return (SecondOrderSystem) system;
+    }
+}
@@ -0,0 +1,56 @@
+package com.demoapp.services;
+
+import java.util.Arrays;
+
+/**
+ * Outcome of an adaptive integration: the final state plus how much work it took to reach it.
+ */
+public final class IntegrationReport {
+
+    private final double[] finalState;
+    private final double endTime;
+    private final int acceptedSteps;
+    private final int rejectedSteps;
+    private final long evaluations;
+
+    public IntegrationReport(double[] finalState, double endTime, int acceptedSteps, int rejectedSteps, long evaluations) {
+        this.finalState = finalState.clone();
+        this.endTime = endTime;
+        this.acceptedSteps = acceptedSteps;
+        this.rejectedSteps = rejectedSteps;
+        this.evaluations = evaluations;
+    }
+
+    public double[] getFinalState() {
+        return finalState.clone();
+    }
+
+    /**
+     * First state component, which is the position or quantity a scalar {@code simulate*} method returns.
+     */
+    public double getFinalValue() {
+        return finalState[0];
+    }
+
+    public double getEndTime() {
+        return endTime;
+    }
+
+    public int getAcceptedSteps() {
+        return acceptedSteps;
+    }
+
+    public int getRejectedSteps() {
+        return rejectedSteps;
+    }
+
+    public long getEvaluations() {
+        return evaluations;
+    }
+
+    @Override
+    public String toString() {
+        return "IntegrationReport{finalState=" + Arrays.toString(finalState) + ", endTime=" + endTime
+                + ", acceptedSteps=" + acceptedSteps + ", rejectedSteps=" + rejectedSteps + ", evaluations=" + evaluations + "}";
+    }
+}
@@ -0,0 +1,14 @@
+package com.demoapp.services;
+
+/**
+ * Fixed-step ODE integration scheme. See {@link FixedStepIntegrator} for the built-in ones and
+ * {@link DormandPrinceIntegrator} for adaptive step-size control.
+ */
+public interface Integrator {
+
+    /**
+     * Advances {@code state} in place by {@code steps} steps of size {@code timeStep}, starting at
+     * {@code startTime}.
+     */
+    void integrate(OdeSystem system, double startTime, double[] state, double timeStep, int steps, StepObserver observer);
+}
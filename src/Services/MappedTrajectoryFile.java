@@ -0,0 +1,140 @@
+package com.demoapp.services;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+/**
+ * Read-only, memory-mapped view of a file written by {@link MappedTrajectoryWriter}. Opening a file
+ * reads only its header; values are read from the mapping on demand, so a multi-gigabyte run costs
+ * neither parsing nor a copy onto the heap.
+ */
+public class MappedTrajectoryFile implements Closeable {
+
+    /**
+     * Most steps a single column view can cover: a {@link MappedByteBuffer} is limited to
+     * {@code Integer.MAX_VALUE} bytes.
+     */
+    public static final int MAX_VIEW_STEPS = Integer.MAX_VALUE / 8;
+
+    private final FileChannel channel;
+    private final TrajectoryFileFormat.Header header;
+    private final MappedByteBuffer[] segments;
+
+    private MappedTrajectoryFile(FileChannel channel, TrajectoryFileFormat.Header header, MappedByteBuffer[] segments) {
+        this.channel = channel;
+        this.header = header;
+        this.segments = segments;
+    }
+
+    public static MappedTrajectoryFile open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            TrajectoryFileFormat.Header header = TrajectoryFileFormat.decodeHeader(channel);
+            MappedByteBuffer[] segments = TrajectoryFileFormat.map(channel, FileChannel.MapMode.READ_ONLY,
+                    header.dataOffset, 8 * header.steps * header.columns);
+            return new MappedTrajectoryFile(channel, header, segments);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public String getMethod() {
+        return header.method;
+    }
+
+    /**
+     * Simulation parameters in the order they were written.
+     */
+    public Map<String, Double> getParameters() {
+        return header.parameters;
+    }
+
+    public String getStepPrefix() {
+        return header.stepPrefix;
+    }
+
+    public String getLabel() {
+        return header.label;
+    }
+
+    public long getSteps() {
+        return header.steps;
+    }
+
+    public int getColumns() {
+        return header.columns;
+    }
+
+    public double get(long step) {
+        return get(step, 0);
+    }
+
+    public double get(long step, int column) {
+        if (step < 0 || step >= header.steps || column < 0 || column >= header.columns) {
+            throw new IndexOutOfBoundsException("Step " + step + ", column " + column + " outside " + header.steps + " x " + header.columns);
+        }
+        long offset = 8 * (column * header.steps + step);
+        return segments[(int) (offset >>> TrajectoryFileFormat.SEGMENT_SHIFT)]
+                .getDouble((int) (offset & (TrajectoryFileFormat.SEGMENT_BYTES - 1)));
+    }
+
+    /**
+     * Zero-copy view of one whole column, mapped as its own region so it never depends on how the
+     * data segments fall.
+     *
+     * @throws IllegalArgumentException if the column has more than {@value #MAX_VIEW_STEPS} steps, the
+     *                                  most a single mapping can hold; use
+     *                                  {@link #column(int, long, int)} to view it in windows
+     */
+    public DoubleBuffer column(int column) throws IOException {
+        if (header.steps > MAX_VIEW_STEPS) {
+            throw new IllegalArgumentException("Column has " + header.steps + " steps; view it in windows of at most "
+                    + MAX_VIEW_STEPS + " with column(int, long, int)");
+        }
+        return column(column, 0, (int) header.steps);
+    }
+
+    /**
+     * Zero-copy view of {@code count} consecutive steps of one column, starting at {@code fromStep}.
+     */
+    public DoubleBuffer column(int column, long fromStep, int count) throws IOException {
+        if (column < 0 || column >= header.columns) {
+            throw new IndexOutOfBoundsException("Column " + column + " outside [0, " + header.columns + ")");
+        }
+        if (fromStep < 0 || count < 0 || count > MAX_VIEW_STEPS || fromStep > header.steps - count) {
+            throw new IndexOutOfBoundsException("Steps [" + fromStep + ", " + fromStep + " + " + count + ") outside [0, " + header.steps + ")");
+        }
+        long offset = header.dataOffset + 8 * (column * header.steps + fromStep);
+        MappedByteBuffer view = channel.map(FileChannel.MapMode.READ_ONLY, offset, 8L * count);
+        return view.order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer().asReadOnlyBuffer();
+    }
+
+    /**
+     * Copies the run into a {@link Trajectory}, e.g. to render the legacy text format.
+     */
+    public Trajectory toTrajectory() {
+        if (header.steps > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Run has too many steps for an in-memory Trajectory: " + header.steps);
+        }
+        Trajectory trajectory = new Trajectory(header.stepPrefix, header.label, (int) header.steps, header.columns);
+        for (int c = 0; c < header.columns; c++) {
+            for (int s = 0; s < header.steps; s++) {
+                trajectory.set(s, c, get(s, c));
+            }
+        }
+        return trajectory;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
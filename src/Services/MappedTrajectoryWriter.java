@@ -0,0 +1,104 @@
+package com.demoapp.services;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@link TrajectorySink} that writes a run straight into a memory-mapped binary trajectory file (see
+ * {@link MappedTrajectoryFile} for reading it back). Pass it to any {@code simulate*} method that
+ * takes a sink:
+ * <pre>{@code
+ * Map<String, Double> parameters = new LinkedHashMap<>();
+ * parameters.put("initialCount", 1e6);
+ * parameters.put("decayConstant", 0.01);
+ * try (MappedTrajectoryWriter out = new MappedTrajectoryWriter(path, "simulateMuonDecay", parameters)) {
+ *     physics.simulateMuonDecay(1e6, 0.01, 0.1, 100_000_000, out);
+ * }
+ * }</pre>
+ * The file is sized and mapped in {@link #begin}, each value is a single put into the mapping, and
+ * {@link #end} forces the pages to disk. One writer records one run.
+ */
+public class MappedTrajectoryWriter implements TrajectorySink, Closeable {
+
+    private final Path path;
+    private final String method;
+    private final Map<String, Double> parameters;
+
+    private FileChannel channel;
+    private MappedByteBuffer[] segments;
+    private long steps;
+    private int columns;
+
+    public MappedTrajectoryWriter(Path path, String method, Map<String, Double> parameters) {
+        this.path = path;
+        this.method = method;
+        this.parameters = new LinkedHashMap<>(parameters);
+    }
+
+    @Override
+    public void begin(String stepPrefix, String label, int steps, int columns) {
+        if (channel != null) {
+            throw new IllegalStateException("A trajectory has already been written to " + path);
+        }
+        this.steps = Math.max(steps, 0);
+        this.columns = columns;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            ByteBuffer header = TrajectoryFileFormat.encodeHeader(method, parameters, stepPrefix, label, this.steps, columns);
+            int dataOffset = header.remaining();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            segments = TrajectoryFileFormat.map(channel, FileChannel.MapMode.READ_WRITE, dataOffset, 8 * this.steps * columns);
+        } catch (IOException e) {
+            close();
+            throw new UncheckedIOException("Cannot create trajectory file " + path, e);
+        }
+    }
+
+    @Override
+    public void accept(int step, double value) {
+        accept(step, 0, value);
+    }
+
+    @Override
+    public void accept(int step, int column, double value) {
+        long offset = 8 * (column * steps + step);
+        segments[(int) (offset >>> TrajectoryFileFormat.SEGMENT_SHIFT)]
+                .putDouble((int) (offset & (TrajectoryFileFormat.SEGMENT_BYTES - 1)), value);
+    }
+
+    @Override
+    public void end() {
+        if (segments != null) {
+            for (MappedByteBuffer segment : segments) {
+                segment.force();
+            }
+        }
+        close();
+    }
+
+    /**
+     * Releases the file channel. The mapping itself is released by the garbage collector, as the JDK
+     * offers no portable way to unmap it eagerly.
+     */
+    @Override
+    public void close() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.demoapp.services;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Advances an {@link NBodySystem} under mutual gravity with a velocity Verlet (kick-drift-kick) step,
+ * evaluating forces with a {@link BarnesHutTree} in O(n log n).
+ * <p>
+ * The per-body loops (force evaluation, kicks and drifts) are split into chunks on a
+ * {@link ForkJoinPool}; every body writes only its own slots, so no synchronisation is needed and the
+ * result does not depend on the number of threads. {@code theta} trades accuracy for speed: 0
+ * degenerates to exact pairwise summation, 0.5 is the usual choice. A simulator instance reuses its
+ * tree between steps and must not be used by two threads at once.
+ */
+public class NBodySimulator {
+
+    private static final double DEFAULT_THETA = 0.5;
+    private static final int DEFAULT_CHUNK_SIZE = 1024;
+
+    private final ForkJoinPool pool;
+    private final double gravitationalConstant;
+    private final double thetaSquared;
+    private final double softeningSquared;
+    private final int chunkSize;
+    private final BarnesHutTree tree = new BarnesHutTree();
+
+    public NBodySimulator(double softening) {
+        this(ForkJoinPool.commonPool(), PhysicalConstants.GRAVITATIONAL_CONSTANT, DEFAULT_THETA, softening, DEFAULT_CHUNK_SIZE);
+    }
+
+    public NBodySimulator(ForkJoinPool pool, double gravitationalConstant, double theta, double softening, int chunkSize) {
+        if (!(theta >= 0)) {
+            throw new IllegalArgumentException("theta must not be negative: " + theta);
+        }
+        if (!(softening >= 0)) {
+            throw new IllegalArgumentException("softening must not be negative: " + softening);
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        this.pool = pool;
+        this.gravitationalConstant = gravitationalConstant;
+        this.thetaSquared = theta * theta;
+        this.softeningSquared = softening * softening;
+        this.chunkSize = chunkSize;
+    }
+
+    public double getGravitationalConstant() {
+        return gravitationalConstant;
+    }
+
+    /**
+     * Recomputes every body's acceleration from the current positions.
+     */
+    public void computeAccelerations(NBodySystem system) {
+        tree.build(system);
+        pool.invoke(new ChunkTask(0, system.size(), (from, to) -> {
+            double[] acceleration = new double[3];
+            for (int k = from; k < to; k++) {
+                tree.acceleration(k, thetaSquared, softeningSquared, acceleration);
+                int body = tree.bodyAt(k);
+                system.ax[body] = acceleration[0] * gravitationalConstant;
+                system.ay[body] = acceleration[1] * gravitationalConstant;
+                system.az[body] = acceleration[2] * gravitationalConstant;
+            }
+        }));
+    }
+
+    /**
+     * Runs {@code steps} velocity Verlet steps of {@code timeStep}. Accelerations are recomputed at the
+     * start, so positions or velocities may be edited between calls.
+     */
+    public void run(NBodySystem system, double timeStep, int steps) {
+        if (steps <= 0 || system.size() == 0) {
+            return;
+        }
+        double halfStep = 0.5 * timeStep;
+        computeAccelerations(system);
+        for (int step = 0; step < steps; step++) {
+            pool.invoke(new ChunkTask(0, system.size(), (from, to) -> {
+                for (int i = from; i < to; i++) {
+                    system.vx[i] += system.ax[i] * halfStep;
+                    system.vy[i] += system.ay[i] * halfStep;
+                    system.vz[i] += system.az[i] * halfStep;
+                    system.x[i] += system.vx[i] * timeStep;
+                    system.y[i] += system.vy[i] * timeStep;
+                    system.z[i] += system.vz[i] * timeStep;
+                }
+            }));
+            computeAccelerations(system);
+            pool.invoke(new ChunkTask(0, system.size(), (from, to) -> {
+                for (int i = from; i < to; i++) {
+                    system.vx[i] += system.ax[i] * halfStep;
+                    system.vy[i] += system.ay[i] * halfStep;
+                    system.vz[i] += system.az[i] * halfStep;
+                }
+            }));
+        }
+    }
+
+    @FunctionalInterface
+    private interface RangeBody {
+        void apply(int from, int to);
+    }
+
+    @SuppressWarnings("serial")
+    private final class ChunkTask extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+        private final RangeBody body;
+
+        ChunkTask(int from, int to, RangeBody body) {
+            this.from = from;
+            this.to = to;
+            this.body = body;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                body.apply(from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ChunkTask(from, middle, body), new ChunkTask(middle, to, body));
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.demoapp.services;
+
+import java.util.Arrays;
+
+/**
+ * State of an N-body gravity simulation in structure-of-arrays form: one primitive array per
+ * coordinate, so the force and update loops stream through memory instead of chasing per-body objects.
+ * <p>
+ * Bodies are appended with {@link #addBody} and keep their index for the lifetime of the system.
+ * Accelerations are written by {@link NBodySimulator}.
+ */
+public final class NBodySystem {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int size;
+
+    double[] mass;
+    double[] x;
+    double[] y;
+    double[] z;
+    double[] vx;
+    double[] vy;
+    double[] vz;
+    double[] ax;
+    double[] ay;
+    double[] az;
+
+    public NBodySystem() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public NBodySystem(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("initialCapacity must not be negative: " + initialCapacity);
+        }
+        allocate(initialCapacity);
+    }
+
+    /**
+     * @return the index of the new body
+     */
+    public int addBody(double mass, double x, double y, double z, double vx, double vy, double vz) {
+        if (!(mass > 0)) {
+            throw new IllegalArgumentException("mass must be positive: " + mass);
+        }
+        if (size == this.mass.length) {
+            allocate(Math.max(DEFAULT_CAPACITY, size * 2));
+        }
+        int index = size++;
+        this.mass[index] = mass;
+        this.x[index] = x;
+        this.y[index] = y;
+        this.z[index] = z;
+        this.vx[index] = vx;
+        this.vy[index] = vy;
+        this.vz[index] = vz;
+        return index;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public double getMass(int body) {
+        return mass[checkIndex(body)];
+    }
+
+    public double getX(int body) {
+        return x[checkIndex(body)];
+    }
+
+    public double getY(int body) {
+        return y[checkIndex(body)];
+    }
+
+    public double getZ(int body) {
+        return z[checkIndex(body)];
+    }
+
+    public double getVelocityX(int body) {
+        return vx[checkIndex(body)];
+    }
+
+    public double getVelocityY(int body) {
+        return vy[checkIndex(body)];
+    }
+
+    public double getVelocityZ(int body) {
+        return vz[checkIndex(body)];
+    }
+
+    public double getAccelerationX(int body) {
+        return ax[checkIndex(body)];
+    }
+
+    public double getAccelerationY(int body) {
+        return ay[checkIndex(body)];
+    }
+
+    public double getAccelerationZ(int body) {
+        return az[checkIndex(body)];
+    }
+
+    public double kineticEnergy() {
+        double energy = 0;
+        for (int i = 0; i < size; i++) {
+            energy += 0.5 * mass[i] * (vx[i] * vx[i] + vy[i] * vy[i] + vz[i] * vz[i]);
+        }
+        return energy;
+    }
+
+    /**
+     * Exact pairwise potential energy. O(n^2), so meant for checking conservation on small systems.
+     */
+    public double potentialEnergy(double gravitationalConstant, double softening) {
+        double softeningSquared = softening * softening;
+        double energy = 0;
+        for (int i = 0; i < size; i++) {
+            for (int j = i + 1; j < size; j++) {
+                double dx = x[j] - x[i];
+                double dy = y[j] - y[i];
+                double dz = z[j] - z[i];
+                energy -= gravitationalConstant * mass[i] * mass[j] / Math.sqrt(dx * dx + dy * dy + dz * dz + softeningSquared);
+            }
+        }
+        return energy;
+    }
+
+    private int checkIndex(int body) {
+        if (body < 0 || body >= size) {
+            throw new IndexOutOfBoundsException("Body " + body + " out of range [0, " + size + ")");
+        }
+        return body;
+    }
+
+    private void allocate(int capacity) {
+        mass = grow(mass, capacity);
+        x = grow(x, capacity);
+        y = grow(y, capacity);
+        z = grow(z, capacity);
+        vx = grow(vx, capacity);
+        vy = grow(vy, capacity);
+        vz = grow(vz, capacity);
+        ax = grow(ax, capacity);
+        ay = grow(ay, capacity);
+        az = grow(az, capacity);
+    }
+
+    private static double[] grow(double[] array, int capacity) {
+        return array == null ? new double[capacity] : Arrays.copyOf(array, capacity);
+    }
+}
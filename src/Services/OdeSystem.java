@@ -0,0 +1,15 @@
+package com.demoapp.services;
+
+/**
+ * First-order system {@code dy/dt = f(t, y)}. The dimension is the length of the state array the
+ * integrator is given.
+ */
+@FunctionalInterface
+public interface OdeSystem {
+
+    /**
+     * Writes {@code f(t, state)} into {@code out}, which has the same length as {@code state}. Must not
+     * modify {@code state}.
+     */
+    void derivatives(double t, double[] state, double[] out);
+}
@@ -0,0 +1,48 @@
+package com.demoapp.services;
+
+import java.util.Arrays;
+
+/**
+ * The values one parameter takes in a {@link ParameterSweep}: either evenly spaced points between two
+ * bounds (inclusive) or an explicit list.
+ */
+public final class ParameterRange {
+
+    private final double[] values;
+
+    private ParameterRange(double[] values) {
+        if (values.length == 0) {
+            throw new IllegalArgumentException("A parameter range needs at least one value");
+        }
+        this.values = values;
+    }
+
+    public static ParameterRange linear(double start, double end, int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("count must be positive: " + count);
+        }
+        double[] values = new double[count];
+        if (count == 1) {
+            values[0] = start;
+        } else {
+            double step = (end - start) / (count - 1);
+            for (int i = 0; i < count; i++) {
+                values[i] = start + i * step;
+            }
+            values[count - 1] = end;
+        }
+        return new ParameterRange(values);
+    }
+
+    public static ParameterRange of(double... values) {
+        return new ParameterRange(Arrays.copyOf(values, values.length));
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public double get(int index) {
+        return values[index];
+    }
+}
@@ -0,0 +1,232 @@
+package com.demoapp.services;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Evaluates a simulation over the cartesian product of several {@link ParameterRange}s on a
+ * {@link ForkJoinPool}.
+ * <p>
+ * The grid is split recursively into chunks that idle workers steal, and every point writes to its own
+ * slot of the {@link SweepResult}, so the output order is deterministic regardless of scheduling.
+ * For example, to sweep mass and damping of {@link PhysicsService#simulateDampedOscillator}:
+ * <pre>{@code
+ * SweepResult grid = new ParameterSweep().run(
+ *         p -> physics.simulateDampedOscillator(p[0], 10.0, p[1], 1.0, 0.0, 0.001, 10_000),
+ *         ParameterRange.linear(0.5, 5.0, 100),
+ *         ParameterRange.linear(0.0, 2.0, 100));
+ * }</pre>
+ */
+public class ParameterSweep {
+
+    @FunctionalInterface
+    public interface Kernel {
+        /**
+         * @param parameters one value per range, in range order; the array is reused between calls
+         */
+        double evaluate(double[] parameters);
+    }
+
+    @FunctionalInterface
+    public interface ProgressListener {
+        /**
+         * Called from worker threads after each chunk completes, so implementations must be thread-safe.
+         */
+        void onProgress(long completed, long total);
+    }
+
+    private static final int DEFAULT_CHUNK_SIZE = 64;
+    private static final ProgressListener NO_PROGRESS = (completed, total) -> {
+    };
+
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    public ParameterSweep() {
+        this(ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    public ParameterSweep(ForkJoinPool pool, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    public SweepResult run(Kernel kernel, ParameterRange... ranges) {
+        try {
+            return submit(kernel, NO_PROGRESS, ranges).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for sweep");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    public Execution submit(Kernel kernel, ProgressListener listener, ParameterRange... ranges) {
+        if (ranges.length == 0) {
+            throw new IllegalArgumentException("At least one parameter range is required");
+        }
+        int[] shape = new int[ranges.length];
+        long total = 1;
+        for (int d = 0; d < ranges.length; d++) {
+            shape[d] = ranges[d].size();
+            total *= shape[d];
+            if (total > Integer.MAX_VALUE - 8) {
+                throw new IllegalArgumentException("Sweep grid is too large for a single result array");
+            }
+        }
+
+        Execution execution = new Execution(kernel, listener, ranges, shape, (int) total);
+        pool.execute(execution::run);
+        return execution;
+    }
+
+    public final class Execution implements Future<SweepResult> {
+
+        private final Kernel kernel;
+        private final ProgressListener listener;
+        private final ParameterRange[] ranges;
+        private final int[] shape;
+        private final double[] values;
+        private final SweepTask root;
+        private final CompletableFuture<SweepResult> outcome = new CompletableFuture<>();
+        private final LongAdder completed = new LongAdder();
+        private volatile boolean cancelled;
+
+        private Execution(Kernel kernel, ProgressListener listener, ParameterRange[] ranges, int[] shape, int total) {
+            this.kernel = kernel;
+            this.listener = listener;
+            this.ranges = ranges;
+            this.shape = shape;
+            this.values = new double[total];
+            this.root = new SweepTask(this, 0, total);
+        }
+
+        public long getCompletedCount() {
+            return completed.sum();
+        }
+
+        public long getTotalCount() {
+            return values.length;
+        }
+
+        /**
+         * Cancels the sweep unless it has already completed. The execution is done and {@link #get()}
+         * throws as soon as this returns {@code true}; chunks still running in the pool finish their
+         * current point and exit in the background.
+         */
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            if (!outcome.cancel(false)) {
+                return false;
+            }
+            cancelled = true;
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return outcome.isCancelled();
+        }
+
+        @Override
+        public boolean isDone() {
+            return outcome.isDone();
+        }
+
+        @Override
+        public SweepResult get() throws InterruptedException, ExecutionException {
+            return outcome.get();
+        }
+
+        @Override
+        public SweepResult get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            return outcome.get(timeout, unit);
+        }
+
+        private void run() {
+            try {
+                root.invoke();
+                outcome.complete(new SweepResult(shape.clone(), values));
+            } catch (Throwable e) {
+                outcome.completeExceptionally(e);
+            }
+        }
+
+        private void evaluate(int from, int to) {
+            int dimensions = shape.length;
+            int[] index = new int[dimensions];
+            double[] parameters = new double[dimensions];
+
+            int remainder = from;
+            for (int d = dimensions - 1; d >= 0; d--) {
+                index[d] = remainder % shape[d];
+                remainder /= shape[d];
+                parameters[d] = ranges[d].get(index[d]);
+            }
+
+            for (int i = from; i < to; i++) {
+                if (cancelled) {
+                    return;
+                }
+                values[i] = kernel.evaluate(parameters);
+
+                for (int d = dimensions - 1; d >= 0; d--) {
+                    if (++index[d] < shape[d]) {
+                        parameters[d] = ranges[d].get(index[d]);
+                        break;
+                    }
+                    index[d] = 0;
+                    parameters[d] = ranges[d].get(0);
+                }
+            }
+
+            completed.add(to - from);
+            listener.onProgress(completed.sum(), values.length);
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private final class SweepTask extends RecursiveAction {
+
+        private final Execution execution;
+        private final int from;
+        private final int to;
+
+        SweepTask(Execution execution, int from, int to) {
+            this.execution = execution;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (execution.cancelled) {
+                return;
+            }
+            if (to - from <= chunkSize) {
+                execution.evaluate(from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new SweepTask(execution, from, middle), new SweepTask(execution, middle, to));
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.demoapp.services;
+
+/**
+ * The active {@link ConstantSet}, resolved once at class initialisation from the
+ * {@value #CONSTANT_SET_PROPERTY} system property (default {@code legacy}).
+ * <p>
+ * The values are exposed as {@code static final} fields so the JIT treats them as compile-time
+ * constants in the kernels; switching sets (e.g. {@code -Ddemoapp.physics.constants=codata-2018})
+ * needs a restart but no code change.
+ */
+public final class PhysicalConstants {
+
+    public static final String CONSTANT_SET_PROPERTY = "demoapp.physics.constants";
+
+    public static final ConstantSet ACTIVE = ConstantSet.named(System.getProperty(CONSTANT_SET_PROPERTY, "legacy"));
+
+    public static final double GRAVITATIONAL_CONSTANT = ACTIVE.getGravitationalConstant();
+    public static final double SPEED_OF_LIGHT = ACTIVE.getSpeedOfLight();
+    public static final double PLANCK_CONSTANT = ACTIVE.getPlanckConstant();
+    public static final double REDUCED_PLANCK_CONSTANT = ACTIVE.getReducedPlanckConstant();
+    public static final double COULOMB_CONSTANT = ACTIVE.getCoulombConstant();
+    public static final double BOLTZMANN_CONSTANT = ACTIVE.getBoltzmannConstant();
+
+    public static final double REFERENCE_SOUND_INTENSITY = Math.pow(10, -12);
+
+    private PhysicalConstants() {
+    }
+}
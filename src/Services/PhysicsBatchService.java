@@ -0,0 +1,829 @@
+package com.demoapp.services;
+
+/**
+ * Array-in/array-out variants of the scalar {@code calculate*} formulas in {@link PhysicsService}.
+ * <p>
+ * Each method applies the scalar formula element by element, so results are bit-for-bit identical to
+ * calling {@link PhysicsService} once per item. The loops are plain counted loops over primitive
+ * arrays with the scalar call inlined by the JIT, which lets it auto-vectorize the simple arithmetic
+ * formulas. All input arrays must have the same length as the output array.
+ */
+public class PhysicsBatchService {
+
+    private final PhysicsService physics;
+
+    public PhysicsBatchService() {
+        this(new PhysicsService());
+    }
+
+    public PhysicsBatchService(PhysicsService physics) {
+        this.physics = physics;
+    }
+
+    public double[] calculateForce(double[] mass, double[] acceleration) {
+        return calculateForce(mass, acceleration, new double[mass.length]);
+    }
+
+    public double[] calculateForce(double[] mass, double[] acceleration, double[] out) {
+        int count = out.length;
+        requireLength(mass, count);
+        requireLength(acceleration, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateForce(mass[i], acceleration[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateKineticEnergy(double[] mass, double[] velocity) {
+        return calculateKineticEnergy(mass, velocity, new double[mass.length]);
+    }
+
+    public double[] calculateKineticEnergy(double[] mass, double[] velocity, double[] out) {
+        int count = out.length;
+        requireLength(mass, count);
+        requireLength(velocity, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateKineticEnergy(mass[i], velocity[i]);
+        }
+        return out;
+    }
+
+    public double[] calculatePotentialEnergy(double[] mass, double[] height) {
+        return calculatePotentialEnergy(mass, height, new double[mass.length]);
+    }
+
+    public double[] calculatePotentialEnergy(double[] mass, double[] height, double[] out) {
+        int count = out.length;
+        requireLength(mass, count);
+        requireLength(height, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculatePotentialEnergy(mass[i], height[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateMomentum(double[] mass, double[] velocity) {
+        return calculateMomentum(mass, velocity, new double[mass.length]);
+    }
+
+    public double[] calculateMomentum(double[] mass, double[] velocity, double[] out) {
+        int count = out.length;
+        requireLength(mass, count);
+        requireLength(velocity, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateMomentum(mass[i], velocity[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateAngularMomentum(double[] mass, double[] velocity, double[] radius) {
+        return calculateAngularMomentum(mass, velocity, radius, new double[mass.length]);
+    }
+
+    public double[] calculateAngularMomentum(double[] mass, double[] velocity, double[] radius, double[] out) {
+        int count = out.length;
+        requireLength(mass, count);
+        requireLength(velocity, count);
+        requireLength(radius, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateAngularMomentum(mass[i], velocity[i], radius[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateWorkDone(double[] force, double[] distance) {
+        return calculateWorkDone(force, distance, new double[force.length]);
+    }
+
+    public double[] calculateWorkDone(double[] force, double[] distance, double[] out) {
+        int count = out.length;
+        requireLength(force, count);
+        requireLength(distance, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateWorkDone(force[i], distance[i]);
+        }
+        return out;
+    }
+
+    public double[] calculatePower(double[] work, double[] time) {
+        return calculatePower(work, time, new double[work.length]);
+    }
+
+    public double[] calculatePower(double[] work, double[] time, double[] out) {
+        int count = out.length;
+        requireLength(work, count);
+        requireLength(time, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculatePower(work[i], time[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateEnergyConsumption(double[] power, double[] time) {
+        return calculateEnergyConsumption(power, time, new double[power.length]);
+    }
+
+    public double[] calculateEnergyConsumption(double[] power, double[] time, double[] out) {
+        int count = out.length;
+        requireLength(power, count);
+        requireLength(time, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateEnergyConsumption(power[i], time[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateHeatTransfer(double[] mass, double[] specificHeat, double[] temperatureChange) {
+        return calculateHeatTransfer(mass, specificHeat, temperatureChange, new double[mass.length]);
+    }
+
+    public double[] calculateHeatTransfer(double[] mass, double[] specificHeat, double[] temperatureChange, double[] out) {
+        int count = out.length;
+        requireLength(mass, count);
+        requireLength(specificHeat, count);
+        requireLength(temperatureChange, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateHeatTransfer(mass[i], specificHeat[i], temperatureChange[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateThermalExpansion(double[] initialLength, double[] temperatureChange, double[] coefficient) {
+        return calculateThermalExpansion(initialLength, temperatureChange, coefficient, new double[initialLength.length]);
+    }
+
+    public double[] calculateThermalExpansion(double[] initialLength, double[] temperatureChange, double[] coefficient, double[] out) {
+        int count = out.length;
+        requireLength(initialLength, count);
+        requireLength(temperatureChange, count);
+        requireLength(coefficient, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateThermalExpansion(initialLength[i], temperatureChange[i], coefficient[i]);
+        }
+        return out;
+    }
+
+    public double[] calculatePressure(double[] force, double[] area) {
+        return calculatePressure(force, area, new double[force.length]);
+    }
+
+    public double[] calculatePressure(double[] force, double[] area, double[] out) {
+        int count = out.length;
+        requireLength(force, count);
+        requireLength(area, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculatePressure(force[i], area[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateBuoyancy(double[] volume, double[] fluidDensity) {
+        return calculateBuoyancy(volume, fluidDensity, new double[volume.length]);
+    }
+
+    public double[] calculateBuoyancy(double[] volume, double[] fluidDensity, double[] out) {
+        int count = out.length;
+        requireLength(volume, count);
+        requireLength(fluidDensity, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateBuoyancy(volume[i], fluidDensity[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateDragForce(double[] dragCoefficient, double[] fluidDensity, double[] velocity, double[] area) {
+        return calculateDragForce(dragCoefficient, fluidDensity, velocity, area, new double[dragCoefficient.length]);
+    }
+
+    public double[] calculateDragForce(double[] dragCoefficient, double[] fluidDensity, double[] velocity, double[] area, double[] out) {
+        int count = out.length;
+        requireLength(dragCoefficient, count);
+        requireLength(fluidDensity, count);
+        requireLength(velocity, count);
+        requireLength(area, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateDragForce(dragCoefficient[i], fluidDensity[i], velocity[i], area[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateLiftForce(double[] liftCoefficient, double[] fluidDensity, double[] velocity, double[] area) {
+        return calculateLiftForce(liftCoefficient, fluidDensity, velocity, area, new double[liftCoefficient.length]);
+    }
+
+    public double[] calculateLiftForce(double[] liftCoefficient, double[] fluidDensity, double[] velocity, double[] area, double[] out) {
+        int count = out.length;
+        requireLength(liftCoefficient, count);
+        requireLength(fluidDensity, count);
+        requireLength(velocity, count);
+        requireLength(area, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateLiftForce(liftCoefficient[i], fluidDensity[i], velocity[i], area[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateElasticPotentialEnergy(double[] springConstant, double[] extension) {
+        return calculateElasticPotentialEnergy(springConstant, extension, new double[springConstant.length]);
+    }
+
+    public double[] calculateElasticPotentialEnergy(double[] springConstant, double[] extension, double[] out) {
+        int count = out.length;
+        requireLength(springConstant, count);
+        requireLength(extension, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateElasticPotentialEnergy(springConstant[i], extension[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateMagneticForce(double[] charge, double[] velocity, double[] magneticField) {
+        return calculateMagneticForce(charge, velocity, magneticField, new double[charge.length]);
+    }
+
+    public double[] calculateMagneticForce(double[] charge, double[] velocity, double[] magneticField, double[] out) {
+        int count = out.length;
+        requireLength(charge, count);
+        requireLength(velocity, count);
+        requireLength(magneticField, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateMagneticForce(charge[i], velocity[i], magneticField[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateElectricField(double[] charge, double[] distance) {
+        return calculateElectricField(charge, distance, new double[charge.length]);
+    }
+
+    public double[] calculateElectricField(double[] charge, double[] distance, double[] out) {
+        int count = out.length;
+        requireLength(charge, count);
+        requireLength(distance, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateElectricField(charge[i], distance[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateGravitationalForce(double[] mass1, double[] mass2, double[] distance) {
+        return calculateGravitationalForce(mass1, mass2, distance, new double[mass1.length]);
+    }
+
+    public double[] calculateGravitationalForce(double[] mass1, double[] mass2, double[] distance, double[] out) {
+        int count = out.length;
+        requireLength(mass1, count);
+        requireLength(mass2, count);
+        requireLength(distance, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateGravitationalForce(mass1[i], mass2[i], distance[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateCapacitance(double[] charge, double[] voltage) {
+        return calculateCapacitance(charge, voltage, new double[charge.length]);
+    }
+
+    public double[] calculateCapacitance(double[] charge, double[] voltage, double[] out) {
+        int count = out.length;
+        requireLength(charge, count);
+        requireLength(voltage, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateCapacitance(charge[i], voltage[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateInductance(double[] emf, double[] currentChange, double[] timeChange) {
+        return calculateInductance(emf, currentChange, timeChange, new double[emf.length]);
+    }
+
+    public double[] calculateInductance(double[] emf, double[] currentChange, double[] timeChange, double[] out) {
+        int count = out.length;
+        requireLength(emf, count);
+        requireLength(currentChange, count);
+        requireLength(timeChange, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateInductance(emf[i], currentChange[i], timeChange[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateResistance(double[] voltage, double[] current) {
+        return calculateResistance(voltage, current, new double[voltage.length]);
+    }
+
+    public double[] calculateResistance(double[] voltage, double[] current, double[] out) {
+        int count = out.length;
+        requireLength(voltage, count);
+        requireLength(current, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateResistance(voltage[i], current[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateResistivity(double[] resistance, double[] length, double[] area) {
+        return calculateResistivity(resistance, length, area, new double[resistance.length]);
+    }
+
+    public double[] calculateResistivity(double[] resistance, double[] length, double[] area, double[] out) {
+        int count = out.length;
+        requireLength(resistance, count);
+        requireLength(length, count);
+        requireLength(area, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateResistivity(resistance[i], length[i], area[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateCurrent(double[] voltage, double[] resistance) {
+        return calculateCurrent(voltage, resistance, new double[voltage.length]);
+    }
+
+    public double[] calculateCurrent(double[] voltage, double[] resistance, double[] out) {
+        int count = out.length;
+        requireLength(voltage, count);
+        requireLength(resistance, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateCurrent(voltage[i], resistance[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateFrequency(double[] period) {
+        return calculateFrequency(period, new double[period.length]);
+    }
+
+    public double[] calculateFrequency(double[] period, double[] out) {
+        int count = out.length;
+        requireLength(period, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateFrequency(period[i]);
+        }
+        return out;
+    }
+
+    public double[] calculatePeriod(double[] frequency) {
+        return calculatePeriod(frequency, new double[frequency.length]);
+    }
+
+    public double[] calculatePeriod(double[] frequency, double[] out) {
+        int count = out.length;
+        requireLength(frequency, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculatePeriod(frequency[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateWaveSpeed(double[] frequency, double[] wavelength) {
+        return calculateWaveSpeed(frequency, wavelength, new double[frequency.length]);
+    }
+
+    public double[] calculateWaveSpeed(double[] frequency, double[] wavelength, double[] out) {
+        int count = out.length;
+        requireLength(frequency, count);
+        requireLength(wavelength, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateWaveSpeed(frequency[i], wavelength[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateWavelength(double[] waveSpeed, double[] frequency) {
+        return calculateWavelength(waveSpeed, frequency, new double[waveSpeed.length]);
+    }
+
+    public double[] calculateWavelength(double[] waveSpeed, double[] frequency, double[] out) {
+        int count = out.length;
+        requireLength(waveSpeed, count);
+        requireLength(frequency, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateWavelength(waveSpeed[i], frequency[i]);
+        }
+        return out;
+    }
+
+    public double[] calculatePhotonEnergy(double[] frequency) {
+        return calculatePhotonEnergy(frequency, new double[frequency.length]);
+    }
+
+    public double[] calculatePhotonEnergy(double[] frequency, double[] out) {
+        int count = out.length;
+        requireLength(frequency, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculatePhotonEnergy(frequency[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateDeBroglieWavelength(double[] mass, double[] velocity) {
+        return calculateDeBroglieWavelength(mass, velocity, new double[mass.length]);
+    }
+
+    public double[] calculateDeBroglieWavelength(double[] mass, double[] velocity, double[] out) {
+        int count = out.length;
+        requireLength(mass, count);
+        requireLength(velocity, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateDeBroglieWavelength(mass[i], velocity[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateThermalConductivity(double[] heatTransfer, double[] area, double[] temperatureDifference, double[] thickness) {
+        return calculateThermalConductivity(heatTransfer, area, temperatureDifference, thickness, new double[heatTransfer.length]);
+    }
+
+    public double[] calculateThermalConductivity(double[] heatTransfer, double[] area, double[] temperatureDifference, double[] thickness, double[] out) {
+        int count = out.length;
+        requireLength(heatTransfer, count);
+        requireLength(area, count);
+        requireLength(temperatureDifference, count);
+        requireLength(thickness, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateThermalConductivity(heatTransfer[i], area[i], temperatureDifference[i], thickness[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateSoundIntensity(double[] power, double[] area) {
+        return calculateSoundIntensity(power, area, new double[power.length]);
+    }
+
+    public double[] calculateSoundIntensity(double[] power, double[] area, double[] out) {
+        int count = out.length;
+        requireLength(power, count);
+        requireLength(area, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateSoundIntensity(power[i], area[i]);
+        }
+        return out;
+    }
+
+    public double[] calculatePressureAmplitude(double[] soundIntensity, double[] fluidDensity, double[] soundSpeed) {
+        return calculatePressureAmplitude(soundIntensity, fluidDensity, soundSpeed, new double[soundIntensity.length]);
+    }
+
+    public double[] calculatePressureAmplitude(double[] soundIntensity, double[] fluidDensity, double[] soundSpeed, double[] out) {
+        int count = out.length;
+        requireLength(soundIntensity, count);
+        requireLength(fluidDensity, count);
+        requireLength(soundSpeed, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculatePressureAmplitude(soundIntensity[i], fluidDensity[i], soundSpeed[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateSoundLevel(double[] intensity) {
+        return calculateSoundLevel(intensity, new double[intensity.length]);
+    }
+
+    public double[] calculateSoundLevel(double[] intensity, double[] out) {
+        int count = out.length;
+        requireLength(intensity, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateSoundLevel(intensity[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateCentripetalForce(double[] mass, double[] velocity, double[] radius) {
+        return calculateCentripetalForce(mass, velocity, radius, new double[mass.length]);
+    }
+
+    public double[] calculateCentripetalForce(double[] mass, double[] velocity, double[] radius, double[] out) {
+        int count = out.length;
+        requireLength(mass, count);
+        requireLength(velocity, count);
+        requireLength(radius, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateCentripetalForce(mass[i], velocity[i], radius[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateEscapeVelocity(double[] mass, double[] radius) {
+        return calculateEscapeVelocity(mass, radius, new double[mass.length]);
+    }
+
+    public double[] calculateEscapeVelocity(double[] mass, double[] radius, double[] out) {
+        int count = out.length;
+        requireLength(mass, count);
+        requireLength(radius, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateEscapeVelocity(mass[i], radius[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateOrbitalSpeed(double[] mass, double[] radius) {
+        return calculateOrbitalSpeed(mass, radius, new double[mass.length]);
+    }
+
+    public double[] calculateOrbitalSpeed(double[] mass, double[] radius, double[] out) {
+        int count = out.length;
+        requireLength(mass, count);
+        requireLength(radius, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateOrbitalSpeed(mass[i], radius[i]);
+        }
+        return out;
+    }
+
+    public double[] calculatePeriodOfOrbit(double[] radius, double[] orbitalSpeed) {
+        return calculatePeriodOfOrbit(radius, orbitalSpeed, new double[radius.length]);
+    }
+
+    public double[] calculatePeriodOfOrbit(double[] radius, double[] orbitalSpeed, double[] out) {
+        int count = out.length;
+        requireLength(radius, count);
+        requireLength(orbitalSpeed, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculatePeriodOfOrbit(radius[i], orbitalSpeed[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateRocketThrust(double[] massFlowRate, double[] exhaustVelocity) {
+        return calculateRocketThrust(massFlowRate, exhaustVelocity, new double[massFlowRate.length]);
+    }
+
+    public double[] calculateRocketThrust(double[] massFlowRate, double[] exhaustVelocity, double[] out) {
+        int count = out.length;
+        requireLength(massFlowRate, count);
+        requireLength(exhaustVelocity, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateRocketThrust(massFlowRate[i], exhaustVelocity[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateImpulse(double[] force, double[] time) {
+        return calculateImpulse(force, time, new double[force.length]);
+    }
+
+    public double[] calculateImpulse(double[] force, double[] time, double[] out) {
+        int count = out.length;
+        requireLength(force, count);
+        requireLength(time, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateImpulse(force[i], time[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateTorque(double[] force, double[] distanceFromPivot) {
+        return calculateTorque(force, distanceFromPivot, new double[force.length]);
+    }
+
+    public double[] calculateTorque(double[] force, double[] distanceFromPivot, double[] out) {
+        int count = out.length;
+        requireLength(force, count);
+        requireLength(distanceFromPivot, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateTorque(force[i], distanceFromPivot[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateAngularAcceleration(double[] torque, double[] momentOfInertia) {
+        return calculateAngularAcceleration(torque, momentOfInertia, new double[torque.length]);
+    }
+
+    public double[] calculateAngularAcceleration(double[] torque, double[] momentOfInertia, double[] out) {
+        int count = out.length;
+        requireLength(torque, count);
+        requireLength(momentOfInertia, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateAngularAcceleration(torque[i], momentOfInertia[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateMomentOfInertia(double[] mass, double[] radius) {
+        return calculateMomentOfInertia(mass, radius, new double[mass.length]);
+    }
+
+    public double[] calculateMomentOfInertia(double[] mass, double[] radius, double[] out) {
+        int count = out.length;
+        requireLength(mass, count);
+        requireLength(radius, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateMomentOfInertia(mass[i], radius[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateRotationalKineticEnergy(double[] momentOfInertia, double[] angularVelocity) {
+        return calculateRotationalKineticEnergy(momentOfInertia, angularVelocity, new double[momentOfInertia.length]);
+    }
+
+    public double[] calculateRotationalKineticEnergy(double[] momentOfInertia, double[] angularVelocity, double[] out) {
+        int count = out.length;
+        requireLength(momentOfInertia, count);
+        requireLength(angularVelocity, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateRotationalKineticEnergy(momentOfInertia[i], angularVelocity[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateGravitationalPotentialEnergy(double[] mass, double[] height) {
+        return calculateGravitationalPotentialEnergy(mass, height, new double[mass.length]);
+    }
+
+    public double[] calculateGravitationalPotentialEnergy(double[] mass, double[] height, double[] out) {
+        int count = out.length;
+        requireLength(mass, count);
+        requireLength(height, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateGravitationalPotentialEnergy(mass[i], height[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateCoulombForce(double[] charge1, double[] charge2, double[] distance) {
+        return calculateCoulombForce(charge1, charge2, distance, new double[charge1.length]);
+    }
+
+    public double[] calculateCoulombForce(double[] charge1, double[] charge2, double[] distance, double[] out) {
+        int count = out.length;
+        requireLength(charge1, count);
+        requireLength(charge2, count);
+        requireLength(distance, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateCoulombForce(charge1[i], charge2[i], distance[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateTotalEnergy(double[] kineticEnergy, double[] potentialEnergy) {
+        return calculateTotalEnergy(kineticEnergy, potentialEnergy, new double[kineticEnergy.length]);
+    }
+
+    public double[] calculateTotalEnergy(double[] kineticEnergy, double[] potentialEnergy, double[] out) {
+        int count = out.length;
+        requireLength(kineticEnergy, count);
+        requireLength(potentialEnergy, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateTotalEnergy(kineticEnergy[i], potentialEnergy[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateFreeFallTime(double[] height) {
+        return calculateFreeFallTime(height, new double[height.length]);
+    }
+
+    public double[] calculateFreeFallTime(double[] height, double[] out) {
+        int count = out.length;
+        requireLength(height, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateFreeFallTime(height[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateTerminalVelocity(double[] mass, double[] dragCoefficient, double[] fluidDensity, double[] area) {
+        return calculateTerminalVelocity(mass, dragCoefficient, fluidDensity, area, new double[mass.length]);
+    }
+
+    public double[] calculateTerminalVelocity(double[] mass, double[] dragCoefficient, double[] fluidDensity, double[] area, double[] out) {
+        int count = out.length;
+        requireLength(mass, count);
+        requireLength(dragCoefficient, count);
+        requireLength(fluidDensity, count);
+        requireLength(area, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateTerminalVelocity(mass[i], dragCoefficient[i], fluidDensity[i], area[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateFluidFlowRate(double[] velocity, double[] area) {
+        return calculateFluidFlowRate(velocity, area, new double[velocity.length]);
+    }
+
+    public double[] calculateFluidFlowRate(double[] velocity, double[] area, double[] out) {
+        int count = out.length;
+        requireLength(velocity, count);
+        requireLength(area, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateFluidFlowRate(velocity[i], area[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateBernoulliPressure(double[] fluidDensity, double[] velocity, double[] height) {
+        return calculateBernoulliPressure(fluidDensity, velocity, height, new double[fluidDensity.length]);
+    }
+
+    public double[] calculateBernoulliPressure(double[] fluidDensity, double[] velocity, double[] height, double[] out) {
+        int count = out.length;
+        requireLength(fluidDensity, count);
+        requireLength(velocity, count);
+        requireLength(height, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateBernoulliPressure(fluidDensity[i], velocity[i], height[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateHydrostaticPressure(double[] fluidDensity, double[] depth) {
+        return calculateHydrostaticPressure(fluidDensity, depth, new double[fluidDensity.length]);
+    }
+
+    public double[] calculateHydrostaticPressure(double[] fluidDensity, double[] depth, double[] out) {
+        int count = out.length;
+        requireLength(fluidDensity, count);
+        requireLength(depth, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateHydrostaticPressure(fluidDensity[i], depth[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateMachNumber(double[] objectSpeed, double[] soundSpeed) {
+        return calculateMachNumber(objectSpeed, soundSpeed, new double[objectSpeed.length]);
+    }
+
+    public double[] calculateMachNumber(double[] objectSpeed, double[] soundSpeed, double[] out) {
+        int count = out.length;
+        requireLength(objectSpeed, count);
+        requireLength(soundSpeed, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateMachNumber(objectSpeed[i], soundSpeed[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateWindChill(double[] airTemperature, double[] windSpeed) {
+        return calculateWindChill(airTemperature, windSpeed, new double[airTemperature.length]);
+    }
+
+    public double[] calculateWindChill(double[] airTemperature, double[] windSpeed, double[] out) {
+        int count = out.length;
+        requireLength(airTemperature, count);
+        requireLength(windSpeed, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateWindChill(airTemperature[i], windSpeed[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateRelativeHumidity(double[] actualVaporPressure, double[] saturationVaporPressure) {
+        return calculateRelativeHumidity(actualVaporPressure, saturationVaporPressure, new double[actualVaporPressure.length]);
+    }
+
+    public double[] calculateRelativeHumidity(double[] actualVaporPressure, double[] saturationVaporPressure, double[] out) {
+        int count = out.length;
+        requireLength(actualVaporPressure, count);
+        requireLength(saturationVaporPressure, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateRelativeHumidity(actualVaporPressure[i], saturationVaporPressure[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateFluidResistance(double[] fluidDensity, double[] flowVelocity, double[] crossSectionalArea, double[] dragCoefficient) {
+        return calculateFluidResistance(fluidDensity, flowVelocity, crossSectionalArea, dragCoefficient, new double[fluidDensity.length]);
+    }
+
+    public double[] calculateFluidResistance(double[] fluidDensity, double[] flowVelocity, double[] crossSectionalArea, double[] dragCoefficient, double[] out) {
+        int count = out.length;
+        requireLength(fluidDensity, count);
+        requireLength(flowVelocity, count);
+        requireLength(crossSectionalArea, count);
+        requireLength(dragCoefficient, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateFluidResistance(fluidDensity[i], flowVelocity[i], crossSectionalArea[i], dragCoefficient[i]);
+        }
+        return out;
+    }
+
+    public double[] calculateQuantumSuperposition(double[] waveFunction1, double[] waveFunction2, double[] time) {
+        return calculateQuantumSuperposition(waveFunction1, waveFunction2, time, new double[waveFunction1.length]);
+    }
+
+    public double[] calculateQuantumSuperposition(double[] waveFunction1, double[] waveFunction2, double[] time, double[] out) {
+        int count = out.length;
+        requireLength(waveFunction1, count);
+        requireLength(waveFunction2, count);
+        requireLength(time, count);
+        for (int i = 0; i < count; i++) {
+            out[i] = physics.calculateQuantumSuperposition(waveFunction1[i], waveFunction2[i], time[i]);
+        }
+        return out;
+    }
+
+    private static void requireLength(double[] input, int length) {
+        if (input.length != length) {
+            throw new IllegalArgumentException("Input length " + input.length + " does not match output length " + length);
+        }
+    }
+}
@@ -1,29 +1,56 @@
 package com.demoapp.services;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Random;
+import java.math.BigInteger;
 
 public class PhysicsService {
 
-    private Map<String, Double> calculationsCache = new HashMap<>();
+    private static final int DEFAULT_CALCULATIONS_CACHE_SIZE = 10_000;
+
+    private final BoundedCache<String, Double> calculationsCache;
+
+    private final ClosedFormEvaluator closedForms = new ClosedFormEvaluator();
+
+    private volatile RandomSource randomSource = ThreadLocalRandomSource.INSTANCE;
 
     private static final double GRAVITY = 9.8;
+    private static final double GRAVITATIONAL_CONSTANT = PhysicalConstants.GRAVITATIONAL_CONSTANT;
+    private static final double SPEED_OF_LIGHT = PhysicalConstants.SPEED_OF_LIGHT;
+    private static final double PLANCK_CONSTANT = PhysicalConstants.PLANCK_CONSTANT;
+    private static final double REDUCED_PLANCK_CONSTANT = PhysicalConstants.REDUCED_PLANCK_CONSTANT;
+    private static final double COULOMB_CONSTANT = PhysicalConstants.COULOMB_CONSTANT;
+    private static final double REFERENCE_SOUND_INTENSITY = PhysicalConstants.REFERENCE_SOUND_INTENSITY;
+
+    public PhysicsService() {
+        this(new BoundedCache<>(DEFAULT_CALCULATIONS_CACHE_SIZE));
+    }
+
+    public PhysicsService(BoundedCache<String, Double> calculationsCache) {
+        this.calculationsCache = calculationsCache;
+    }
 
     public double calculateForce(double mass, double acceleration) {
         return mass * acceleration;
     }
 
     public double calculateFibonacciForce(int n) {
-        if (n <= 1) {
-            return n;
-        }
-        return calculateFibonacciForce(n - 1) + calculateFibonacciForce(n - 2);
+        return FibonacciEngine.fibonacci(n);
+    }
+
+    public BigInteger calculateExactFibonacciForce(int n) {
+        return FibonacciEngine.exactFibonacci(n);
     }
 
     public double simulateRandomForce() {
-        Random random = new Random();
-        return random.nextDouble() * GRAVITY;
+        return randomSource.nextDouble() * GRAVITY;
+    }
+
+    public double[] simulateRandomForces(int count) {
+        double[] forces = new double[count];
+        randomSource.nextDoubles(forces);
+        for (int i = 0; i < count; i++) {
+            forces[i] *= GRAVITY;
+        }
+        return forces;
     }
 
     public double calculateKineticEnergy(double mass, double velocity) {
@@ -32,9 +59,8 @@ public class PhysicsService {
 
     public double calculatePotentialEnergy(double mass, double height) {
         double result = 0;
-        for (int i = 0; i < 1000; i++) {
-            result += mass * GRAVITY * height;
-        }
+        double increment = mass * GRAVITY * height;
+        result = closedForms.repeatedSum(result, increment, 1000);
         return result / 1000;
     }
 
@@ -43,9 +69,19 @@ public class PhysicsService {
     }
 
     public void cacheCalculation(String key, double value) {
-        if (!calculationsCache.containsKey(key)) {
-            calculationsCache.put(key, value);
-        }
+        calculationsCache.putIfAbsent(key, value);
+    }
+
+    public CacheStats getCacheStats() {
+        return calculationsCache.stats();
+    }
+
+    public ClosedFormEvaluator getClosedFormEvaluator() {
+        return closedForms;
+    }
+
+    public void setRandomSource(RandomSource randomSource) {
+        this.randomSource = randomSource;
     }
 
     public String describeForceCalculation(double mass, double acceleration) {
@@ -107,11 +143,20 @@ public class PhysicsService {
     }
 
     public double calculateElectricField(double charge, double distance) {
-        return (8.9875517923 * Math.pow(10, 9)) * charge / (distance * distance);
+        return COULOMB_CONSTANT * charge / (distance * distance);
     }
 
     public double calculateGravitationalForce(double mass1, double mass2, double distance) {
-        return (6.67430 * Math.pow(10, -11)) * mass1 * mass2 / (distance * distance);
+        return GRAVITATIONAL_CONSTANT * mass1 * mass2 / (distance * distance);
+    }
+
+    /**
+     * Many-body version of {@link #calculateGravitationalForce}: advances every body of {@code system}
+     * under the pairwise attraction of all the others, using the same gravitational constant.
+     */
+    public NBodySystem simulateNBody(NBodySystem system, double timeStep, int totalSteps, double softening) {
+        new NBodySimulator(softening).run(system, timeStep, totalSteps);
+        return system;
     }
 
     public double calculateCapacitance(double charge, double voltage) {
@@ -151,11 +196,11 @@ public class PhysicsService {
     }
 
     public double calculatePhotonEnergy(double frequency) {
-        return 6.62607015 * Math.pow(10, -34) * frequency;
+        return PLANCK_CONSTANT * frequency;
     }
 
     public double calculateDeBroglieWavelength(double mass, double velocity) {
-        return 6.62607015 * Math.pow(10, -34) / (mass * velocity);
+        return PLANCK_CONSTANT / (mass * velocity);
     }
 
     public double calculateThermalConductivity(double heatTransfer, double area, double temperatureDifference, double thickness) {
@@ -171,7 +216,7 @@ public class PhysicsService {
     }
 
     public double calculateSoundLevel(double intensity) {
-        return 10 * Math.log10(intensity / Math.pow(10, -12));
+        return 10 * Math.log10(intensity / REFERENCE_SOUND_INTENSITY);
     }
 
     public double calculateCentripetalForce(double mass, double velocity, double radius) {
@@ -179,11 +224,11 @@ public class PhysicsService {
     }
 
     public double calculateEscapeVelocity(double mass, double radius) {
-        return Math.sqrt(2 * 6.67430 * Math.pow(10, -11) * mass / radius);
+        return Math.sqrt(2 * GRAVITATIONAL_CONSTANT * mass / radius);
     }
 
     public double calculateOrbitalSpeed(double mass, double radius) {
-        return Math.sqrt(6.67430 * Math.pow(10, -11) * mass / radius);
+        return Math.sqrt(GRAVITATIONAL_CONSTANT * mass / radius);
     }
 
     public double calculatePeriodOfOrbit(double radius, double orbitalSpeed) {
@@ -219,7 +264,7 @@ public class PhysicsService {
     }
 
     public double calculateCoulombForce(double charge1, double charge2, double distance) {
-        return (8.9875517923 * Math.pow(10, 9)) * charge1 * charge2 / (distance * distance);
+        return COULOMB_CONSTANT * charge1 * charge2 / (distance * distance);
     }
 
     public double calculateTotalEnergy(double kineticEnergy, double potentialEnergy) {
@@ -258,33 +303,50 @@ public class PhysicsService {
         return (actualVaporPressure / saturationVaporPressure) * 100;
     }
 
+    /**
+     * @return {@code x, y} pairs, one per step
+     */
     public double[] calculateProjectileMotion(double initialVelocity, double launchAngle, double timeStep, int totalSteps) {
         double[] positions = new double[totalSteps * 2];
+        calculateProjectileMotion(initialVelocity, launchAngle, timeStep, totalSteps, (step, column, value) -> positions[step * 2 + column] = value);
+        return positions;
+    }
+
+    public void calculateProjectileMotion(double initialVelocity, double launchAngle, double timeStep, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Position", totalSteps, 2);
         double radians = Math.toRadians(launchAngle);
         double initialVelocityX = initialVelocity * Math.cos(radians);
         double initialVelocityY = initialVelocity * Math.sin(radians);
 
         for (int i = 0; i < totalSteps; i++) {
             double t = i * timeStep;
-            positions[i * 2] = initialVelocityX * t;
-            positions[i * 2 + 1] = initialVelocityY * t - 0.5 * GRAVITY * t * t;
+            sink.accept(i, 0, initialVelocityX * t);
+            sink.accept(i, 1, initialVelocityY * t - 0.5 * GRAVITY * t * t);
         }
 
-        return positions;
+        sink.end();
     }
 
     public String simulateComplexFluidFlow(double fluidDensity, double fluidViscosity, double pipeLength, double pipeRadius, int steps) {
-        double[] velocities = new double[steps];
+        return simulateComplexFluidFlowTrajectory(fluidDensity, fluidViscosity, pipeLength, pipeRadius, steps).toString();
+    }
+
+    public Trajectory simulateComplexFluidFlowTrajectory(double fluidDensity, double fluidViscosity, double pipeLength, double pipeRadius, int steps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateComplexFluidFlow(fluidDensity, fluidViscosity, pipeLength, pipeRadius, steps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateComplexFluidFlow(double fluidDensity, double fluidViscosity, double pipeLength, double pipeRadius, int steps, TrajectorySink sink) {
         double pressureDrop = (fluidDensity - fluidViscosity) * pipeLength / (pipeRadius * pipeRadius);
         double initialVelocity = pressureDrop / fluidDensity;
-        StringBuilder result = new StringBuilder();
+        sink.begin("At step ", "Velocity", steps, 1);
 
         for (int i = 0; i < steps; i++) {
-            velocities[i] = initialVelocity * (1 - Math.pow((i / (double) steps), 2));
-            result.append("At step ").append(i).append(": Velocity = ").append(velocities[i]).append("\n");
+            sink.accept(i, initialVelocity * (1 - Math.pow((i / (double) steps), 2)));
         }
 
-        return result.toString();
+        sink.end();
     }
 
     public double[] simulateElasticCollision(double mass1, double velocity1, double mass2, double velocity2) {
@@ -315,19 +377,69 @@ public class PhysicsService {
         return temperature;
     }
 
+    /**
+     * Integrates Newton's law of cooling to exactly {@code time} with the given scheme; the last step is
+     * shortened if {@code time} is not a multiple of {@code timeStep}. The system is first order, so
+     * only {@link FixedStepIntegrator#EULER} and {@link FixedStepIntegrator#RK4} apply.
+     */
+    public double simulateHeatConduction(double initialTemperature, double ambientTemperature, double heatTransferCoefficient, double time, double timeStep, Integrator integrator) {
+        requirePositiveStep(timeStep);
+        double[] state = {initialTemperature};
+        OdeSystem system = heatConduction(ambientTemperature, heatTransferCoefficient);
+        int fullSteps = (int) Math.max(0, Math.min(Math.floor(time / timeStep), Integer.MAX_VALUE));
+        integrator.integrate(system, 0, state, timeStep, fullSteps, StepObserver.NONE);
+        double remaining = time - fullSteps * timeStep;
+        if (remaining > 0) {
+            integrator.integrate(system, fullSteps * timeStep, state, remaining, 1, StepObserver.NONE);
+        }
+        return state[0];
+    }
+
+    public IntegrationReport simulateHeatConductionAdaptive(double initialTemperature, double ambientTemperature, double heatTransferCoefficient, double time, DormandPrinceIntegrator integrator) {
+        double[] state = {initialTemperature};
+        return integrator.integrate(heatConduction(ambientTemperature, heatTransferCoefficient), 0, state, time, 0, StepObserver.NONE);
+    }
+
+    /**
+     * Spatial version of {@link #simulateHeatConduction(double, double, double, double, double)}: heat
+     * diffuses between the cells of {@code temperatures} while every cell loses heat to the ambient
+     * temperature. The grid edges are insulated, so a uniform grid evolves exactly like the scalar
+     * method, including the number of steps taken.
+     *
+     * @throws IllegalArgumentException if {@code timeStep} is not positive or {@code time} needs more than
+     *                                  {@link Integer#MAX_VALUE} steps
+     */
+    public DiffusionGrid simulateHeatConduction(DiffusionGrid temperatures, double thermalDiffusivity, double ambientTemperature, double heatTransferCoefficient, double time, double timeStep) {
+        requirePositiveStep(timeStep);
+        if (time / timeStep > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("time / timeStep exceeds " + Integer.MAX_VALUE + " steps: " + time + " / " + timeStep);
+        }
+        long steps = 0;
+        for (double t = 0; t < time; t += timeStep) {
+            steps++;
+        }
+        if (steps > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("time / timeStep exceeds " + Integer.MAX_VALUE + " steps: " + time + " / " + timeStep);
+        }
+        new DiffusionSolver(thermalDiffusivity, heatTransferCoefficient, ambientTemperature, DiffusionSolver.Boundary.INSULATED, 0)
+                .run(temperatures, timeStep, (int) steps);
+        return temperatures;
+    }
+
     public double simulateDampedOscillator(double mass, double springConstant, double dampingCoefficient, double initialDisplacement, double initialVelocity, double timeStep, int totalSteps) {
-        double[] positions = new double[totalSteps];
-        double velocity = initialVelocity;
-        double position = initialDisplacement;
+        return simulateDampedOscillator(mass, springConstant, dampingCoefficient, initialDisplacement, initialVelocity, timeStep, totalSteps, FixedStepIntegrator.EULER);
+    }
 
-        for (int i = 0; i < totalSteps; i++) {
-            double acceleration = -(springConstant / mass) * position - (dampingCoefficient / mass) * velocity;
-            velocity += acceleration * timeStep;
-            position += velocity * timeStep;
-            positions[i] = position;
-        }
+    public double simulateDampedOscillator(double mass, double springConstant, double dampingCoefficient, double initialDisplacement, double initialVelocity, double timeStep, int totalSteps, Integrator integrator) {
+        requirePositiveSteps(totalSteps);
+        double[] state = {initialDisplacement, initialVelocity};
+        integrator.integrate(dampedOscillator(mass, springConstant, dampingCoefficient), 0, state, timeStep, totalSteps, StepObserver.NONE);
+        return state[0];
+    }
 
-        return positions[totalSteps - 1];
+    public IntegrationReport simulateDampedOscillatorAdaptive(double mass, double springConstant, double dampingCoefficient, double initialDisplacement, double initialVelocity, double duration, DormandPrinceIntegrator integrator) {
+        double[] state = {initialDisplacement, initialVelocity};
+        return integrator.integrate(dampedOscillator(mass, springConstant, dampingCoefficient), 0, state, duration, 0, StepObserver.NONE);
     }
 
     public double calculateFluidResistance(double fluidDensity, double flowVelocity, double crossSectionalArea, double dragCoefficient) {
@@ -338,12 +450,10 @@ public class PhysicsService {
     public double simulateTurbulentFlow(double fluidDensity, double flowVelocity, double pipeDiameter, double viscosity, double timeStep, int steps) {
         double reynoldsNumber = (fluidDensity * flowVelocity * pipeDiameter) / viscosity;
         double[] velocities = new double[steps];
-        StringBuilder simulationData = new StringBuilder();
 
         for (int i = 0; i < steps; i++) {
             double velocityFactor = 1.0 / (1.0 + reynoldsNumber * timeStep);
             velocities[i] = flowVelocity * velocityFactor;
-            simulationData.append("Step ").append(i).append(": Velocity = ").append(velocities[i]).append("\n");
         }
 
         return velocities[steps - 1];
@@ -351,12 +461,18 @@ public class PhysicsService {
 
     public double[] simulateVortexFormation(double fluidDensity, double angularVelocity, double radius, double timeStep, int totalSteps) {
         double[] positions = new double[totalSteps];
+        simulateVortexFormation(fluidDensity, angularVelocity, radius, timeStep, totalSteps, (step, column, value) -> positions[step] = value);
+        return positions;
+    }
+
+    public void simulateVortexFormation(double fluidDensity, double angularVelocity, double radius, double timeStep, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Radial Velocity", totalSteps, 1);
         for (int i = 0; i < totalSteps; i++) {
             double time = i * timeStep;
             double radialVelocity = angularVelocity * radius * time;
-            positions[i] = radialVelocity;
+            sink.accept(i, radialVelocity);
         }
-        return positions;
+        sink.end();
     }
 
     public double simulateEntropyChange(double initialTemperature, double finalTemperature, double heatTransfer, double timeStep, int totalSteps) {
@@ -373,16 +489,24 @@ public class PhysicsService {
     }
 
     public String simulateQuantumTunneling(double particleMass, double barrierHeight, double barrierWidth, int timeSteps) {
-        double[] probabilities = new double[timeSteps];
-        StringBuilder results = new StringBuilder();
+        return simulateQuantumTunnelingTrajectory(particleMass, barrierHeight, barrierWidth, timeSteps).toString();
+    }
+
+    public Trajectory simulateQuantumTunnelingTrajectory(double particleMass, double barrierHeight, double barrierWidth, int timeSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateQuantumTunneling(particleMass, barrierHeight, barrierWidth, timeSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateQuantumTunneling(double particleMass, double barrierHeight, double barrierWidth, int timeSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Probability", timeSteps, 1);
 
         for (int i = 0; i < timeSteps; i++) {
             double time = i * barrierWidth / timeSteps;
-            probabilities[i] = Math.exp(-2 * barrierHeight * barrierWidth / particleMass);
-            results.append("Step ").append(i).append(": Probability = ").append(probabilities[i]).append("\n");
+            sink.accept(i, Math.exp(-2 * barrierHeight * barrierWidth / particleMass));
         }
 
-        return results.toString();
+        sink.end();
     }
 
     public double simulateNeutronDiffusion(double initialConcentration, double diffusionCoefficient, double reactorSize, double timeStep, int totalSteps) {
@@ -393,56 +517,100 @@ public class PhysicsService {
         return concentration;
     }
 
+    /**
+     * Integrates the same decay to {@code duration} with step sizes chosen by {@code integrator}'s
+     * tolerances; the report says how many steps that took.
+     */
+    public IntegrationReport simulateNeutronDiffusionAdaptive(double initialConcentration, double diffusionCoefficient, double reactorSize, double duration, DormandPrinceIntegrator integrator) {
+        double[] state = {initialConcentration};
+        OdeSystem system = (t, y, out) -> out[0] = -(diffusionCoefficient * (y[0] / reactorSize));
+        return integrator.integrate(system, 0, state, duration, 0, StepObserver.NONE);
+    }
+
+    /**
+     * Spatial version of {@link #simulateNeutronDiffusion(double, double, double, double, int)}:
+     * neutrons diffuse between the cells of {@code concentrations}, are absorbed at the same rate as in
+     * the scalar model, and leak out through the grid edges, which are held at zero.
+     */
+    public DiffusionGrid simulateNeutronDiffusion(DiffusionGrid concentrations, double diffusionCoefficient, double reactorSize, double timeStep, int totalSteps) {
+        new DiffusionSolver(diffusionCoefficient, diffusionCoefficient / reactorSize, 0, DiffusionSolver.Boundary.FIXED, 0)
+                .run(concentrations, timeStep, totalSteps);
+        return concentrations;
+    }
+
     public double[] simulateRelativisticMomentum(double mass, double velocity, double speedOfLight, int totalSteps) {
         double[] momenta = new double[totalSteps];
-        double gamma;
+        simulateRelativisticMomentum(mass, velocity, speedOfLight, totalSteps, (step, column, value) -> momenta[step] = value);
+        return momenta;
+    }
+
+    public void simulateRelativisticMomentum(double mass, double velocity, double speedOfLight, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Momentum", totalSteps, 1);
+        double gamma = 1 / Math.sqrt(1 - Math.pow(velocity / speedOfLight, 2));
+        double momentum = mass * velocity * gamma;
 
         for (int i = 0; i < totalSteps; i++) {
-            gamma = 1 / Math.sqrt(1 - Math.pow(velocity / speedOfLight, 2));
-            momenta[i] = mass * velocity * gamma;
+            sink.accept(i, momentum);
         }
 
-        return momenta;
+        sink.end();
     }
 
     public double[] simulateBlackHoleHawkingRadiation(double blackHoleMass, double timeStep, int totalSteps) {
         double[] radiation = new double[totalSteps];
-        double constant = 1.055 * Math.pow(10, -34);
+        simulateBlackHoleHawkingRadiation(blackHoleMass, timeStep, totalSteps, (step, column, value) -> radiation[step] = value);
+        return radiation;
+    }
+
+    public void simulateBlackHoleHawkingRadiation(double blackHoleMass, double timeStep, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Radiation", totalSteps, 1);
+        double constant = REDUCED_PLANCK_CONSTANT;
 
         for (int i = 0; i < totalSteps; i++) {
             double time = i * timeStep;
-            radiation[i] = constant / (8 * Math.PI * blackHoleMass * time);
+            sink.accept(i, constant / (8 * Math.PI * blackHoleMass * time));
         }
 
-        return radiation;
+        sink.end();
     }
 
     public String simulateCosmicExpansion(double hubbleConstant, double initialDistance, double timeStep, int totalSteps) {
-        StringBuilder expansionData = new StringBuilder();
+        return simulateCosmicExpansionTrajectory(hubbleConstant, initialDistance, timeStep, totalSteps).toString();
+    }
+
+    public Trajectory simulateCosmicExpansionTrajectory(double hubbleConstant, double initialDistance, double timeStep, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateCosmicExpansion(hubbleConstant, initialDistance, timeStep, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateCosmicExpansion(double hubbleConstant, double initialDistance, double timeStep, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Distance", totalSteps, 1);
         double distance = initialDistance;
 
         for (int i = 0; i < totalSteps; i++) {
             double time = i * timeStep;
             distance += hubbleConstant * distance * timeStep;
-            expansionData.append("Step ").append(i).append(": Distance = ").append(distance).append("\n");
+            sink.accept(i, distance);
         }
 
-        return expansionData.toString();
+        sink.end();
     }
 
     public double simulateQuantumHarmonicOscillator(double particleMass, double springConstant, double timeStep, int totalSteps) {
-        double[] positions = new double[totalSteps];
-        double velocity = 0;
-        double position = 1.0;
+        return simulateQuantumHarmonicOscillator(particleMass, springConstant, timeStep, totalSteps, FixedStepIntegrator.EULER);
+    }
 
-        for (int i = 0; i < totalSteps; i++) {
-            double acceleration = -(springConstant / particleMass) * position;
-            velocity += acceleration * timeStep;
-            position += velocity * timeStep;
-            positions[i] = position;
-        }
+    public double simulateQuantumHarmonicOscillator(double particleMass, double springConstant, double timeStep, int totalSteps, Integrator integrator) {
+        requirePositiveSteps(totalSteps);
+        double[] state = {1.0, 0};
+        integrator.integrate(harmonicOscillator(particleMass, springConstant), 0, state, timeStep, totalSteps, StepObserver.NONE);
+        return state[0];
+    }
 
-        return positions[totalSteps - 1];
+    public IntegrationReport simulateQuantumHarmonicOscillatorAdaptive(double particleMass, double springConstant, double duration, DormandPrinceIntegrator integrator) {
+        double[] state = {1.0, 0};
+        return integrator.integrate(harmonicOscillator(particleMass, springConstant), 0, state, duration, 0, StepObserver.NONE);
     }
 
     public double calculateQuantumSuperposition(double waveFunction1, double waveFunction2, double time) {
@@ -454,16 +622,24 @@ public class PhysicsService {
     }
 
     public String simulateNuclearDecay(double initialMass, double decayConstant, double timeStep, int totalSteps) {
-        double[] masses = new double[totalSteps];
-        StringBuilder decayData = new StringBuilder();
+        return simulateNuclearDecayTrajectory(initialMass, decayConstant, timeStep, totalSteps).toString();
+    }
+
+    public Trajectory simulateNuclearDecayTrajectory(double initialMass, double decayConstant, double timeStep, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateNuclearDecay(initialMass, decayConstant, timeStep, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateNuclearDecay(double initialMass, double decayConstant, double timeStep, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Mass", totalSteps, 1);
 
         for (int i = 0; i < totalSteps; i++) {
             double time = i * timeStep;
-            masses[i] = initialMass * Math.exp(-decayConstant * time);
-            decayData.append("Step ").append(i).append(": Mass = ").append(masses[i]).append("\n");
+            sink.accept(i, initialMass * Math.exp(-decayConstant * time));
         }
 
-        return decayData.toString();
+        sink.end();
     }
 
     public double simulateNuclearFission(double neutronCount, double criticalMass, double timeStep, int totalSteps) {
@@ -479,14 +655,24 @@ public class PhysicsService {
     }
 
     public String simulatePhotonCollision(double photonEnergy1, double photonEnergy2, int timeSteps) {
-        StringBuilder collisionData = new StringBuilder();
+        return simulatePhotonCollisionTrajectory(photonEnergy1, photonEnergy2, timeSteps).toString();
+    }
+
+    public Trajectory simulatePhotonCollisionTrajectory(double photonEnergy1, double photonEnergy2, int timeSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulatePhotonCollision(photonEnergy1, photonEnergy2, timeSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulatePhotonCollision(double photonEnergy1, double photonEnergy2, int timeSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Total Energy", timeSteps, 1);
         double totalEnergy = photonEnergy1 + photonEnergy2;
 
         for (int i = 0; i < timeSteps; i++) {
-            collisionData.append("Step ").append(i).append(": Total Energy = ").append(totalEnergy).append("\n");
+            sink.accept(i, totalEnergy);
         }
 
-        return collisionData.toString();
+        sink.end();
     }
 
     public double simulateMagnetosphere(double solarWindPressure, double magneticFieldStrength, double timeStep, int totalSteps) {
@@ -510,23 +696,31 @@ public class PhysicsService {
 
     public double simulateSchrodingerEquation(double waveFunction, double potentialEnergy, double timeStep, int totalSteps) {
         double quantumState = waveFunction;
-        for (int i = 0; i < totalSteps; i++) {
-            quantumState *= Math.cos(potentialEnergy * timeStep);
-        }
-        return quantumState;
+        double factor = Math.cos(potentialEnergy * timeStep);
+        return closedForms.repeatedProduct(quantumState, factor, totalSteps);
     }
 
     public String simulateGravitationalLens(double mass, double lightAngle, double distance, int steps) {
-        StringBuilder lensData = new StringBuilder();
-        double deflectionAngle = 4 * 6.67430 * Math.pow(10, -11) * mass / (distance * lightAngle);
+        return simulateGravitationalLensTrajectory(mass, lightAngle, distance, steps).toString();
+    }
+
+    public Trajectory simulateGravitationalLensTrajectory(double mass, double lightAngle, double distance, int steps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateGravitationalLens(mass, lightAngle, distance, steps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateGravitationalLens(double mass, double lightAngle, double distance, int steps, TrajectorySink sink) {
+        sink.begin("Step ", "Lens Effect", steps, 1);
+        double deflectionAngle = 4 * GRAVITATIONAL_CONSTANT * mass / (distance * lightAngle);
         double lensEffect = 0;
 
         for (int i = 0; i < steps; i++) {
             lensEffect += deflectionAngle / (i + 1);
-            lensData.append("Step ").append(i).append(": Lens Effect = ").append(lensEffect).append("\n");
+            sink.accept(i, lensEffect);
         }
 
-        return lensData.toString();
+        sink.end();
     }
 
     public double simulateBlackHoleAccretionDisk(double mass, double diskRadius, double angularVelocity, double timeStep, int totalSteps) {
@@ -541,24 +735,31 @@ public class PhysicsService {
 
     public double simulateDarkEnergyExpansion(double universeRadius, double darkEnergyDensity, double timeStep, int totalSteps) {
         double expansionRate = 0;
+        double increment = darkEnergyDensity * universeRadius * Math.pow(timeStep, 2);
 
-        for (int i = 0; i < totalSteps; i++) {
-            expansionRate += darkEnergyDensity * universeRadius * Math.pow(timeStep, 2);
-        }
-
-        return expansionRate;
+        return closedForms.repeatedSum(expansionRate, increment, totalSteps);
     }
 
     public String simulateAntimatterAnnihilation(double antimatterMass, double matterMass, int steps) {
-        StringBuilder annihilationData = new StringBuilder();
+        return simulateAntimatterAnnihilationTrajectory(antimatterMass, matterMass, steps).toString();
+    }
+
+    public Trajectory simulateAntimatterAnnihilationTrajectory(double antimatterMass, double matterMass, int steps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateAntimatterAnnihilation(antimatterMass, matterMass, steps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateAntimatterAnnihilation(double antimatterMass, double matterMass, int steps, TrajectorySink sink) {
+        sink.begin("Step ", "Energy Released", steps, 1);
         double energyReleased = 0;
 
         for (int i = 0; i < steps; i++) {
-            energyReleased += (antimatterMass + matterMass) * 3 * Math.pow(10, 8);
-            annihilationData.append("Step ").append(i).append(": Energy Released = ").append(energyReleased).append("\n");
+            energyReleased += (antimatterMass + matterMass) * SPEED_OF_LIGHT;
+            sink.accept(i, energyReleased);
         }
 
-        return annihilationData.toString();
+        sink.end();
     }
 
     public double simulateElectromagneticWavePropagation(double frequency, double amplitude, double distance, double timeStep, int totalSteps) {
@@ -573,48 +774,71 @@ public class PhysicsService {
 
     public double simulateGammaRayBurst(double energy, double distance, int totalSteps) {
         double intensity = 0;
+        double increment = energy / (4 * Math.PI * Math.pow(distance, 2));
 
-        for (int i = 0; i < totalSteps; i++) {
-            intensity += energy / (4 * Math.PI * Math.pow(distance, 2));
-        }
-
-        return intensity;
+        return closedForms.repeatedSum(intensity, increment, totalSteps);
     }
 
     public String simulatePlasmaDynamics(double particleDensity, double temperature, double magneticField, int timeSteps) {
-        StringBuilder dynamicsData = new StringBuilder();
+        return simulatePlasmaDynamicsTrajectory(particleDensity, temperature, magneticField, timeSteps).toString();
+    }
+
+    public Trajectory simulatePlasmaDynamicsTrajectory(double particleDensity, double temperature, double magneticField, int timeSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulatePlasmaDynamics(particleDensity, temperature, magneticField, timeSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulatePlasmaDynamics(double particleDensity, double temperature, double magneticField, int timeSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Plasma Velocity", timeSteps, 1);
         double plasmaVelocity = 0;
 
         for (int i = 0; i < timeSteps; i++) {
             plasmaVelocity += (temperature * particleDensity) / magneticField;
-            dynamicsData.append("Step ").append(i).append(": Plasma Velocity = ").append(plasmaVelocity).append("\n");
+            sink.accept(i, plasmaVelocity);
         }
 
-        return dynamicsData.toString();
+        sink.end();
     }
 
     public double[] simulateSupernovaExplosion(double coreMass, double coreTemperature, double timeStep, int totalSteps) {
         double[] shockwaveVelocity = new double[totalSteps];
+        simulateSupernovaExplosion(coreMass, coreTemperature, timeStep, totalSteps, (step, column, value) -> shockwaveVelocity[step] = value);
+        return shockwaveVelocity;
+    }
+
+    public void simulateSupernovaExplosion(double coreMass, double coreTemperature, double timeStep, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Shockwave Velocity", totalSteps, 1);
         double velocity = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             velocity += coreMass * Math.exp(-coreTemperature / (i + 1));
-            shockwaveVelocity[i] = velocity;
+            sink.accept(i, velocity);
         }
 
-        return shockwaveVelocity;
+        sink.end();
     }
 
     public String simulateStringTheoryVibrations(double stringTension, double frequency, int totalSteps) {
-        StringBuilder vibrationData = new StringBuilder();
+        return simulateStringTheoryVibrationsTrajectory(stringTension, frequency, totalSteps).toString();
+    }
+
+    public Trajectory simulateStringTheoryVibrationsTrajectory(double stringTension, double frequency, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateStringTheoryVibrations(stringTension, frequency, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateStringTheoryVibrations(double stringTension, double frequency, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Vibration Amplitude", totalSteps, 1);
         double vibrationAmplitude = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             vibrationAmplitude += Math.sin(2 * Math.PI * frequency * i) * stringTension;
-            vibrationData.append("Step ").append(i).append(": Vibration Amplitude = ").append(vibrationAmplitude).append("\n");
+            sink.accept(i, vibrationAmplitude);
         }
 
-        return vibrationData.toString();
+        sink.end();
     }
 
     public double simulateGravitationalWaves(double mass1, double mass2, double distance, double frequency, double timeStep, int totalSteps) {
@@ -629,12 +853,9 @@ public class PhysicsService {
 
     public double simulateCosmicMicrowaveBackground(double temperature, double radiationDensity, double timeStep, int totalSteps) {
         double energy = 0;
+        double increment = radiationDensity * Math.pow(temperature, 4) * timeStep;
 
-        for (int i = 0; i < totalSteps; i++) {
-            energy += radiationDensity * Math.pow(temperature, 4) * timeStep;
-        }
-
-        return energy;
+        return closedForms.repeatedSum(energy, increment, totalSteps);
     }
 
     public double simulateTachyonicField(double fieldStrength, double decayRate, double timeStep, int totalSteps) {
@@ -648,29 +869,36 @@ public class PhysicsService {
     }
 
     public String simulateWormholeTravel(double entryMass, double exitMass, double wormholeRadius, int totalSteps) {
-        StringBuilder travelData = new StringBuilder();
+        return simulateWormholeTravelTrajectory(entryMass, exitMass, wormholeRadius, totalSteps).toString();
+    }
+
+    public Trajectory simulateWormholeTravelTrajectory(double entryMass, double exitMass, double wormholeRadius, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateWormholeTravel(entryMass, exitMass, wormholeRadius, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateWormholeTravel(double entryMass, double exitMass, double wormholeRadius, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Travel Time", totalSteps, 1);
         double travelTime = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             travelTime += wormholeRadius / (entryMass + exitMass) * Math.sin(i);
-            travelData.append("Step ").append(i).append(": Travel Time = ").append(travelTime).append("\n");
+            sink.accept(i, travelTime);
         }
 
-        return travelData.toString();
+        sink.end();
     }
 
     public double simulateNeutrinoOscillation(double energy, double distance, double massDifference, double timeStep, int totalSteps) {
         double oscillationProbability = 0;
+        double increment = Math.sin(1.27 * massDifference * distance / energy) * timeStep;
 
-        for (int i = 0; i < totalSteps; i++) {
-            oscillationProbability += Math.sin(1.27 * massDifference * distance / energy) * timeStep;
-        }
-
-        return oscillationProbability;
+        return closedForms.repeatedSum(oscillationProbability, increment, totalSteps);
     }
 
     public double simulateEventHorizon(double blackHoleMass, double distance, int totalSteps) {
-        double eventHorizonRadius = 2 * 6.67430 * Math.pow(10, -11) * blackHoleMass / Math.pow(3 * Math.pow(10, 8), 2);
+        double eventHorizonRadius = 2 * GRAVITATIONAL_CONSTANT * blackHoleMass / (SPEED_OF_LIGHT * SPEED_OF_LIGHT);
         double lightEscapeVelocity = 0;
 
         for (int i = 0; i < totalSteps; i++) {
@@ -690,26 +918,39 @@ public class PhysicsService {
         return field;
     }
 
+    public IntegrationReport simulateHiggsFieldAdaptive(double fieldStrength, double mass, double couplingConstant, double duration, DormandPrinceIntegrator integrator) {
+        double[] state = {fieldStrength};
+        OdeSystem system = (t, y, out) -> out[0] = -(couplingConstant * mass * y[0]);
+        return integrator.integrate(system, 0, state, duration, 0, StepObserver.NONE);
+    }
+
     public String simulateMuonDecay(double initialCount, double decayConstant, double timeStep, int totalSteps) {
-        StringBuilder decayData = new StringBuilder();
+        return simulateMuonDecayTrajectory(initialCount, decayConstant, timeStep, totalSteps).toString();
+    }
+
+    public Trajectory simulateMuonDecayTrajectory(double initialCount, double decayConstant, double timeStep, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateMuonDecay(initialCount, decayConstant, timeStep, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateMuonDecay(double initialCount, double decayConstant, double timeStep, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Muon Count", totalSteps, 1);
         double muonCount = initialCount;
 
         for (int i = 0; i < totalSteps; i++) {
             muonCount *= Math.exp(-decayConstant * timeStep);
-            decayData.append("Step ").append(i).append(": Muon Count = ").append(muonCount).append("\n");
+            sink.accept(i, muonCount);
         }
 
-        return decayData.toString();
+        sink.end();
     }
 
     public double simulatePionProduction(double particleEnergy, double particleMass, double velocity, double timeStep, int totalSteps) {
         double pionCount = 0;
+        double increment = (particleEnergy - particleMass) * velocity * timeStep;
 
-        for (int i = 0; i < totalSteps; i++) {
-            pionCount += (particleEnergy - particleMass) * velocity * timeStep;
-        }
-
-        return pionCount;
+        return closedForms.repeatedSum(pionCount, increment, totalSteps);
     }
 
     public double simulateAxionField(double fieldStrength, double potentialEnergy, double timeStep, int totalSteps) {
@@ -733,47 +974,61 @@ public class PhysicsService {
     }
 
     public String simulateQuantumTeleportation(double qubitState1, double qubitState2, int totalSteps) {
-        StringBuilder teleportationData = new StringBuilder();
+        return simulateQuantumTeleportationTrajectory(qubitState1, qubitState2, totalSteps).toString();
+    }
+
+    public Trajectory simulateQuantumTeleportationTrajectory(double qubitState1, double qubitState2, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateQuantumTeleportation(qubitState1, qubitState2, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateQuantumTeleportation(double qubitState1, double qubitState2, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Teleported State", totalSteps, 1);
         double entangledState = (qubitState1 + qubitState2) / 2;
 
         for (int i = 0; i < totalSteps; i++) {
             entangledState *= Math.cos(i * Math.PI / 4);
-            teleportationData.append("Step ").append(i).append(": Teleported State = ").append(entangledState).append("\n");
+            sink.accept(i, entangledState);
         }
 
-        return teleportationData.toString();
+        sink.end();
     }
 
     public double simulateGravitationalCollapse(double starMass, double radius, double timeStep, int totalSteps) {
         double collapseTime = 0;
+        double increment = (2 * GRAVITATIONAL_CONSTANT * starMass) / (radius * radius) * timeStep;
 
-        for (int i = 0; i < totalSteps; i++) {
-            collapseTime += (2 * 6.67430 * Math.pow(10, -11) * starMass) / (radius * radius) * timeStep;
-        }
-
-        return collapseTime;
+        return closedForms.repeatedSum(collapseTime, increment, totalSteps);
     }
 
     public double simulateCosmicInflation(double inflationRate, double universeSize, double timeStep, int totalSteps) {
         double expansion = universeSize;
+        double factor = 1 + inflationRate * timeStep;
 
-        for (int i = 0; i < totalSteps; i++) {
-            expansion *= 1 + inflationRate * timeStep;
-        }
-
-        return expansion;
+        return closedForms.repeatedProduct(expansion, factor, totalSteps);
     }
 
     public String simulateDarkMatterHalos(double haloMass, double velocityDispersion, int totalSteps) {
-        StringBuilder haloData = new StringBuilder();
+        return simulateDarkMatterHalosTrajectory(haloMass, velocityDispersion, totalSteps).toString();
+    }
+
+    public Trajectory simulateDarkMatterHalosTrajectory(double haloMass, double velocityDispersion, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateDarkMatterHalos(haloMass, velocityDispersion, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateDarkMatterHalos(double haloMass, double velocityDispersion, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Halo Radius", totalSteps, 1);
         double haloRadius = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             haloRadius += haloMass * velocityDispersion * i;
-            haloData.append("Step ").append(i).append(": Halo Radius = ").append(haloRadius).append("\n");
+            sink.accept(i, haloRadius);
         }
 
-        return haloData.toString();
+        sink.end();
     }
 
     public double simulateQuantumFieldFluctuations(double fieldStrength, double vacuumEnergy, int totalSteps) {
@@ -808,24 +1063,31 @@ public class PhysicsService {
 
     public double simulateRelativisticEnergy(double mass, double velocity, double speedOfLight, int totalSteps) {
         double energy = 0;
+        double increment = mass * Math.pow(velocity, 2) / Math.sqrt(1 - Math.pow(velocity / speedOfLight, 2));
 
-        for (int i = 0; i < totalSteps; i++) {
-            energy += mass * Math.pow(velocity, 2) / Math.sqrt(1 - Math.pow(velocity / speedOfLight, 2));
-        }
-
-        return energy;
+        return closedForms.repeatedSum(energy, increment, totalSteps);
     }
 
     public String simulateQuantumVacuum(double vacuumEnergyDensity, double timeStep, int totalSteps) {
-        StringBuilder vacuumData = new StringBuilder();
+        return simulateQuantumVacuumTrajectory(vacuumEnergyDensity, timeStep, totalSteps).toString();
+    }
+
+    public Trajectory simulateQuantumVacuumTrajectory(double vacuumEnergyDensity, double timeStep, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateQuantumVacuum(vacuumEnergyDensity, timeStep, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateQuantumVacuum(double vacuumEnergyDensity, double timeStep, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Vacuum Fluctuation", totalSteps, 1);
         double fluctuation = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             fluctuation += vacuumEnergyDensity * Math.cos(i * timeStep);
-            vacuumData.append("Step ").append(i).append(": Vacuum Fluctuation = ").append(fluctuation).append("\n");
+            sink.accept(i, fluctuation);
         }
 
-        return vacuumData.toString();
+        sink.end();
     }
 
     public double simulateSupersymmetryBreaking(double symmetryEnergy, double mass, int totalSteps) {
@@ -850,24 +1112,31 @@ public class PhysicsService {
 
     public double simulateRelativisticTimeDilation(double velocity, double speedOfLight, double time, int totalSteps) {
         double dilatedTime = time;
+        double factor = 1 / Math.sqrt(1 - Math.pow(velocity / speedOfLight, 2));
 
-        for (int i = 0; i < totalSteps; i++) {
-            dilatedTime *= 1 / Math.sqrt(1 - Math.pow(velocity / speedOfLight, 2));
-        }
-
-        return dilatedTime;
+        return closedForms.repeatedProduct(dilatedTime, factor, totalSteps);
     }
 
     public String simulatePhotonEmission(double electronEnergyLevel, double photonEnergy, int totalSteps) {
-        StringBuilder emissionData = new StringBuilder();
+        return simulatePhotonEmissionTrajectory(electronEnergyLevel, photonEnergy, totalSteps).toString();
+    }
+
+    public Trajectory simulatePhotonEmissionTrajectory(double electronEnergyLevel, double photonEnergy, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulatePhotonEmission(electronEnergyLevel, photonEnergy, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulatePhotonEmission(double electronEnergyLevel, double photonEnergy, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Photon Energy", totalSteps, 1);
         double emittedPhotonEnergy = photonEnergy;
 
         for (int i = 0; i < totalSteps; i++) {
             emittedPhotonEnergy += electronEnergyLevel * Math.sin(i * Math.PI / 3);
-            emissionData.append("Step ").append(i).append(": Photon Energy = ").append(emittedPhotonEnergy).append("\n");
+            sink.accept(i, emittedPhotonEnergy);
         }
 
-        return emissionData.toString();
+        sink.end();
     }
 
     public double simulateHawkingRadiation(double blackHoleMass, double eventHorizonRadius, int totalSteps) {
@@ -901,15 +1170,25 @@ public class PhysicsService {
     }
 
     public String simulateGravitonDetection(double gravitonMass, double detectorSensitivity, int totalSteps) {
-        StringBuilder detectionData = new StringBuilder();
+        return simulateGravitonDetectionTrajectory(gravitonMass, detectorSensitivity, totalSteps).toString();
+    }
+
+    public Trajectory simulateGravitonDetectionTrajectory(double gravitonMass, double detectorSensitivity, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateGravitonDetection(gravitonMass, detectorSensitivity, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateGravitonDetection(double gravitonMass, double detectorSensitivity, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Detection Probability", totalSteps, 1);
         double detectionProbability = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             detectionProbability += gravitonMass * detectorSensitivity / Math.pow(i + 1, 2);
-            detectionData.append("Step ").append(i).append(": Detection Probability = ").append(detectionProbability).append("\n");
+            sink.accept(i, detectionProbability);
         }
 
-        return detectionData.toString();
+        sink.end();
     }
 
     public double simulateQuantumFieldInteraction(double fieldStrength1, double fieldStrength2, double interactionConstant, int totalSteps) {
@@ -933,22 +1212,32 @@ public class PhysicsService {
     }
 
     public String simulateCosmicRayImpact(double rayEnergy, double atmosphereDensity, int totalSteps) {
-        StringBuilder impactData = new StringBuilder();
+        return simulateCosmicRayImpactTrajectory(rayEnergy, atmosphereDensity, totalSteps).toString();
+    }
+
+    public Trajectory simulateCosmicRayImpactTrajectory(double rayEnergy, double atmosphereDensity, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateCosmicRayImpact(rayEnergy, atmosphereDensity, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateCosmicRayImpact(double rayEnergy, double atmosphereDensity, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Impact Force", totalSteps, 1);
         double impactForce = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             impactForce += rayEnergy * atmosphereDensity / (i + 1);
-            impactData.append("Step ").append(i).append(": Impact Force = ").append(impactForce).append("\n");
+            sink.accept(i, impactForce);
         }
 
-        return impactData.toString();
+        sink.end();
     }
 
     public double simulateGravitationalTimeDilation(double mass, double distanceFromMass, double time, int totalSteps) {
         double dilatedTime = time;
 
         for (int i = 0; i < totalSteps; i++) {
-            dilatedTime *= 1 / Math.sqrt(1 - (2 * 6.67430 * Math.pow(10, -11) * mass) / (distanceFromMass * i + 1));
+            dilatedTime *= 1 / Math.sqrt(1 - (2 * GRAVITATIONAL_CONSTANT * mass) / (distanceFromMass * i + 1));
         }
 
         return dilatedTime;
@@ -975,15 +1264,25 @@ public class PhysicsService {
     }
 
     public String simulateNeutronCapture(double neutronEnergy, double nucleusMass, int totalSteps) {
-        StringBuilder captureData = new StringBuilder();
+        return simulateNeutronCaptureTrajectory(neutronEnergy, nucleusMass, totalSteps).toString();
+    }
+
+    public Trajectory simulateNeutronCaptureTrajectory(double neutronEnergy, double nucleusMass, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateNeutronCapture(neutronEnergy, nucleusMass, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateNeutronCapture(double neutronEnergy, double nucleusMass, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Capture Probability", totalSteps, 1);
         double captureProbability = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             captureProbability += neutronEnergy / Math.sqrt(nucleusMass * i + 1);
-            captureData.append("Step ").append(i).append(": Capture Probability = ").append(captureProbability).append("\n");
+            sink.accept(i, captureProbability);
         }
 
-        return captureData.toString();
+        sink.end();
     }
 
     public double simulateQuantumLoopGravity(double loopSize, double massDensity, double timeStep, int totalSteps) {
@@ -1007,15 +1306,25 @@ public class PhysicsService {
     }
 
     public String simulateAxionDetection(double axionMass, double detectorSensitivity, int totalSteps) {
-        StringBuilder detectionData = new StringBuilder();
+        return simulateAxionDetectionTrajectory(axionMass, detectorSensitivity, totalSteps).toString();
+    }
+
+    public Trajectory simulateAxionDetectionTrajectory(double axionMass, double detectorSensitivity, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateAxionDetection(axionMass, detectorSensitivity, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateAxionDetection(double axionMass, double detectorSensitivity, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Detection Probability", totalSteps, 1);
         double detectionProbability = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             detectionProbability += axionMass * detectorSensitivity / (i + 1);
-            detectionData.append("Step ").append(i).append(": Detection Probability = ").append(detectionProbability).append("\n");
+            sink.accept(i, detectionProbability);
         }
 
-        return detectionData.toString();
+        sink.end();
     }
 
     public double simulateQuantumFieldPerturbation(double fieldStrength, double potentialEnergy, int totalSteps) {
@@ -1039,15 +1348,25 @@ public class PhysicsService {
     }
 
     public String simulateQuantumCoherence(double coherenceLength, double timeStep, int totalSteps) {
-        StringBuilder coherenceData = new StringBuilder();
+        return simulateQuantumCoherenceTrajectory(coherenceLength, timeStep, totalSteps).toString();
+    }
+
+    public Trajectory simulateQuantumCoherenceTrajectory(double coherenceLength, double timeStep, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateQuantumCoherence(coherenceLength, timeStep, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateQuantumCoherence(double coherenceLength, double timeStep, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Coherence Length", totalSteps, 1);
         double coherence = coherenceLength;
 
         for (int i = 0; i < totalSteps; i++) {
             coherence *= Math.exp(-i * timeStep);
-            coherenceData.append("Step ").append(i).append(": Coherence Length = ").append(coherence).append("\n");
+            sink.accept(i, coherence);
         }
 
-        return coherenceData.toString();
+        sink.end();
     }
 
     public double simulateQuantumStateSuperposition(double state1, double state2, double probability, int totalSteps) {
@@ -1062,23 +1381,9 @@ public class PhysicsService {
 
     public double simulateRelativisticMassIncrease(double restMass, double velocity, double speedOfLight, int totalSteps) {
         double relativisticMass = restMass;
+        double factor = 1 / Math.sqrt(1 - Math.pow(velocity / speedOfLight, 2));
 
-        for (int i = 0; i < totalSteps; i++) {
-            relativisticMass *= 1 / Math.sqrt(1 - Math.pow(velocity / speedOfLight, 2));
-        }
-
-        return relativisticMass;
-    }
-
-    public String simulateQuantumTunneling(double barrierHeight, double particleMass, double barrierWidth, int totalSteps) {
-        StringBuilder tunnelingData = new StringBuilder();
-        double probability = Math.exp(-2 * barrierHeight * barrierWidth / particleMass);
-
-        for (int i = 0; i < totalSteps; i++) {
-            tunnelingData.append("Step ").append(i).append(": Tunneling Probability = ").append(probability).append("\n");
-        }
-
-        return tunnelingData.toString();
+        return closedForms.repeatedProduct(relativisticMass, factor, totalSteps);
     }
 
     public double simulateCosmicRedshift(double galaxyVelocity, double lightSpeed, double wavelength, int totalSteps) {
@@ -1102,15 +1407,25 @@ public class PhysicsService {
     }
 
     public String simulateMagneticFieldStrength(double current, double distance, double permeability, int totalSteps) {
-        StringBuilder magneticFieldData = new StringBuilder();
+        return simulateMagneticFieldStrengthTrajectory(current, distance, permeability, totalSteps).toString();
+    }
+
+    public Trajectory simulateMagneticFieldStrengthTrajectory(double current, double distance, double permeability, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateMagneticFieldStrength(current, distance, permeability, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateMagneticFieldStrength(double current, double distance, double permeability, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Field Strength", totalSteps, 1);
         double fieldStrength = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             fieldStrength = (permeability * current) / (2 * Math.PI * distance);
-            magneticFieldData.append("Step ").append(i).append(": Field Strength = ").append(fieldStrength).append("\n");
+            sink.accept(i, fieldStrength);
         }
 
-        return magneticFieldData.toString();
+        sink.end();
     }
 
     public double simulateQuantumFluctuation(double energyDensity, double vacuumEnergy, int totalSteps) {
@@ -1124,22 +1439,32 @@ public class PhysicsService {
     }
 
     public String simulateStellarCoreFusion(double coreTemperature, double fusionRate, double timeStep, int totalSteps) {
-        StringBuilder fusionData = new StringBuilder();
+        return simulateStellarCoreFusionTrajectory(coreTemperature, fusionRate, timeStep, totalSteps).toString();
+    }
+
+    public Trajectory simulateStellarCoreFusionTrajectory(double coreTemperature, double fusionRate, double timeStep, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateStellarCoreFusion(coreTemperature, fusionRate, timeStep, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateStellarCoreFusion(double coreTemperature, double fusionRate, double timeStep, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Energy Produced", totalSteps, 1);
         double energyProduced = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             energyProduced = fusionRate * Math.pow(coreTemperature, 4) * timeStep;
-            fusionData.append("Step ").append(i).append(": Energy Produced = ").append(energyProduced).append("\n");
+            sink.accept(i, energyProduced);
         }
 
-        return fusionData.toString();
+        sink.end();
     }
 
     public double simulateGravitationalSlingshot(double mass1, double mass2, double velocity, double distance, int totalSteps) {
         double newVelocity = velocity;
 
         for (int i = 0; i < totalSteps; i++) {
-            newVelocity += 2 * (6.67430 * Math.pow(10, -11) * mass1 * mass2) / (distance * velocity * i + 1);
+            newVelocity += 2 * (GRAVITATIONAL_CONSTANT * mass1 * mass2) / (distance * velocity * i + 1);
         }
 
         return newVelocity;
@@ -1147,25 +1472,33 @@ public class PhysicsService {
 
     public double simulateRelativisticLengthContraction(double initialLength, double velocity, double speedOfLight, int totalSteps) {
         double contractedLength = initialLength;
+        double factor = Math.sqrt(1 - Math.pow(velocity / speedOfLight, 2));
 
-        for (int i = 0; i < totalSteps; i++) {
-            contractedLength *= Math.sqrt(1 - Math.pow(velocity / speedOfLight, 2));
-        }
-
-        return contractedLength;
+        return closedForms.repeatedProduct(contractedLength, factor, totalSteps);
     }
 
     public String simulateParticleCollision(double mass1, double mass2, double velocity1, double velocity2, int totalSteps) {
-        StringBuilder collisionData = new StringBuilder();
+        return simulateParticleCollisionTrajectory(mass1, mass2, velocity1, velocity2, totalSteps).toString();
+    }
+
+    public Trajectory simulateParticleCollisionTrajectory(double mass1, double mass2, double velocity1, double velocity2, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateParticleCollision(mass1, mass2, velocity1, velocity2, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateParticleCollision(double mass1, double mass2, double velocity1, double velocity2, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Final Velocities", totalSteps, 2);
         double finalVelocity1, finalVelocity2;
 
         for (int i = 0; i < totalSteps; i++) {
             finalVelocity1 = ((mass1 - mass2) / (mass1 + mass2)) * velocity1 + (2 * mass2 / (mass1 + mass2)) * velocity2;
             finalVelocity2 = (2 * mass1 / (mass1 + mass2)) * velocity1 + ((mass2 - mass1) / (mass1 + mass2)) * velocity2;
-            collisionData.append("Step ").append(i).append(": Final Velocities = ").append(finalVelocity1).append(", ").append(finalVelocity2).append("\n");
+            sink.accept(i, 0, finalVelocity1);
+            sink.accept(i, 1, finalVelocity2);
         }
 
-        return collisionData.toString();
+        sink.end();
     }
 
     public double simulateThermalRadiation(double surfaceArea, double temperature, double emissivity, int totalSteps) {
@@ -1189,15 +1522,25 @@ public class PhysicsService {
     }
 
     public String simulateProtonDecay(double protonLifetime, double timeStep, int totalSteps) {
-        StringBuilder decayData = new StringBuilder();
+        return simulateProtonDecayTrajectory(protonLifetime, timeStep, totalSteps).toString();
+    }
+
+    public Trajectory simulateProtonDecayTrajectory(double protonLifetime, double timeStep, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateProtonDecay(protonLifetime, timeStep, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateProtonDecay(double protonLifetime, double timeStep, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Decay Probability", totalSteps, 1);
         double decayProbability = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             decayProbability = 1 - Math.exp(-timeStep / protonLifetime * i);
-            decayData.append("Step ").append(i).append(": Decay Probability = ").append(decayProbability).append("\n");
+            sink.accept(i, decayProbability);
         }
 
-        return decayData.toString();
+        sink.end();
     }
 
     public double simulateCosmicExpansionRate(double initialExpansionRate, double darkEnergyDensity, int totalSteps) {
@@ -1224,47 +1567,61 @@ public class PhysicsService {
     }
 
     public String simulateFusionReactorEnergyOutput(double plasmaDensity, double confinementTime, double plasmaTemperature, int totalSteps) {
-        StringBuilder energyOutputData = new StringBuilder();
+        return simulateFusionReactorEnergyOutputTrajectory(plasmaDensity, confinementTime, plasmaTemperature, totalSteps).toString();
+    }
+
+    public Trajectory simulateFusionReactorEnergyOutputTrajectory(double plasmaDensity, double confinementTime, double plasmaTemperature, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateFusionReactorEnergyOutput(plasmaDensity, confinementTime, plasmaTemperature, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateFusionReactorEnergyOutput(double plasmaDensity, double confinementTime, double plasmaTemperature, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Energy Output", totalSteps, 1);
         double energyOutput = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             energyOutput += plasmaDensity * plasmaTemperature * confinementTime * i;
-            energyOutputData.append("Step ").append(i).append(": Energy Output = ").append(energyOutput).append("\n");
+            sink.accept(i, energyOutput);
         }
 
-        return energyOutputData.toString();
+        sink.end();
     }
 
     public double simulateRelativisticMomentumChange(double mass, double velocity, double speedOfLight, int totalSteps) {
         double momentum = mass * velocity;
+        double increment = (mass * velocity) / Math.sqrt(1 - Math.pow(velocity / speedOfLight, 2));
 
-        for (int i = 0; i < totalSteps; i++) {
-            momentum += (mass * velocity) / Math.sqrt(1 - Math.pow(velocity / speedOfLight, 2));
-        }
-
-        return momentum;
+        return closedForms.repeatedSum(momentum, increment, totalSteps);
     }
 
     public double simulatePlanckRadiation(double frequency, double temperature, double surfaceArea, int totalSteps) {
         double radiation = 0;
+        double increment = surfaceArea * Math.pow(frequency, 3) / (Math.exp(frequency / temperature) - 1);
 
-        for (int i = 0; i < totalSteps; i++) {
-            radiation += surfaceArea * Math.pow(frequency, 3) / (Math.exp(frequency / temperature) - 1);
-        }
-
-        return radiation;
+        return closedForms.repeatedSum(radiation, increment, totalSteps);
     }
 
     public String simulateElectromagneticPulse(double pulseStrength, double pulseDuration, int totalSteps) {
-        StringBuilder pulseData = new StringBuilder();
+        return simulateElectromagneticPulseTrajectory(pulseStrength, pulseDuration, totalSteps).toString();
+    }
+
+    public Trajectory simulateElectromagneticPulseTrajectory(double pulseStrength, double pulseDuration, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateElectromagneticPulse(pulseStrength, pulseDuration, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateElectromagneticPulse(double pulseStrength, double pulseDuration, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Pulse Effect", totalSteps, 1);
         double pulseEffect = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             pulseEffect = pulseStrength * Math.exp(-i / pulseDuration);
-            pulseData.append("Step ").append(i).append(": Pulse Effect = ").append(pulseEffect).append("\n");
+            sink.accept(i, pulseEffect);
         }
 
-        return pulseData.toString();
+        sink.end();
     }
 
     public double simulateThermonuclearFusion(double fuelMass, double energyYield, int totalSteps) {
@@ -1289,24 +1646,31 @@ public class PhysicsService {
 
     public double simulateRelativisticEnergyLoss(double initialEnergy, double velocity, double speedOfLight, int totalSteps) {
         double energy = initialEnergy;
+        double factor = (1 - Math.pow(velocity / speedOfLight, 2));
 
-        for (int i = 0; i < totalSteps; i++) {
-            energy *= (1 - Math.pow(velocity / speedOfLight, 2));
-        }
-
-        return energy;
+        return closedForms.repeatedProduct(energy, factor, totalSteps);
     }
 
     public String simulateQuantumSpinState(double spin1, double spin2, double probability, int totalSteps) {
-        StringBuilder spinStateData = new StringBuilder();
+        return simulateQuantumSpinStateTrajectory(spin1, spin2, probability, totalSteps).toString();
+    }
+
+    public Trajectory simulateQuantumSpinStateTrajectory(double spin1, double spin2, double probability, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateQuantumSpinState(spin1, spin2, probability, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateQuantumSpinState(double spin1, double spin2, double probability, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Combined Spin State", totalSteps, 1);
         double combinedSpin = (spin1 + spin2) / 2;
 
         for (int i = 0; i < totalSteps; i++) {
             combinedSpin *= Math.cos(probability * i);
-            spinStateData.append("Step ").append(i).append(": Combined Spin State = ").append(combinedSpin).append("\n");
+            sink.accept(i, combinedSpin);
         }
 
-        return spinStateData.toString();
+        sink.end();
     }
 
     public double simulateDarkMatterGravitationalEffect(double darkMatterDensity, double distance, double velocity, int totalSteps) {
@@ -1330,15 +1694,25 @@ public class PhysicsService {
     }
 
     public String simulateQuantumBitFlip(double initialState, double errorRate, int totalSteps) {
-        StringBuilder bitFlipData = new StringBuilder();
+        return simulateQuantumBitFlipTrajectory(initialState, errorRate, totalSteps).toString();
+    }
+
+    public Trajectory simulateQuantumBitFlipTrajectory(double initialState, double errorRate, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateQuantumBitFlip(initialState, errorRate, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateQuantumBitFlip(double initialState, double errorRate, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Qubit State", totalSteps, 1);
         double finalState = initialState;
 
         for (int i = 0; i < totalSteps; i++) {
             finalState *= 1 - errorRate * i;
-            bitFlipData.append("Step ").append(i).append(": Qubit State = ").append(finalState).append("\n");
+            sink.accept(i, finalState);
         }
 
-        return bitFlipData.toString();
+        sink.end();
     }
 
     public double simulateNeutrinoMassOscillation(double neutrinoMass1, double neutrinoMass2, double distance, int totalSteps) {
@@ -1362,15 +1736,25 @@ public class PhysicsService {
     }
 
     public String simulateGammaRayBurstIntensity(double burstEnergy, double distance, int totalSteps) {
-        StringBuilder intensityData = new StringBuilder();
+        return simulateGammaRayBurstIntensityTrajectory(burstEnergy, distance, totalSteps).toString();
+    }
+
+    public Trajectory simulateGammaRayBurstIntensityTrajectory(double burstEnergy, double distance, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateGammaRayBurstIntensity(burstEnergy, distance, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateGammaRayBurstIntensity(double burstEnergy, double distance, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Burst Intensity", totalSteps, 1);
         double intensity = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             intensity = burstEnergy / (4 * Math.PI * Math.pow(distance * i + 1, 2));
-            intensityData.append("Step ").append(i).append(": Burst Intensity = ").append(intensity).append("\n");
+            sink.accept(i, intensity);
         }
 
-        return intensityData.toString();
+        sink.end();
     }
 
     public double simulateQuantumEntanglementDecay(double entanglementFactor, double environmentInfluence, int totalSteps) {
@@ -1394,15 +1778,25 @@ public class PhysicsService {
     }
 
     public String simulatePhotonPolarizationShift(double polarizationAngle, double photonEnergy, int totalSteps) {
-        StringBuilder polarizationData = new StringBuilder();
+        return simulatePhotonPolarizationShiftTrajectory(polarizationAngle, photonEnergy, totalSteps).toString();
+    }
+
+    public Trajectory simulatePhotonPolarizationShiftTrajectory(double polarizationAngle, double photonEnergy, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulatePhotonPolarizationShift(polarizationAngle, photonEnergy, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulatePhotonPolarizationShift(double polarizationAngle, double photonEnergy, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Polarization Shift", totalSteps, 1);
         double polarizationShift = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             polarizationShift += photonEnergy * Math.sin(polarizationAngle * i);
-            polarizationData.append("Step ").append(i).append(": Polarization Shift = ").append(polarizationShift).append("\n");
+            sink.accept(i, polarizationShift);
         }
 
-        return polarizationData.toString();
+        sink.end();
     }
 
     public double simulateCosmicRayShower(double primaryEnergy, double atmosphereDepth, int totalSteps) {
@@ -1426,15 +1820,25 @@ public class PhysicsService {
     }
 
     public String simulateElectronCaptureDecay(double electronMass, double nucleusMass, double bindingEnergy, int totalSteps) {
-        StringBuilder decayData = new StringBuilder();
+        return simulateElectronCaptureDecayTrajectory(electronMass, nucleusMass, bindingEnergy, totalSteps).toString();
+    }
+
+    public Trajectory simulateElectronCaptureDecayTrajectory(double electronMass, double nucleusMass, double bindingEnergy, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateElectronCaptureDecay(electronMass, nucleusMass, bindingEnergy, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateElectronCaptureDecay(double electronMass, double nucleusMass, double bindingEnergy, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Decay Probability", totalSteps, 1);
         double decayProbability = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             decayProbability += (bindingEnergy - electronMass) / (nucleusMass * i + 1);
-            decayData.append("Step ").append(i).append(": Decay Probability = ").append(decayProbability).append("\n");
+            sink.accept(i, decayProbability);
         }
 
-        return decayData.toString();
+        sink.end();
     }
 
     public double simulateTachyonFieldGrowth(double initialField, double mass, double velocity, int totalSteps) {
@@ -1449,24 +1853,31 @@ public class PhysicsService {
 
     public double simulateRelativisticForce(double mass, double velocity, double speedOfLight, int totalSteps) {
         double force = 0;
+        double increment = (mass * velocity) / Math.sqrt(1 - Math.pow(velocity / speedOfLight, 2));
 
-        for (int i = 0; i < totalSteps; i++) {
-            force += (mass * velocity) / Math.sqrt(1 - Math.pow(velocity / speedOfLight, 2));
-        }
-
-        return force;
+        return closedForms.repeatedSum(force, increment, totalSteps);
     }
 
     public String simulateNeutronStarMerger(double mass1, double mass2, double velocity, int totalSteps) {
-        StringBuilder mergerData = new StringBuilder();
+        return simulateNeutronStarMergerTrajectory(mass1, mass2, velocity, totalSteps).toString();
+    }
+
+    public Trajectory simulateNeutronStarMergerTrajectory(double mass1, double mass2, double velocity, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateNeutronStarMerger(mass1, mass2, velocity, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateNeutronStarMerger(double mass1, double mass2, double velocity, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Merger Force", totalSteps, 1);
         double mergerForce = 0;
 
         for (int i = 0; i < totalSteps; i++) {
-            mergerForce = (6.67430 * Math.pow(10, -11) * mass1 * mass2) / Math.pow(velocity * i + 1, 2);
-            mergerData.append("Step ").append(i).append(": Merger Force = ").append(mergerForce).append("\n");
+            mergerForce = (GRAVITATIONAL_CONSTANT * mass1 * mass2) / Math.pow(velocity * i + 1, 2);
+            sink.accept(i, mergerForce);
         }
 
-        return mergerData.toString();
+        sink.end();
     }
 
     public double simulateDarkEnergyAcceleration(double darkEnergyDensity, double universeExpansionRate, int totalSteps) {
@@ -1480,15 +1891,25 @@ public class PhysicsService {
     }
 
     public String simulateHiggsBosonDetection(double collisionEnergy, double detectorSensitivity, int totalSteps) {
-        StringBuilder detectionData = new StringBuilder();
+        return simulateHiggsBosonDetectionTrajectory(collisionEnergy, detectorSensitivity, totalSteps).toString();
+    }
+
+    public Trajectory simulateHiggsBosonDetectionTrajectory(double collisionEnergy, double detectorSensitivity, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateHiggsBosonDetection(collisionEnergy, detectorSensitivity, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateHiggsBosonDetection(double collisionEnergy, double detectorSensitivity, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Detection Probability", totalSteps, 1);
         double detectionProbability = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             detectionProbability += collisionEnergy * detectorSensitivity / Math.pow(i + 1, 2);
-            detectionData.append("Step ").append(i).append(": Detection Probability = ").append(detectionProbability).append("\n");
+            sink.accept(i, detectionProbability);
         }
 
-        return detectionData.toString();
+        sink.end();
     }
 
     public double simulateQuantumTeleportationAccuracy(double qubitState1, double qubitState2, double distance, int totalSteps) {
@@ -1522,15 +1943,25 @@ public class PhysicsService {
     }
 
     public String simulateQuantumPhaseTransition(double initialPhase, double temperature, double pressure, int totalSteps) {
-        StringBuilder phaseTransitionData = new StringBuilder();
+        return simulateQuantumPhaseTransitionTrajectory(initialPhase, temperature, pressure, totalSteps).toString();
+    }
+
+    public Trajectory simulateQuantumPhaseTransitionTrajectory(double initialPhase, double temperature, double pressure, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateQuantumPhaseTransition(initialPhase, temperature, pressure, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateQuantumPhaseTransition(double initialPhase, double temperature, double pressure, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Phase State", totalSteps, 1);
         double phaseState = initialPhase;
 
         for (int i = 0; i < totalSteps; i++) {
             phaseState *= Math.exp(-temperature / (pressure * i + 1));
-            phaseTransitionData.append("Step ").append(i).append(": Phase State = ").append(phaseState).append("\n");
+            sink.accept(i, phaseState);
         }
 
-        return phaseTransitionData.toString();
+        sink.end();
     }
 
     public double simulatePhotonScattering(double photonEnergy, double electronMass, double scatteringAngle, int totalSteps) {
@@ -1554,15 +1985,25 @@ public class PhysicsService {
     }
 
     public String simulateGravitationalWaveDetection(double waveAmplitude, double detectorSensitivity, int totalSteps) {
-        StringBuilder waveDetectionData = new StringBuilder();
+        return simulateGravitationalWaveDetectionTrajectory(waveAmplitude, detectorSensitivity, totalSteps).toString();
+    }
+
+    public Trajectory simulateGravitationalWaveDetectionTrajectory(double waveAmplitude, double detectorSensitivity, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateGravitationalWaveDetection(waveAmplitude, detectorSensitivity, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateGravitationalWaveDetection(double waveAmplitude, double detectorSensitivity, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Detection Probability", totalSteps, 1);
         double detectionProbability = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             detectionProbability += waveAmplitude * detectorSensitivity / (i + 1);
-            waveDetectionData.append("Step ").append(i).append(": Detection Probability = ").append(detectionProbability).append("\n");
+            sink.accept(i, detectionProbability);
         }
 
-        return waveDetectionData.toString();
+        sink.end();
     }
 
     public double simulateQuantumVacuumDecay(double vacuumEnergy, double decayConstant, int totalSteps) {
@@ -1576,15 +2017,25 @@ public class PhysicsService {
     }
 
     public String simulateParticleDecayProbability(double initialMass, double decayConstant, double timeStep, int totalSteps) {
-        StringBuilder decayData = new StringBuilder();
+        return simulateParticleDecayProbabilityTrajectory(initialMass, decayConstant, timeStep, totalSteps).toString();
+    }
+
+    public Trajectory simulateParticleDecayProbabilityTrajectory(double initialMass, double decayConstant, double timeStep, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateParticleDecayProbability(initialMass, decayConstant, timeStep, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateParticleDecayProbability(double initialMass, double decayConstant, double timeStep, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Decay Probability", totalSteps, 1);
         double decayProbability = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             decayProbability = 1 - Math.exp(-decayConstant * timeStep * i);
-            decayData.append("Step ").append(i).append(": Decay Probability = ").append(decayProbability).append("\n");
+            sink.accept(i, decayProbability);
         }
 
-        return decayData.toString();
+        sink.end();
     }
 
     public double simulateNeutrinoOscillationProbability(double neutrinoMass1, double neutrinoMass2, double distance, double energy, int totalSteps) {
@@ -1608,37 +2059,57 @@ public class PhysicsService {
     }
 
     public String simulateQuantumFieldFluctuation(double fieldStrength, double vacuumEnergyDensity, int totalSteps) {
-        StringBuilder fluctuationData = new StringBuilder();
+        return simulateQuantumFieldFluctuationTrajectory(fieldStrength, vacuumEnergyDensity, totalSteps).toString();
+    }
+
+    public Trajectory simulateQuantumFieldFluctuationTrajectory(double fieldStrength, double vacuumEnergyDensity, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateQuantumFieldFluctuation(fieldStrength, vacuumEnergyDensity, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateQuantumFieldFluctuation(double fieldStrength, double vacuumEnergyDensity, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Field Fluctuation", totalSteps, 1);
         double fluctuation = fieldStrength;
 
         for (int i = 0; i < totalSteps; i++) {
             fluctuation += vacuumEnergyDensity * Math.cos(i);
-            fluctuationData.append("Step ").append(i).append(": Field Fluctuation = ").append(fluctuation).append("\n");
+            sink.accept(i, fluctuation);
         }
 
-        return fluctuationData.toString();
+        sink.end();
     }
 
     public double simulateElectromagneticFieldStrength(double charge, double distance, int totalSteps) {
         double fieldStrength = 0;
 
         for (int i = 0; i < totalSteps; i++) {
-            fieldStrength += (8.9875517923 * Math.pow(10, 9)) * charge / Math.pow(distance * i + 1, 2);
+            fieldStrength += COULOMB_CONSTANT * charge / Math.pow(distance * i + 1, 2);
         }
 
         return fieldStrength;
     }
 
     public String simulateDarkEnergyDrivenExpansion(double expansionRate, double darkEnergyDensity, int totalSteps) {
-        StringBuilder expansionData = new StringBuilder();
+        return simulateDarkEnergyDrivenExpansionTrajectory(expansionRate, darkEnergyDensity, totalSteps).toString();
+    }
+
+    public Trajectory simulateDarkEnergyDrivenExpansionTrajectory(double expansionRate, double darkEnergyDensity, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateDarkEnergyDrivenExpansion(expansionRate, darkEnergyDensity, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateDarkEnergyDrivenExpansion(double expansionRate, double darkEnergyDensity, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Universe Size", totalSteps, 1);
         double universeSize = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             universeSize += expansionRate * Math.pow(darkEnergyDensity, 2) * i;
-            expansionData.append("Step ").append(i).append(": Universe Size = ").append(universeSize).append("\n");
+            sink.accept(i, universeSize);
         }
 
-        return expansionData.toString();
+        sink.end();
     }
 
     public double simulateGammaRayBurstPropagation(double burstEnergy, double distance, double mediumDensity, int totalSteps) {
@@ -1652,37 +2123,54 @@ public class PhysicsService {
     }
 
     public String simulateBlackHoleEvaporation(double blackHoleMass, double evaporationRate, int totalSteps) {
-        StringBuilder evaporationData = new StringBuilder();
+        return simulateBlackHoleEvaporationTrajectory(blackHoleMass, evaporationRate, totalSteps).toString();
+    }
+
+    public Trajectory simulateBlackHoleEvaporationTrajectory(double blackHoleMass, double evaporationRate, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateBlackHoleEvaporation(blackHoleMass, evaporationRate, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateBlackHoleEvaporation(double blackHoleMass, double evaporationRate, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Remaining Mass", totalSteps, 1);
         double remainingMass = blackHoleMass;
 
         for (int i = 0; i < totalSteps; i++) {
             remainingMass -= evaporationRate * i;
-            evaporationData.append("Step ").append(i).append(": Remaining Mass = ").append(remainingMass).append("\n");
+            sink.accept(i, remainingMass);
         }
 
-        return evaporationData.toString();
+        sink.end();
     }
 
     public double simulateRelativisticEnergyGain(double restMass, double velocity, double speedOfLight, int totalSteps) {
         double energyGain = restMass;
+        double factor = 1 / Math.sqrt(1 - Math.pow(velocity / speedOfLight, 2));
 
-        for (int i = 0; i < totalSteps; i++) {
-            energyGain *= 1 / Math.sqrt(1 - Math.pow(velocity / speedOfLight, 2));
-        }
-
-        return energyGain;
+        return closedForms.repeatedProduct(energyGain, factor, totalSteps);
     }
 
     public String simulateQuantumTeleportationEfficiency(double initialState, double entanglementFactor, int totalSteps) {
-        StringBuilder efficiencyData = new StringBuilder();
+        return simulateQuantumTeleportationEfficiencyTrajectory(initialState, entanglementFactor, totalSteps).toString();
+    }
+
+    public Trajectory simulateQuantumTeleportationEfficiencyTrajectory(double initialState, double entanglementFactor, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateQuantumTeleportationEfficiency(initialState, entanglementFactor, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateQuantumTeleportationEfficiency(double initialState, double entanglementFactor, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Teleportation Efficiency", totalSteps, 1);
         double teleportationEfficiency = initialState;
 
         for (int i = 0; i < totalSteps; i++) {
             teleportationEfficiency *= Math.cos(entanglementFactor * i);
-            efficiencyData.append("Step ").append(i).append(": Teleportation Efficiency = ").append(teleportationEfficiency).append("\n");
+            sink.accept(i, teleportationEfficiency);
         }
 
-        return efficiencyData.toString();
+        sink.end();
     }
 
     public double simulateThermodynamicEntropyChange(double initialEntropy, double temperature, double heatTransfer, int totalSteps) {
@@ -1696,15 +2184,25 @@ public class PhysicsService {
     }
 
     public String simulateCosmicStringTension(double stringTension, double energyDensity, int totalSteps) {
-        StringBuilder tensionData = new StringBuilder();
+        return simulateCosmicStringTensionTrajectory(stringTension, energyDensity, totalSteps).toString();
+    }
+
+    public Trajectory simulateCosmicStringTensionTrajectory(double stringTension, double energyDensity, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateCosmicStringTension(stringTension, energyDensity, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateCosmicStringTension(double stringTension, double energyDensity, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Cosmic String Tension", totalSteps, 1);
         double tension = stringTension;
 
         for (int i = 0; i < totalSteps; i++) {
             tension += energyDensity * i;
-            tensionData.append("Step ").append(i).append(": Cosmic String Tension = ").append(tension).append("\n");
+            sink.accept(i, tension);
         }
 
-        return tensionData.toString();
+        sink.end();
     }
 
     public double simulateAxionFieldFluctuation(double initialFieldStrength, double potentialEnergy, int totalSteps) {
@@ -1718,25 +2216,32 @@ public class PhysicsService {
     }
 
     public String simulateQuantumMeasurementUncertainty(double initialMeasurement, double uncertaintyFactor, int totalSteps) {
-        StringBuilder measurementData = new StringBuilder();
+        return simulateQuantumMeasurementUncertaintyTrajectory(initialMeasurement, uncertaintyFactor, totalSteps).toString();
+    }
+
+    public Trajectory simulateQuantumMeasurementUncertaintyTrajectory(double initialMeasurement, double uncertaintyFactor, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateQuantumMeasurementUncertainty(initialMeasurement, uncertaintyFactor, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateQuantumMeasurementUncertainty(double initialMeasurement, double uncertaintyFactor, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Measurement Value", totalSteps, 1);
         double measurement = initialMeasurement;
 
         for (int i = 0; i < totalSteps; i++) {
             measurement += uncertaintyFactor * Math.sin(i * Math.PI / 4);
-            measurementData.append("Step ").append(i).append(": Measurement Value = ").append(measurement).append("\n");
+            sink.accept(i, measurement);
         }
 
-        return measurementData.toString();
+        sink.end();
     }
 
     public double simulateRelativisticTimeShift(double initialTime, double velocity, double speedOfLight, int totalSteps) {
         double shiftedTime = initialTime;
+        double factor = 1 / Math.sqrt(1 - Math.pow(velocity / speedOfLight, 2));
 
-        for (int i = 0; i < totalSteps; i++) {
-            shiftedTime *= 1 / Math.sqrt(1 - Math.pow(velocity / speedOfLight, 2));
-        }
-
-        return shiftedTime;
+        return closedForms.repeatedProduct(shiftedTime, factor, totalSteps);
     }
 
     public double simulateGravitationalWaveAmplitude(double mass1, double mass2, double distance, double frequency, int totalSteps) {
@@ -1750,15 +2255,25 @@ public class PhysicsService {
     }
 
     public String simulateCosmicExpansionVelocity(double expansionRate, double darkEnergy, double timeStep, int totalSteps) {
-        StringBuilder expansionData = new StringBuilder();
+        return simulateCosmicExpansionVelocityTrajectory(expansionRate, darkEnergy, timeStep, totalSteps).toString();
+    }
+
+    public Trajectory simulateCosmicExpansionVelocityTrajectory(double expansionRate, double darkEnergy, double timeStep, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateCosmicExpansionVelocity(expansionRate, darkEnergy, timeStep, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateCosmicExpansionVelocity(double expansionRate, double darkEnergy, double timeStep, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Expansion Velocity", totalSteps, 1);
         double velocity = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             velocity += expansionRate * darkEnergy * timeStep * i;
-            expansionData.append("Step ").append(i).append(": Expansion Velocity = ").append(velocity).append("\n");
+            sink.accept(i, velocity);
         }
 
-        return expansionData.toString();
+        sink.end();
     }
 
     public double simulateProtonProtonChainReaction(double hydrogenMass, double temperature, double pressure, int totalSteps) {
@@ -1782,15 +2297,25 @@ public class PhysicsService {
     }
 
     public String simulateMagneticReconnection(double plasmaDensity, double magneticFieldStrength, double temperature, int totalSteps) {
-        StringBuilder reconnectionData = new StringBuilder();
+        return simulateMagneticReconnectionTrajectory(plasmaDensity, magneticFieldStrength, temperature, totalSteps).toString();
+    }
+
+    public Trajectory simulateMagneticReconnectionTrajectory(double plasmaDensity, double magneticFieldStrength, double temperature, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateMagneticReconnection(plasmaDensity, magneticFieldStrength, temperature, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateMagneticReconnection(double plasmaDensity, double magneticFieldStrength, double temperature, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Reconnection Rate", totalSteps, 1);
         double reconnectionRate = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             reconnectionRate += plasmaDensity * temperature / (magneticFieldStrength * i + 1);
-            reconnectionData.append("Step ").append(i).append(": Reconnection Rate = ").append(reconnectionRate).append("\n");
+            sink.accept(i, reconnectionRate);
         }
 
-        return reconnectionData.toString();
+        sink.end();
     }
 
     public double simulateQuantumTeleportationFidelity(double initialState, double entanglementFactor, double noiseLevel, int totalSteps) {
@@ -1814,25 +2339,32 @@ public class PhysicsService {
     }
 
     public String simulateQuasarJetFormation(double blackHoleMass, double accretionDiskDensity, double magneticFieldStrength, int totalSteps) {
-        StringBuilder jetData = new StringBuilder();
+        return simulateQuasarJetFormationTrajectory(blackHoleMass, accretionDiskDensity, magneticFieldStrength, totalSteps).toString();
+    }
+
+    public Trajectory simulateQuasarJetFormationTrajectory(double blackHoleMass, double accretionDiskDensity, double magneticFieldStrength, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateQuasarJetFormation(blackHoleMass, accretionDiskDensity, magneticFieldStrength, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateQuasarJetFormation(double blackHoleMass, double accretionDiskDensity, double magneticFieldStrength, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Jet Velocity", totalSteps, 1);
         double jetVelocity = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             jetVelocity += (accretionDiskDensity * magneticFieldStrength) / (blackHoleMass * i + 1);
-            jetData.append("Step ").append(i).append(": Jet Velocity = ").append(jetVelocity).append("\n");
+            sink.accept(i, jetVelocity);
         }
 
-        return jetData.toString();
+        sink.end();
     }
 
     public double simulateRelativisticKineticEnergy(double mass, double velocity, double speedOfLight, int totalSteps) {
         double kineticEnergy = 0;
+        double increment = mass * Math.pow(velocity, 2) / Math.sqrt(1 - Math.pow(velocity / speedOfLight, 2));
 
-        for (int i = 0; i < totalSteps; i++) {
-            kineticEnergy += mass * Math.pow(velocity, 2) / Math.sqrt(1 - Math.pow(velocity / speedOfLight, 2));
-        }
-
-        return kineticEnergy;
+        return closedForms.repeatedSum(kineticEnergy, increment, totalSteps);
     }
 
     public double simulateThermodynamicHeatExchange(double object1Temp, double object2Temp, double heatTransferCoefficient, int totalSteps) {
@@ -1846,15 +2378,25 @@ public class PhysicsService {
     }
 
     public String simulatePhotonBeamAttenuation(double photonEnergy, double mediumDensity, double pathLength, int totalSteps) {
-        StringBuilder attenuationData = new StringBuilder();
+        return simulatePhotonBeamAttenuationTrajectory(photonEnergy, mediumDensity, pathLength, totalSteps).toString();
+    }
+
+    public Trajectory simulatePhotonBeamAttenuationTrajectory(double photonEnergy, double mediumDensity, double pathLength, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulatePhotonBeamAttenuation(photonEnergy, mediumDensity, pathLength, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulatePhotonBeamAttenuation(double photonEnergy, double mediumDensity, double pathLength, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Remaining Energy", totalSteps, 1);
         double remainingEnergy = photonEnergy;
 
         for (int i = 0; i < totalSteps; i++) {
             remainingEnergy *= Math.exp(-mediumDensity * pathLength * i);
-            attenuationData.append("Step ").append(i).append(": Remaining Energy = ").append(remainingEnergy).append("\n");
+            sink.accept(i, remainingEnergy);
         }
 
-        return attenuationData.toString();
+        sink.end();
     }
 
     public double simulateEntropyProduction(double systemEnergy, double temperature, int totalSteps) {
@@ -1878,15 +2420,25 @@ public class PhysicsService {
     }
 
     public String simulateQuantumEntanglementSwapping(double qubitState1, double qubitState2, double entanglementFactor, int totalSteps) {
-        StringBuilder entanglementData = new StringBuilder();
+        return simulateQuantumEntanglementSwappingTrajectory(qubitState1, qubitState2, entanglementFactor, totalSteps).toString();
+    }
+
+    public Trajectory simulateQuantumEntanglementSwappingTrajectory(double qubitState1, double qubitState2, double entanglementFactor, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateQuantumEntanglementSwapping(qubitState1, qubitState2, entanglementFactor, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateQuantumEntanglementSwapping(double qubitState1, double qubitState2, double entanglementFactor, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Swapped State", totalSteps, 1);
         double swappedState = (qubitState1 + qubitState2) / 2;
 
         for (int i = 0; i < totalSteps; i++) {
             swappedState *= Math.cos(entanglementFactor * i);
-            entanglementData.append("Step ").append(i).append(": Swapped State = ").append(swappedState).append("\n");
+            sink.accept(i, swappedState);
         }
 
-        return entanglementData.toString();
+        sink.end();
     }
 
     public double simulateElectroweakPhaseTransition(double temperature, double pressure, double potentialEnergy, int totalSteps) {
@@ -1900,15 +2452,25 @@ public class PhysicsService {
     }
 
     public String simulateGravitationalLensEffect(double mass, double distance, double lightDeflectionAngle, int totalSteps) {
-        StringBuilder lensData = new StringBuilder();
+        return simulateGravitationalLensEffectTrajectory(mass, distance, lightDeflectionAngle, totalSteps).toString();
+    }
+
+    public Trajectory simulateGravitationalLensEffectTrajectory(double mass, double distance, double lightDeflectionAngle, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateGravitationalLensEffect(mass, distance, lightDeflectionAngle, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateGravitationalLensEffect(double mass, double distance, double lightDeflectionAngle, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Lens Effect", totalSteps, 1);
         double lensEffect = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             lensEffect += (mass * lightDeflectionAngle) / (distance * i + 1);
-            lensData.append("Step ").append(i).append(": Lens Effect = ").append(lensEffect).append("\n");
+            sink.accept(i, lensEffect);
         }
 
-        return lensData.toString();
+        sink.end();
     }
 
     public double simulateThermalRadiationEmission(double surfaceArea, double temperature, double emissivity, int totalSteps) {
@@ -1922,15 +2484,25 @@ public class PhysicsService {
     }
 
     public String simulateDarkMatterDensityFluctuation(double initialDensity, double fluctuationAmplitude, int totalSteps) {
-        StringBuilder densityData = new StringBuilder();
+        return simulateDarkMatterDensityFluctuationTrajectory(initialDensity, fluctuationAmplitude, totalSteps).toString();
+    }
+
+    public Trajectory simulateDarkMatterDensityFluctuationTrajectory(double initialDensity, double fluctuationAmplitude, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateDarkMatterDensityFluctuation(initialDensity, fluctuationAmplitude, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateDarkMatterDensityFluctuation(double initialDensity, double fluctuationAmplitude, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Dark Matter Density", totalSteps, 1);
         double density = initialDensity;
 
         for (int i = 0; i < totalSteps; i++) {
             density += fluctuationAmplitude * Math.sin(i);
-            densityData.append("Step ").append(i).append(": Dark Matter Density = ").append(density).append("\n");
+            sink.accept(i, density);
         }
 
-        return densityData.toString();
+        sink.end();
     }
 
     public double simulateAxionParticleProduction(double axionMass, double interactionStrength, double temperature, int totalSteps) {
@@ -1944,15 +2516,25 @@ public class PhysicsService {
     }
 
     public String simulateHawkingRadiationDecay(double blackHoleMass, double temperature, int totalSteps) {
-        StringBuilder decayData = new StringBuilder();
+        return simulateHawkingRadiationDecayTrajectory(blackHoleMass, temperature, totalSteps).toString();
+    }
+
+    public Trajectory simulateHawkingRadiationDecayTrajectory(double blackHoleMass, double temperature, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateHawkingRadiationDecay(blackHoleMass, temperature, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateHawkingRadiationDecay(double blackHoleMass, double temperature, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Radiation Energy", totalSteps, 1);
         double radiationEnergy = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             radiationEnergy += (blackHoleMass * Math.pow(temperature, 4)) / (i + 1);
-            decayData.append("Step ").append(i).append(": Radiation Energy = ").append(radiationEnergy).append("\n");
+            sink.accept(i, radiationEnergy);
         }
 
-        return decayData.toString();
+        sink.end();
     }
 
     public double simulateCosmicMagneticFieldGeneration(double plasmaDensity, double temperature, double magneticFieldStrength, int totalSteps) {
@@ -1966,15 +2548,25 @@ public class PhysicsService {
     }
 
     public String simulateProtonCollisionEnergyLoss(double initialEnergy, double mediumDensity, double distance, int totalSteps) {
-        StringBuilder energyLossData = new StringBuilder();
+        return simulateProtonCollisionEnergyLossTrajectory(initialEnergy, mediumDensity, distance, totalSteps).toString();
+    }
+
+    public Trajectory simulateProtonCollisionEnergyLossTrajectory(double initialEnergy, double mediumDensity, double distance, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateProtonCollisionEnergyLoss(initialEnergy, mediumDensity, distance, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateProtonCollisionEnergyLoss(double initialEnergy, double mediumDensity, double distance, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Energy Loss", totalSteps, 1);
         double energyLoss = initialEnergy;
 
         for (int i = 0; i < totalSteps; i++) {
             energyLoss *= Math.exp(-mediumDensity * distance * i);
-            energyLossData.append("Step ").append(i).append(": Energy Loss = ").append(energyLoss).append("\n");
+            sink.accept(i, energyLoss);
         }
 
-        return energyLossData.toString();
+        sink.end();
     }
 
     public double simulateQuantumCoherenceDecay(double initialCoherence, double decoherenceRate, int totalSteps) {
@@ -1988,15 +2580,25 @@ public class PhysicsService {
     }
 
     public String simulateGravitonWaveDetection(double gravitonMass, double waveFrequency, double detectorSensitivity, int totalSteps) {
-        StringBuilder detectionData = new StringBuilder();
+        return simulateGravitonWaveDetectionTrajectory(gravitonMass, waveFrequency, detectorSensitivity, totalSteps).toString();
+    }
+
+    public Trajectory simulateGravitonWaveDetectionTrajectory(double gravitonMass, double waveFrequency, double detectorSensitivity, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateGravitonWaveDetection(gravitonMass, waveFrequency, detectorSensitivity, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateGravitonWaveDetection(double gravitonMass, double waveFrequency, double detectorSensitivity, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Detection Probability", totalSteps, 1);
         double detectionProbability = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             detectionProbability += gravitonMass * waveFrequency * detectorSensitivity / (i + 1);
-            detectionData.append("Step ").append(i).append(": Detection Probability = ").append(detectionProbability).append("\n");
+            sink.accept(i, detectionProbability);
         }
 
-        return detectionData.toString();
+        sink.end();
     }
 
     public double simulateProtonBeamScattering(double protonEnergy, double mediumDensity, double scatteringAngle, int totalSteps) {
@@ -2020,15 +2622,25 @@ public class PhysicsService {
     }
 
     public String simulateQuantumSuperpositionCollapse(double initialState1, double initialState2, double collapseFactor, int totalSteps) {
-        StringBuilder collapseData = new StringBuilder();
+        return simulateQuantumSuperpositionCollapseTrajectory(initialState1, initialState2, collapseFactor, totalSteps).toString();
+    }
+
+    public Trajectory simulateQuantumSuperpositionCollapseTrajectory(double initialState1, double initialState2, double collapseFactor, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateQuantumSuperpositionCollapse(initialState1, initialState2, collapseFactor, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateQuantumSuperpositionCollapse(double initialState1, double initialState2, double collapseFactor, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Collapsed State", totalSteps, 1);
         double superposedState = (initialState1 + initialState2) / 2;
 
         for (int i = 0; i < totalSteps; i++) {
             superposedState *= Math.cos(collapseFactor * i);
-            collapseData.append("Step ").append(i).append(": Collapsed State = ").append(superposedState).append("\n");
+            sink.accept(i, superposedState);
         }
 
-        return collapseData.toString();
+        sink.end();
     }
 
     public double simulatePhotonEnergyAbsorption(double photonEnergy, double mediumDensity, double pathLength, int totalSteps) {
@@ -2051,16 +2663,26 @@ public class PhysicsService {
         return decayRate;
     }
 
-    public String simulateRelativisticTimeShift(double initialTime, double gravitationalPotential, double velocity, int totalSteps) {
-        StringBuilder timeShiftData = new StringBuilder();
+    public String simulateGravitationalTimeShift(double initialTime, double gravitationalPotential, double velocity, int totalSteps) {
+        return simulateGravitationalTimeShiftTrajectory(initialTime, gravitationalPotential, velocity, totalSteps).toString();
+    }
+
+    public Trajectory simulateGravitationalTimeShiftTrajectory(double initialTime, double gravitationalPotential, double velocity, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateGravitationalTimeShift(initialTime, gravitationalPotential, velocity, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateGravitationalTimeShift(double initialTime, double gravitationalPotential, double velocity, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Time Shift", totalSteps, 1);
         double shiftedTime = initialTime;
 
         for (int i = 0; i < totalSteps; i++) {
             shiftedTime *= Math.sqrt(1 - (2 * gravitationalPotential / Math.pow(velocity * i + 1, 2)));
-            timeShiftData.append("Step ").append(i).append(": Time Shift = ").append(shiftedTime).append("\n");
+            sink.accept(i, shiftedTime);
         }
 
-        return timeShiftData.toString();
+        sink.end();
     }
 
     public double simulateNeutrinoMassHierarchy(double neutrinoMass1, double neutrinoMass2, double distance, double energy, int totalSteps) {
@@ -2085,15 +2707,25 @@ public class PhysicsService {
     }
 
     public String simulateQuarkGluonPlasmaExpansion(double plasmaDensity, double temperature, double expansionRate, int totalSteps) {
-        StringBuilder expansionData = new StringBuilder();
+        return simulateQuarkGluonPlasmaExpansionTrajectory(plasmaDensity, temperature, expansionRate, totalSteps).toString();
+    }
+
+    public Trajectory simulateQuarkGluonPlasmaExpansionTrajectory(double plasmaDensity, double temperature, double expansionRate, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateQuarkGluonPlasmaExpansion(plasmaDensity, temperature, expansionRate, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateQuarkGluonPlasmaExpansion(double plasmaDensity, double temperature, double expansionRate, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Plasma Volume", totalSteps, 1);
         double volume = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             volume += plasmaDensity * temperature * Math.pow(expansionRate, 3) * i;
-            expansionData.append("Step ").append(i).append(": Plasma Volume = ").append(volume).append("\n");
+            sink.accept(i, volume);
         }
 
-        return expansionData.toString();
+        sink.end();
     }
 
     public double simulateBlackHoleEntropy(double blackHoleMass, double temperature, double eventHorizonRadius, int totalSteps) {
@@ -2108,24 +2740,31 @@ public class PhysicsService {
 
     public double simulateRelativisticEnergyEmission(double restMass, double velocity, double speedOfLight, int totalSteps) {
         double energyEmission = 0;
+        double increment = restMass * Math.pow(velocity, 2) / Math.sqrt(1 - Math.pow(velocity / speedOfLight, 2));
 
-        for (int i = 0; i < totalSteps; i++) {
-            energyEmission += restMass * Math.pow(velocity, 2) / Math.sqrt(1 - Math.pow(velocity / speedOfLight, 2));
-        }
-
-        return energyEmission;
+        return closedForms.repeatedSum(energyEmission, increment, totalSteps);
     }
 
     public String simulateDarkEnergyDrivenAcceleration(double initialAcceleration, double darkEnergyDensity, double universeExpansionRate, int totalSteps) {
-        StringBuilder accelerationData = new StringBuilder();
+        return simulateDarkEnergyDrivenAccelerationTrajectory(initialAcceleration, darkEnergyDensity, universeExpansionRate, totalSteps).toString();
+    }
+
+    public Trajectory simulateDarkEnergyDrivenAccelerationTrajectory(double initialAcceleration, double darkEnergyDensity, double universeExpansionRate, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateDarkEnergyDrivenAcceleration(initialAcceleration, darkEnergyDensity, universeExpansionRate, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateDarkEnergyDrivenAcceleration(double initialAcceleration, double darkEnergyDensity, double universeExpansionRate, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Acceleration", totalSteps, 1);
         double acceleration = initialAcceleration;
 
         for (int i = 0; i < totalSteps; i++) {
             acceleration += darkEnergyDensity * universeExpansionRate * Math.pow(i, 2);
-            accelerationData.append("Step ").append(i).append(": Acceleration = ").append(acceleration).append("\n");
+            sink.accept(i, acceleration);
         }
 
-        return accelerationData.toString();
+        sink.end();
     }
 
     public double simulatePhotonPolarizationRotation(double polarizationAngle, double photonEnergy, double mediumDensity, int totalSteps) {
@@ -2139,15 +2778,25 @@ public class PhysicsService {
     }
 
     public String simulateRelativisticGravitationalRedshift(double gravitationalPotential, double velocity, double speedOfLight, int totalSteps) {
-        StringBuilder redshiftData = new StringBuilder();
+        return simulateRelativisticGravitationalRedshiftTrajectory(gravitationalPotential, velocity, speedOfLight, totalSteps).toString();
+    }
+
+    public Trajectory simulateRelativisticGravitationalRedshiftTrajectory(double gravitationalPotential, double velocity, double speedOfLight, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateRelativisticGravitationalRedshift(gravitationalPotential, velocity, speedOfLight, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateRelativisticGravitationalRedshift(double gravitationalPotential, double velocity, double speedOfLight, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Gravitational Redshift", totalSteps, 1);
         double redshift = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             redshift += gravitationalPotential / Math.sqrt(1 - Math.pow(velocity / speedOfLight, 2));
-            redshiftData.append("Step ").append(i).append(": Gravitational Redshift = ").append(redshift).append("\n");
+            sink.accept(i, redshift);
         }
 
-        return redshiftData.toString();
+        sink.end();
     }
 
     public double simulateThermodynamicFreeEnergy(double temperature, double entropy, double systemEnergy, int totalSteps) {
@@ -2161,15 +2810,25 @@ public class PhysicsService {
     }
 
     public String simulateElectromagneticPulsePropagation(double pulseStrength, double mediumResistance, double pulseDuration, int totalSteps) {
-        StringBuilder pulseData = new StringBuilder();
+        return simulateElectromagneticPulsePropagationTrajectory(pulseStrength, mediumResistance, pulseDuration, totalSteps).toString();
+    }
+
+    public Trajectory simulateElectromagneticPulsePropagationTrajectory(double pulseStrength, double mediumResistance, double pulseDuration, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateElectromagneticPulsePropagation(pulseStrength, mediumResistance, pulseDuration, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateElectromagneticPulsePropagation(double pulseStrength, double mediumResistance, double pulseDuration, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Pulse Effect", totalSteps, 1);
         double pulseEffect = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             pulseEffect = pulseStrength * Math.exp(-mediumResistance * pulseDuration * i);
-            pulseData.append("Step ").append(i).append(": Pulse Effect = ").append(pulseEffect).append("\n");
+            sink.accept(i, pulseEffect);
         }
 
-        return pulseData.toString();
+        sink.end();
     }
 
     public double simulateBlackHoleJetEmission(double blackHoleMass, double magneticFieldStrength, double accretionDiskDensity, int totalSteps) {
@@ -2193,15 +2852,25 @@ public class PhysicsService {
     }
 
     public String simulateNeutrinoDetectorSignal(double neutrinoFlux, double detectorSensitivity, double noiseLevel, int totalSteps) {
-        StringBuilder signalData = new StringBuilder();
+        return simulateNeutrinoDetectorSignalTrajectory(neutrinoFlux, detectorSensitivity, noiseLevel, totalSteps).toString();
+    }
+
+    public Trajectory simulateNeutrinoDetectorSignalTrajectory(double neutrinoFlux, double detectorSensitivity, double noiseLevel, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateNeutrinoDetectorSignal(neutrinoFlux, detectorSensitivity, noiseLevel, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateNeutrinoDetectorSignal(double neutrinoFlux, double detectorSensitivity, double noiseLevel, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Signal Strength", totalSteps, 1);
         double signalStrength = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             signalStrength += neutrinoFlux * detectorSensitivity * i - noiseLevel * i;
-            signalData.append("Step ").append(i).append(": Signal Strength = ").append(signalStrength).append("\n");
+            sink.accept(i, signalStrength);
         }
 
-        return signalData.toString();
+        sink.end();
     }
 
     public double simulateQuantumFieldEnergy(double fieldStrength, double vacuumEnergyDensity, double interactionConstant, int totalSteps) {
@@ -2215,15 +2884,25 @@ public class PhysicsService {
     }
 
     public String simulatePhotonRedshift(double photonEnergy, double expansionRate, double distance, int totalSteps) {
-        StringBuilder redshiftData = new StringBuilder();
+        return simulatePhotonRedshiftTrajectory(photonEnergy, expansionRate, distance, totalSteps).toString();
+    }
+
+    public Trajectory simulatePhotonRedshiftTrajectory(double photonEnergy, double expansionRate, double distance, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulatePhotonRedshift(photonEnergy, expansionRate, distance, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulatePhotonRedshift(double photonEnergy, double expansionRate, double distance, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Photon Redshift", totalSteps, 1);
         double redshift = photonEnergy;
 
         for (int i = 0; i < totalSteps; i++) {
             redshift *= 1 + expansionRate * distance * i;
-            redshiftData.append("Step ").append(i).append(": Photon Redshift = ").append(redshift).append("\n");
+            sink.accept(i, redshift);
         }
 
-        return redshiftData.toString();
+        sink.end();
     }
 
     public double simulateNeutronStarCollapse(double initialMass, double coreTemperature, double pressure, int totalSteps) {
@@ -2247,25 +2926,32 @@ public class PhysicsService {
     }
 
     public String simulateThermodynamicHeatTransfer(double initialTemperature, double heatTransferCoefficient, double timeStep, int totalSteps) {
-        StringBuilder heatTransferData = new StringBuilder();
+        return simulateThermodynamicHeatTransferTrajectory(initialTemperature, heatTransferCoefficient, timeStep, totalSteps).toString();
+    }
+
+    public Trajectory simulateThermodynamicHeatTransferTrajectory(double initialTemperature, double heatTransferCoefficient, double timeStep, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateThermodynamicHeatTransfer(initialTemperature, heatTransferCoefficient, timeStep, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateThermodynamicHeatTransfer(double initialTemperature, double heatTransferCoefficient, double timeStep, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Temperature", totalSteps, 1);
         double temperature = initialTemperature;
 
         for (int i = 0; i < totalSteps; i++) {
             temperature -= heatTransferCoefficient * temperature * timeStep * i;
-            heatTransferData.append("Step ").append(i).append(": Temperature = ").append(temperature).append("\n");
+            sink.accept(i, temperature);
         }
 
-        return heatTransferData.toString();
+        sink.end();
     }
 
     public double simulateRelativisticLengthExpansion(double initialLength, double velocity, double speedOfLight, int totalSteps) {
         double expandedLength = initialLength;
+        double factor = 1 / Math.sqrt(1 - Math.pow(velocity / speedOfLight, 2));
 
-        for (int i = 0; i < totalSteps; i++) {
-            expandedLength *= 1 / Math.sqrt(1 - Math.pow(velocity / speedOfLight, 2));
-        }
-
-        return expandedLength;
+        return closedForms.repeatedProduct(expandedLength, factor, totalSteps);
     }
 
     public double simulateNeutronStarSpinDown(double magneticFieldStrength, double starRadius, double spinRate, int totalSteps) {
@@ -2279,15 +2965,25 @@ public class PhysicsService {
     }
 
     public String simulateProtonDecayHalfLife(double protonMass, double decayConstant, int totalSteps) {
-        StringBuilder decayData = new StringBuilder();
+        return simulateProtonDecayHalfLifeTrajectory(protonMass, decayConstant, totalSteps).toString();
+    }
+
+    public Trajectory simulateProtonDecayHalfLifeTrajectory(double protonMass, double decayConstant, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateProtonDecayHalfLife(protonMass, decayConstant, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateProtonDecayHalfLife(double protonMass, double decayConstant, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Decay Probability", totalSteps, 1);
         double decayProbability = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             decayProbability = 1 - Math.exp(-decayConstant * protonMass * i);
-            decayData.append("Step ").append(i).append(": Decay Probability = ").append(decayProbability).append("\n");
+            sink.accept(i, decayProbability);
         }
 
-        return decayData.toString();
+        sink.end();
     }
 
     public double simulateQuantumFieldPerturbations(double fieldStrength, double vacuumEnergy, double interactionTerm, int totalSteps) {
@@ -2311,15 +3007,25 @@ public class PhysicsService {
     }
 
     public String simulateBlackHoleSingularityFormation(double blackHoleMass, double eventHorizonRadius, int totalSteps) {
-        StringBuilder singularityData = new StringBuilder();
+        return simulateBlackHoleSingularityFormationTrajectory(blackHoleMass, eventHorizonRadius, totalSteps).toString();
+    }
+
+    public Trajectory simulateBlackHoleSingularityFormationTrajectory(double blackHoleMass, double eventHorizonRadius, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateBlackHoleSingularityFormation(blackHoleMass, eventHorizonRadius, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateBlackHoleSingularityFormation(double blackHoleMass, double eventHorizonRadius, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Singularity Force", totalSteps, 1);
         double singularityForce = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             singularityForce += blackHoleMass / Math.pow(eventHorizonRadius, 2) * i;
-            singularityData.append("Step ").append(i).append(": Singularity Force = ").append(singularityForce).append("\n");
+            sink.accept(i, singularityForce);
         }
 
-        return singularityData.toString();
+        sink.end();
     }
 
     public double simulateQuantumVacuumInstability(double vacuumEnergy, double fieldStrength, double interactionConstant, int totalSteps) {
@@ -2343,15 +3049,25 @@ public class PhysicsService {
     }
 
     public String simulatePhotonWaveInterference(double waveAmplitude, double wavelength, double phaseDifference, int totalSteps) {
-        StringBuilder interferenceData = new StringBuilder();
+        return simulatePhotonWaveInterferenceTrajectory(waveAmplitude, wavelength, phaseDifference, totalSteps).toString();
+    }
+
+    public Trajectory simulatePhotonWaveInterferenceTrajectory(double waveAmplitude, double wavelength, double phaseDifference, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulatePhotonWaveInterference(waveAmplitude, wavelength, phaseDifference, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulatePhotonWaveInterference(double waveAmplitude, double wavelength, double phaseDifference, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Interference Pattern", totalSteps, 1);
         double interferencePattern = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             interferencePattern += waveAmplitude * Math.sin(2 * Math.PI * i / wavelength + phaseDifference);
-            interferenceData.append("Step ").append(i).append(": Interference Pattern = ").append(interferencePattern).append("\n");
+            sink.accept(i, interferencePattern);
         }
 
-        return interferenceData.toString();
+        sink.end();
     }
 
     public double simulateSuperconductingCurrent(double currentDensity, double magneticField, double temperature, int totalSteps) {
@@ -2368,22 +3084,32 @@ public class PhysicsService {
         double potentialChange = 0;
 
         for (int i = 0; i < totalSteps; i++) {
-            potentialChange += (6.67430 * Math.pow(10, -11) * mass) / (distance * i + 1) * velocity;
+            potentialChange += (GRAVITATIONAL_CONSTANT * mass) / (distance * i + 1) * velocity;
         }
 
         return potentialChange;
     }
 
     public String simulateQuarkConfinement(double interactionStrength, double quarkSeparation, double timeStep, int totalSteps) {
-        StringBuilder confinementData = new StringBuilder();
+        return simulateQuarkConfinementTrajectory(interactionStrength, quarkSeparation, timeStep, totalSteps).toString();
+    }
+
+    public Trajectory simulateQuarkConfinementTrajectory(double interactionStrength, double quarkSeparation, double timeStep, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateQuarkConfinement(interactionStrength, quarkSeparation, timeStep, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateQuarkConfinement(double interactionStrength, double quarkSeparation, double timeStep, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Confinement Force", totalSteps, 1);
         double confinementForce = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             confinementForce += interactionStrength / (quarkSeparation * i + 1) * Math.sin(timeStep * i);
-            confinementData.append("Step ").append(i).append(": Confinement Force = ").append(confinementForce).append("\n");
+            sink.accept(i, confinementForce);
         }
 
-        return confinementData.toString();
+        sink.end();
     }
 
     public double simulateThermalConductivity(double heatTransferCoefficient, double materialDensity, double temperatureDifference, int totalSteps) {
@@ -2407,15 +3133,25 @@ public class PhysicsService {
     }
 
     public String simulateQuantumVacuumEnergyExtraction(double vacuumEnergy, double extractionRate, double timeStep, int totalSteps) {
-        StringBuilder energyExtractionData = new StringBuilder();
+        return simulateQuantumVacuumEnergyExtractionTrajectory(vacuumEnergy, extractionRate, timeStep, totalSteps).toString();
+    }
+
+    public Trajectory simulateQuantumVacuumEnergyExtractionTrajectory(double vacuumEnergy, double extractionRate, double timeStep, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateQuantumVacuumEnergyExtraction(vacuumEnergy, extractionRate, timeStep, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateQuantumVacuumEnergyExtraction(double vacuumEnergy, double extractionRate, double timeStep, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Extracted Energy", totalSteps, 1);
         double extractedEnergy = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             extractedEnergy += vacuumEnergy * extractionRate * Math.exp(-timeStep * i);
-            energyExtractionData.append("Step ").append(i).append(": Extracted Energy = ").append(extractedEnergy).append("\n");
+            sink.accept(i, extractedEnergy);
         }
 
-        return energyExtractionData.toString();
+        sink.end();
     }
 
     public double simulateGravitationalWavePropagation(double mass1, double mass2, double distance, double frequency, int totalSteps) {
@@ -2430,36 +3166,53 @@ public class PhysicsService {
 
     public double simulateRelativisticForceExpansion(double initialForce, double velocity, double speedOfLight, int totalSteps) {
         double force = initialForce;
+        double factor = 1 / Math.sqrt(1 - Math.pow(velocity / speedOfLight, 2));
 
-        for (int i = 0; i < totalSteps; i++) {
-            force *= 1 / Math.sqrt(1 - Math.pow(velocity / speedOfLight, 2));
-        }
-
-        return force;
+        return closedForms.repeatedProduct(force, factor, totalSteps);
     }
 
     public String simulateAxionParticleDetection(double axionMass, double detectorSensitivity, double noiseLevel, int totalSteps) {
-        StringBuilder detectionData = new StringBuilder();
+        return simulateAxionParticleDetectionTrajectory(axionMass, detectorSensitivity, noiseLevel, totalSteps).toString();
+    }
+
+    public Trajectory simulateAxionParticleDetectionTrajectory(double axionMass, double detectorSensitivity, double noiseLevel, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateAxionParticleDetection(axionMass, detectorSensitivity, noiseLevel, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateAxionParticleDetection(double axionMass, double detectorSensitivity, double noiseLevel, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Detection Probability", totalSteps, 1);
         double detectionProbability = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             detectionProbability += axionMass * detectorSensitivity / (i + 1) - noiseLevel * i;
-            detectionData.append("Step ").append(i).append(": Detection Probability = ").append(detectionProbability).append("\n");
+            sink.accept(i, detectionProbability);
         }
 
-        return detectionData.toString();
+        sink.end();
     }
 
     public String simulateDarkEnergyFluctuation(double initialEnergyDensity, double fluctuationAmplitude, int totalSteps) {
-        StringBuilder fluctuationData = new StringBuilder();
+        return simulateDarkEnergyFluctuationTrajectory(initialEnergyDensity, fluctuationAmplitude, totalSteps).toString();
+    }
+
+    public Trajectory simulateDarkEnergyFluctuationTrajectory(double initialEnergyDensity, double fluctuationAmplitude, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateDarkEnergyFluctuation(initialEnergyDensity, fluctuationAmplitude, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateDarkEnergyFluctuation(double initialEnergyDensity, double fluctuationAmplitude, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Energy Density", totalSteps, 1);
         double energyDensity = initialEnergyDensity;
 
         for (int i = 0; i < totalSteps; i++) {
             energyDensity += fluctuationAmplitude * Math.sin(i * Math.PI / 4);
-            fluctuationData.append("Step ").append(i).append(": Energy Density = ").append(energyDensity).append("\n");
+            sink.accept(i, energyDensity);
         }
 
-        return fluctuationData.toString();
+        sink.end();
     }
 
     public double simulatePulsarRadiationDecay(double initialRadiation, double decayRate, double magneticFieldStrength, int totalSteps) {
@@ -2483,15 +3236,25 @@ public class PhysicsService {
     }
 
     public String simulateQuantumEntanglementDegradation(double entanglementFactor, double noiseInfluence, int totalSteps) {
-        StringBuilder entanglementData = new StringBuilder();
+        return simulateQuantumEntanglementDegradationTrajectory(entanglementFactor, noiseInfluence, totalSteps).toString();
+    }
+
+    public Trajectory simulateQuantumEntanglementDegradationTrajectory(double entanglementFactor, double noiseInfluence, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateQuantumEntanglementDegradation(entanglementFactor, noiseInfluence, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateQuantumEntanglementDegradation(double entanglementFactor, double noiseInfluence, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Entanglement", totalSteps, 1);
         double entanglement = entanglementFactor;
 
         for (int i = 0; i < totalSteps; i++) {
             entanglement *= Math.exp(-noiseInfluence * i);
-            entanglementData.append("Step ").append(i).append(": Entanglement = ").append(entanglement).append("\n");
+            sink.accept(i, entanglement);
         }
 
-        return entanglementData.toString();
+        sink.end();
     }
 
     public double simulateCosmicExpansionDamping(double expansionRate, double darkMatterDensity, int totalSteps) {
@@ -2505,15 +3268,25 @@ public class PhysicsService {
     }
 
     public String simulatePhotonPolarizationDecay(double initialPolarization, double decayRate, double photonEnergy, int totalSteps) {
-        StringBuilder polarizationData = new StringBuilder();
+        return simulatePhotonPolarizationDecayTrajectory(initialPolarization, decayRate, photonEnergy, totalSteps).toString();
+    }
+
+    public Trajectory simulatePhotonPolarizationDecayTrajectory(double initialPolarization, double decayRate, double photonEnergy, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulatePhotonPolarizationDecay(initialPolarization, decayRate, photonEnergy, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulatePhotonPolarizationDecay(double initialPolarization, double decayRate, double photonEnergy, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Polarization", totalSteps, 1);
         double polarization = initialPolarization;
 
         for (int i = 0; i < totalSteps; i++) {
             polarization *= Math.exp(-decayRate * photonEnergy * i);
-            polarizationData.append("Step ").append(i).append(": Polarization = ").append(polarization).append("\n");
+            sink.accept(i, polarization);
         }
 
-        return polarizationData.toString();
+        sink.end();
     }
 
     public double simulateGravitationalRedshift(double mass, double distance, double lightFrequency, int totalSteps) {
@@ -2537,15 +3310,25 @@ public class PhysicsService {
     }
 
     public String simulateProtonCollisionCrossSection(double protonEnergy, double mediumDensity, double interactionCrossSection, int totalSteps) {
-        StringBuilder collisionData = new StringBuilder();
+        return simulateProtonCollisionCrossSectionTrajectory(protonEnergy, mediumDensity, interactionCrossSection, totalSteps).toString();
+    }
+
+    public Trajectory simulateProtonCollisionCrossSectionTrajectory(double protonEnergy, double mediumDensity, double interactionCrossSection, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateProtonCollisionCrossSection(protonEnergy, mediumDensity, interactionCrossSection, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateProtonCollisionCrossSection(double protonEnergy, double mediumDensity, double interactionCrossSection, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Cross Section", totalSteps, 1);
         double crossSection = protonEnergy;
 
         for (int i = 0; i < totalSteps; i++) {
             crossSection *= Math.exp(-mediumDensity * interactionCrossSection * i);
-            collisionData.append("Step ").append(i).append(": Cross Section = ").append(crossSection).append("\n");
+            sink.accept(i, crossSection);
         }
 
-        return collisionData.toString();
+        sink.end();
     }
 
     public double simulateQuantumWaveAmplitude(double initialAmplitude, double frequency, double phaseShift, int totalSteps) {
@@ -2569,15 +3352,25 @@ public class PhysicsService {
     }
 
     public String simulateQuantumStateInterference(double stateAmplitude1, double stateAmplitude2, double phaseDifference, int totalSteps) {
-        StringBuilder interferenceData = new StringBuilder();
+        return simulateQuantumStateInterferenceTrajectory(stateAmplitude1, stateAmplitude2, phaseDifference, totalSteps).toString();
+    }
+
+    public Trajectory simulateQuantumStateInterferenceTrajectory(double stateAmplitude1, double stateAmplitude2, double phaseDifference, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateQuantumStateInterference(stateAmplitude1, stateAmplitude2, phaseDifference, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateQuantumStateInterference(double stateAmplitude1, double stateAmplitude2, double phaseDifference, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Interference Pattern", totalSteps, 1);
         double interferencePattern = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             interferencePattern += stateAmplitude1 * Math.sin(phaseDifference * i) + stateAmplitude2 * Math.cos(phaseDifference * i);
-            interferenceData.append("Step ").append(i).append(": Interference Pattern = ").append(interferencePattern).append("\n");
+            sink.accept(i, interferencePattern);
         }
 
-        return interferenceData.toString();
+        sink.end();
     }
 
     public double simulateThermodynamicEntropyProduction(double systemEnergy, double temperature, int totalSteps) {
@@ -2611,15 +3404,25 @@ public class PhysicsService {
     }
 
     public String simulatePhotonWaveDiffraction(double wavelength, double slitWidth, double pathDifference, int totalSteps) {
-        StringBuilder diffractionData = new StringBuilder();
+        return simulatePhotonWaveDiffractionTrajectory(wavelength, slitWidth, pathDifference, totalSteps).toString();
+    }
+
+    public Trajectory simulatePhotonWaveDiffractionTrajectory(double wavelength, double slitWidth, double pathDifference, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulatePhotonWaveDiffraction(wavelength, slitWidth, pathDifference, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulatePhotonWaveDiffraction(double wavelength, double slitWidth, double pathDifference, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Diffraction Pattern", totalSteps, 1);
         double diffractionPattern = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             diffractionPattern += Math.sin(2 * Math.PI * i / wavelength + pathDifference);
-            diffractionData.append("Step ").append(i).append(": Diffraction Pattern = ").append(diffractionPattern).append("\n");
+            sink.accept(i, diffractionPattern);
         }
 
-        return diffractionData.toString();
+        sink.end();
     }
 
     public double simulateDarkMatterHaloFormation(double haloMass, double velocityDispersion, double gravitationalConstant, int totalSteps) {
@@ -2643,15 +3446,25 @@ public class PhysicsService {
     }
 
     public String simulateQuantumTeleportationSuccessRate(double qubitState1, double qubitState2, double entanglementFactor, int totalSteps) {
-        StringBuilder teleportationData = new StringBuilder();
+        return simulateQuantumTeleportationSuccessRateTrajectory(qubitState1, qubitState2, entanglementFactor, totalSteps).toString();
+    }
+
+    public Trajectory simulateQuantumTeleportationSuccessRateTrajectory(double qubitState1, double qubitState2, double entanglementFactor, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateQuantumTeleportationSuccessRate(qubitState1, qubitState2, entanglementFactor, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateQuantumTeleportationSuccessRate(double qubitState1, double qubitState2, double entanglementFactor, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Success Rate", totalSteps, 1);
         double successRate = (qubitState1 + qubitState2) / 2;
 
         for (int i = 0; i < totalSteps; i++) {
             successRate *= Math.cos(entanglementFactor * i);
-            teleportationData.append("Step ").append(i).append(": Success Rate = ").append(successRate).append("\n");
+            sink.accept(i, successRate);
         }
 
-        return teleportationData.toString();
+        sink.end();
     }
 
     public double simulateThermalRadiationLoss(double surfaceArea, double emissivity, double temperature, int totalSteps) {
@@ -2665,15 +3478,25 @@ public class PhysicsService {
     }
 
     public String simulateGravitationalWaveDetectionProbability(double waveAmplitude, double detectorSensitivity, int totalSteps) {
-        StringBuilder detectionData = new StringBuilder();
+        return simulateGravitationalWaveDetectionProbabilityTrajectory(waveAmplitude, detectorSensitivity, totalSteps).toString();
+    }
+
+    public Trajectory simulateGravitationalWaveDetectionProbabilityTrajectory(double waveAmplitude, double detectorSensitivity, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateGravitationalWaveDetectionProbability(waveAmplitude, detectorSensitivity, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateGravitationalWaveDetectionProbability(double waveAmplitude, double detectorSensitivity, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Detection Probability", totalSteps, 1);
         double detectionProbability = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             detectionProbability += waveAmplitude * detectorSensitivity / (i + 1);
-            detectionData.append("Step ").append(i).append(": Detection Probability = ").append(detectionProbability).append("\n");
+            sink.accept(i, detectionProbability);
         }
 
-        return detectionData.toString();
+        sink.end();
     }
 
     public double simulateQuantumFieldCollapse(double initialFieldStrength, double collapseRate, double interactionStrength, int totalSteps) {
@@ -2687,15 +3510,25 @@ public class PhysicsService {
     }
 
     public String simulateNeutrinoOscillationFrequency(double neutrinoMassDifference, double distance, double energy, int totalSteps) {
-        StringBuilder oscillationData = new StringBuilder();
+        return simulateNeutrinoOscillationFrequencyTrajectory(neutrinoMassDifference, distance, energy, totalSteps).toString();
+    }
+
+    public Trajectory simulateNeutrinoOscillationFrequencyTrajectory(double neutrinoMassDifference, double distance, double energy, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateNeutrinoOscillationFrequency(neutrinoMassDifference, distance, energy, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateNeutrinoOscillationFrequency(double neutrinoMassDifference, double distance, double energy, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Oscillation Frequency", totalSteps, 1);
         double oscillationFrequency = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             oscillationFrequency += Math.sin(1.27 * neutrinoMassDifference * distance / energy) * i;
-            oscillationData.append("Step ").append(i).append(": Oscillation Frequency = ").append(oscillationFrequency).append("\n");
+            sink.accept(i, oscillationFrequency);
         }
 
-        return oscillationData.toString();
+        sink.end();
     }
 
     public double simulateCosmicRayPropagation(double initialEnergy, double atmosphereDensity, double pathLength, int totalSteps) {
@@ -2709,15 +3542,25 @@ public class PhysicsService {
     }
 
     public String simulateQuantumStateDephasing(double initialPhase, double decoherenceRate, double noiseLevel, int totalSteps) {
-        StringBuilder dephasingData = new StringBuilder();
+        return simulateQuantumStateDephasingTrajectory(initialPhase, decoherenceRate, noiseLevel, totalSteps).toString();
+    }
+
+    public Trajectory simulateQuantumStateDephasingTrajectory(double initialPhase, double decoherenceRate, double noiseLevel, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateQuantumStateDephasing(initialPhase, decoherenceRate, noiseLevel, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateQuantumStateDephasing(double initialPhase, double decoherenceRate, double noiseLevel, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Phase", totalSteps, 1);
         double phase = initialPhase;
 
         for (int i = 0; i < totalSteps; i++) {
             phase *= Math.exp(-decoherenceRate * noiseLevel * i);
-            dephasingData.append("Step ").append(i).append(": Phase = ").append(phase).append("\n");
+            sink.accept(i, phase);
         }
 
-        return dephasingData.toString();
+        sink.end();
     }
 
     public double simulatePhotonEnergyShift(double photonEnergy, double redshiftFactor, double distance, int totalSteps) {
@@ -2731,15 +3574,25 @@ public class PhysicsService {
     }
 
     public String simulatePulsarWindEmission(double pulsarSpinRate, double magneticFieldStrength, double starRadius, int totalSteps) {
-        StringBuilder windEmissionData = new StringBuilder();
+        return simulatePulsarWindEmissionTrajectory(pulsarSpinRate, magneticFieldStrength, starRadius, totalSteps).toString();
+    }
+
+    public Trajectory simulatePulsarWindEmissionTrajectory(double pulsarSpinRate, double magneticFieldStrength, double starRadius, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulatePulsarWindEmission(pulsarSpinRate, magneticFieldStrength, starRadius, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulatePulsarWindEmission(double pulsarSpinRate, double magneticFieldStrength, double starRadius, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Wind Emission", totalSteps, 1);
         double windEmission = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             windEmission += (magneticFieldStrength * Math.pow(starRadius, 3)) / (pulsarSpinRate * i + 1);
-            windEmissionData.append("Step ").append(i).append(": Wind Emission = ").append(windEmission).append("\n");
+            sink.accept(i, windEmission);
         }
 
-        return windEmissionData.toString();
+        sink.end();
     }
 
     public double simulateAxionParticleCreation(double axionMass, double interactionStrength, double vacuumEnergy, int totalSteps) {
@@ -2753,15 +3606,25 @@ public class PhysicsService {
     }
 
     public String simulateRelativisticEnergyIncrease(double restMass, double velocity, double speedOfLight, int totalSteps) {
-        StringBuilder energyData = new StringBuilder();
+        return simulateRelativisticEnergyIncreaseTrajectory(restMass, velocity, speedOfLight, totalSteps).toString();
+    }
+
+    public Trajectory simulateRelativisticEnergyIncreaseTrajectory(double restMass, double velocity, double speedOfLight, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateRelativisticEnergyIncrease(restMass, velocity, speedOfLight, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateRelativisticEnergyIncrease(double restMass, double velocity, double speedOfLight, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Energy", totalSteps, 1);
         double energy = restMass;
 
         for (int i = 0; i < totalSteps; i++) {
             energy += (restMass * Math.pow(velocity, 2)) / Math.sqrt(1 - Math.pow(velocity / speedOfLight, 2));
-            energyData.append("Step ").append(i).append(": Energy = ").append(energy).append("\n");
+            sink.accept(i, energy);
         }
 
-        return energyData.toString();
+        sink.end();
     }
 
     public double simulateQuantumVacuumEnergy(double initialVacuumEnergy, double fluctuationRate, double interactionConstant, int totalSteps) {
@@ -2778,22 +3641,32 @@ public class PhysicsService {
         double magnification = 0;
 
         for (int i = 0; i < totalSteps; i++) {
-            magnification += (4 * 6.67430 * Math.pow(10, -11) * mass) / (distance * Math.sin(lightAngle * i));
+            magnification += (4 * GRAVITATIONAL_CONSTANT * mass) / (distance * Math.sin(lightAngle * i));
         }
 
         return magnification;
     }
 
     public String simulateQuantumBitErrorRate(double initialState, double errorRate, int totalSteps) {
-        StringBuilder errorRateData = new StringBuilder();
+        return simulateQuantumBitErrorRateTrajectory(initialState, errorRate, totalSteps).toString();
+    }
+
+    public Trajectory simulateQuantumBitErrorRateTrajectory(double initialState, double errorRate, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateQuantumBitErrorRate(initialState, errorRate, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateQuantumBitErrorRate(double initialState, double errorRate, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Bit Error Rate", totalSteps, 1);
         double bitErrorRate = initialState;
 
         for (int i = 0; i < totalSteps; i++) {
             bitErrorRate *= 1 - errorRate * i;
-            errorRateData.append("Step ").append(i).append(": Bit Error Rate = ").append(bitErrorRate).append("\n");
+            sink.accept(i, bitErrorRate);
         }
 
-        return errorRateData.toString();
+        sink.end();
     }
 
     public double simulateCosmicInflationExpansion(double expansionRate, double inflationFieldStrength, int totalSteps) {
@@ -2817,15 +3690,25 @@ public class PhysicsService {
     }
 
     public String simulateBlackHoleJetEnergy(double blackHoleMass, double accretionDiskDensity, double magneticFieldStrength, int totalSteps) {
-        StringBuilder jetEnergyData = new StringBuilder();
+        return simulateBlackHoleJetEnergyTrajectory(blackHoleMass, accretionDiskDensity, magneticFieldStrength, totalSteps).toString();
+    }
+
+    public Trajectory simulateBlackHoleJetEnergyTrajectory(double blackHoleMass, double accretionDiskDensity, double magneticFieldStrength, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateBlackHoleJetEnergy(blackHoleMass, accretionDiskDensity, magneticFieldStrength, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateBlackHoleJetEnergy(double blackHoleMass, double accretionDiskDensity, double magneticFieldStrength, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Jet Energy", totalSteps, 1);
         double jetEnergy = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             jetEnergy += blackHoleMass * accretionDiskDensity * Math.pow(magneticFieldStrength, 2) * i;
-            jetEnergyData.append("Step ").append(i).append(": Jet Energy = ").append(jetEnergy).append("\n");
+            sink.accept(i, jetEnergy);
         }
 
-        return jetEnergyData.toString();
+        sink.end();
     }
 
     public double simulateThermalConductance(double heatTransferCoefficient, double surfaceArea, double temperatureDifference, int totalSteps) {
@@ -2839,37 +3722,47 @@ public class PhysicsService {
     }
 
     public String simulateQuantumVacuumStability(double vacuumEnergy, double decayRate, int totalSteps) {
-        StringBuilder stabilityData = new StringBuilder();
+        return simulateQuantumVacuumStabilityTrajectory(vacuumEnergy, decayRate, totalSteps).toString();
+    }
+
+    public Trajectory simulateQuantumVacuumStabilityTrajectory(double vacuumEnergy, double decayRate, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateQuantumVacuumStability(vacuumEnergy, decayRate, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateQuantumVacuumStability(double vacuumEnergy, double decayRate, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Vacuum Stability", totalSteps, 1);
         double stability = vacuumEnergy;
 
         for (int i = 0; i < totalSteps; i++) {
             stability *= Math.exp(-decayRate * i);
-            stabilityData.append("Step ").append(i).append(": Vacuum Stability = ").append(stability).append("\n");
+            sink.accept(i, stability);
         }
 
-        return stabilityData.toString();
+        sink.end();
     }
 
-    public double simulateRelativisticEnergyLoss(double initialEnergy, double velocity, double speedOfLight, int totalSteps) {
-        double energy = initialEnergy;
-
-        for (int i = 0; i < totalSteps; i++) {
-            energy *= (1 - Math.pow(velocity / speedOfLight, 2)) * i;
-        }
+    public String simulateDarkMatterDistribution(double haloMass, double velocityDispersion, double gravitationalConstant, int totalSteps) {
+        return simulateDarkMatterDistributionTrajectory(haloMass, velocityDispersion, gravitationalConstant, totalSteps).toString();
+    }
 
-        return energy;
+    public Trajectory simulateDarkMatterDistributionTrajectory(double haloMass, double velocityDispersion, double gravitationalConstant, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateDarkMatterDistribution(haloMass, velocityDispersion, gravitationalConstant, totalSteps, collector);
+        return collector.getTrajectory();
     }
 
-    public String simulateDarkMatterDistribution(double haloMass, double velocityDispersion, double gravitationalConstant, int totalSteps) {
-        StringBuilder distributionData = new StringBuilder();
+    public void simulateDarkMatterDistribution(double haloMass, double velocityDispersion, double gravitationalConstant, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Dark Matter Density", totalSteps, 1);
         double darkMatterDensity = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             darkMatterDensity += haloMass * velocityDispersion / (gravitationalConstant * i + 1);
-            distributionData.append("Step ").append(i).append(": Dark Matter Density = ").append(darkMatterDensity).append("\n");
+            sink.accept(i, darkMatterDensity);
         }
 
-        return distributionData.toString();
+        sink.end();
     }
 
     public double simulatePhotonScatteringProbability(double photonEnergy, double mediumDensity, double scatteringAngle, int totalSteps) {
@@ -2893,15 +3786,25 @@ public class PhysicsService {
     }
 
     public String simulateQuantumEntanglementSwap(double entangledState1, double entangledState2, double swapRate, int totalSteps) {
-        StringBuilder swapData = new StringBuilder();
+        return simulateQuantumEntanglementSwapTrajectory(entangledState1, entangledState2, swapRate, totalSteps).toString();
+    }
+
+    public Trajectory simulateQuantumEntanglementSwapTrajectory(double entangledState1, double entangledState2, double swapRate, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateQuantumEntanglementSwap(entangledState1, entangledState2, swapRate, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateQuantumEntanglementSwap(double entangledState1, double entangledState2, double swapRate, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Swapped State", totalSteps, 1);
         double swappedState = (entangledState1 + entangledState2) / 2;
 
         for (int i = 0; i < totalSteps; i++) {
             swappedState *= Math.cos(swapRate * i);
-            swapData.append("Step ").append(i).append(": Swapped State = ").append(swappedState).append("\n");
+            sink.accept(i, swappedState);
         }
 
-        return swapData.toString();
+        sink.end();
     }
 
     public double simulateQuantumPhaseShift(double initialPhase, double phaseShiftRate, double interactionConstant, int totalSteps) {
@@ -2915,15 +3818,25 @@ public class PhysicsService {
     }
 
     public String simulateProtonProtonCollision(double protonMass1, double protonMass2, double collisionEnergy, int totalSteps) {
-        StringBuilder collisionData = new StringBuilder();
+        return simulateProtonProtonCollisionTrajectory(protonMass1, protonMass2, collisionEnergy, totalSteps).toString();
+    }
+
+    public Trajectory simulateProtonProtonCollisionTrajectory(double protonMass1, double protonMass2, double collisionEnergy, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateProtonProtonCollision(protonMass1, protonMass2, collisionEnergy, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateProtonProtonCollision(double protonMass1, double protonMass2, double collisionEnergy, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Final Collision Energy", totalSteps, 1);
         double finalEnergy = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             finalEnergy = (protonMass1 * protonMass2 * collisionEnergy) / (i + 1);
-            collisionData.append("Step ").append(i).append(": Final Collision Energy = ").append(finalEnergy).append("\n");
+            sink.accept(i, finalEnergy);
         }
 
-        return collisionData.toString();
+        sink.end();
     }
 
     public double simulateCosmicMicrowaveBackgroundTemperature(double initialTemperature, double timeStep, double expansionRate, int totalSteps) {
@@ -2937,25 +3850,25 @@ public class PhysicsService {
     }
 
     public String simulateQuantumTunnelingProbability(double barrierHeight, double particleEnergy, double barrierWidth, int totalSteps) {
-        StringBuilder tunnelingData = new StringBuilder();
-        double probability = 0;
-
-        for (int i = 0; i < totalSteps; i++) {
-            probability = Math.exp(-2 * barrierHeight * barrierWidth / particleEnergy);
-            tunnelingData.append("Step ").append(i).append(": Tunneling Probability = ").append(probability).append("\n");
-        }
+        return simulateQuantumTunnelingProbabilityTrajectory(barrierHeight, particleEnergy, barrierWidth, totalSteps).toString();
+    }
 
-        return tunnelingData.toString();
+    public Trajectory simulateQuantumTunnelingProbabilityTrajectory(double barrierHeight, double particleEnergy, double barrierWidth, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateQuantumTunnelingProbability(barrierHeight, particleEnergy, barrierWidth, totalSteps, collector);
+        return collector.getTrajectory();
     }
 
-    public double simulateGravitationalCollapse(double starMass, double coreTemperature, double pressure, int totalSteps) {
-        double collapseForce = 0;
+    public void simulateQuantumTunnelingProbability(double barrierHeight, double particleEnergy, double barrierWidth, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Tunneling Probability", totalSteps, 1);
+        double probability = 0;
 
         for (int i = 0; i < totalSteps; i++) {
-            collapseForce += starMass * Math.pow(coreTemperature, 2) / (pressure * i + 1);
+            probability = Math.exp(-2 * barrierHeight * barrierWidth / particleEnergy);
+            sink.accept(i, probability);
         }
 
-        return collapseForce;
+        sink.end();
     }
 
     public double simulatePhotonBeamDivergence(double initialIntensity, double divergenceAngle, double distance, int totalSteps) {
@@ -2968,8 +3881,18 @@ public class PhysicsService {
         return intensity;
     }
 
-    public String simulateQuantumHarmonicOscillator(double mass, double frequency, double initialDisplacement, int totalSteps) {
-        StringBuilder oscillatorData = new StringBuilder();
+    public String simulateOscillatorDisplacement(double mass, double frequency, double initialDisplacement, int totalSteps) {
+        return simulateOscillatorDisplacementTrajectory(mass, frequency, initialDisplacement, totalSteps).toString();
+    }
+
+    public Trajectory simulateOscillatorDisplacementTrajectory(double mass, double frequency, double initialDisplacement, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateOscillatorDisplacement(mass, frequency, initialDisplacement, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateOscillatorDisplacement(double mass, double frequency, double initialDisplacement, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Displacement", totalSteps, 1);
         double displacement = initialDisplacement;
         double velocity = 0;
 
@@ -2977,32 +3900,39 @@ public class PhysicsService {
             double acceleration = -(frequency * frequency) * displacement;
             velocity += acceleration * mass;
             displacement += velocity;
-            oscillatorData.append("Step ").append(i).append(": Displacement = ").append(displacement).append("\n");
+            sink.accept(i, displacement);
         }
 
-        return oscillatorData.toString();
+        sink.end();
     }
 
     public double simulateRelativisticKineticEnergyGain(double mass, double velocity, double speedOfLight, int totalSteps) {
         double kineticEnergy = 0;
+        double increment = mass * Math.pow(velocity, 2) / Math.sqrt(1 - Math.pow(velocity / speedOfLight, 2));
 
-        for (int i = 0; i < totalSteps; i++) {
-            kineticEnergy += mass * Math.pow(velocity, 2) / Math.sqrt(1 - Math.pow(velocity / speedOfLight, 2));
-        }
-
-        return kineticEnergy;
+        return closedForms.repeatedSum(kineticEnergy, increment, totalSteps);
     }
 
     public String simulateCosmicExpansionFluctuation(double initialExpansionRate, double fluctuationAmplitude, double darkEnergyDensity, int totalSteps) {
-        StringBuilder expansionData = new StringBuilder();
-        double expansionRate = initialExpansionRate;
+        return simulateCosmicExpansionFluctuationTrajectory(initialExpansionRate, fluctuationAmplitude, darkEnergyDensity, totalSteps).toString();
+    }
+
+    public Trajectory simulateCosmicExpansionFluctuationTrajectory(double initialExpansionRate, double fluctuationAmplitude, double darkEnergyDensity, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateCosmicExpansionFluctuation(initialExpansionRate, fluctuationAmplitude, darkEnergyDensity, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateCosmicExpansionFluctuation(double initialExpansionRate, double fluctuationAmplitude, double darkEnergyDensity, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Expansion Rate", totalSteps, 1);
+        double expansionRate = initialExpansionRate;
 
         for (int i = 0; i < totalSteps; i++) {
             expansionRate += fluctuationAmplitude * darkEnergyDensity * i;
-            expansionData.append("Step ").append(i).append(": Expansion Rate = ").append(expansionRate).append("\n");
+            sink.accept(i, expansionRate);
         }
 
-        return expansionData.toString();
+        sink.end();
     }
 
     public double simulateNeutrinoDetectionSignal(double neutrinoFlux, double detectorSensitivity, double noiseLevel, int totalSteps) {
@@ -3016,15 +3946,25 @@ public class PhysicsService {
     }
 
     public String simulateDarkMatterGravitationalPull(double haloMass, double distance, double velocityDispersion, int totalSteps) {
-        StringBuilder gravitationalData = new StringBuilder();
+        return simulateDarkMatterGravitationalPullTrajectory(haloMass, distance, velocityDispersion, totalSteps).toString();
+    }
+
+    public Trajectory simulateDarkMatterGravitationalPullTrajectory(double haloMass, double distance, double velocityDispersion, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateDarkMatterGravitationalPull(haloMass, distance, velocityDispersion, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateDarkMatterGravitationalPull(double haloMass, double distance, double velocityDispersion, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Gravitational Pull", totalSteps, 1);
         double gravitationalForce = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             gravitationalForce += (haloMass * velocityDispersion) / (distance * i + 1);
-            gravitationalData.append("Step ").append(i).append(": Gravitational Pull = ").append(gravitationalForce).append("\n");
+            sink.accept(i, gravitationalForce);
         }
 
-        return gravitationalData.toString();
+        sink.end();
     }
 
     public double simulateAxionFieldOscillation(double fieldStrength, double oscillationFrequency, int totalSteps) {
@@ -3038,15 +3978,25 @@ public class PhysicsService {
     }
 
     public String simulateQuantumEntanglementFidelity(double initialState1, double initialState2, double fidelityFactor, int totalSteps) {
-        StringBuilder fidelityData = new StringBuilder();
+        return simulateQuantumEntanglementFidelityTrajectory(initialState1, initialState2, fidelityFactor, totalSteps).toString();
+    }
+
+    public Trajectory simulateQuantumEntanglementFidelityTrajectory(double initialState1, double initialState2, double fidelityFactor, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateQuantumEntanglementFidelity(initialState1, initialState2, fidelityFactor, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateQuantumEntanglementFidelity(double initialState1, double initialState2, double fidelityFactor, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Fidelity", totalSteps, 1);
         double fidelity = (initialState1 + initialState2) / 2;
 
         for (int i = 0; i < totalSteps; i++) {
             fidelity *= Math.cos(fidelityFactor * i);
-            fidelityData.append("Step ").append(i).append(": Fidelity = ").append(fidelity).append("\n");
+            sink.accept(i, fidelity);
         }
 
-        return fidelityData.toString();
+        sink.end();
     }
 
     public double simulateRelativisticMomentumDecay(double initialMomentum, double velocity, double decayRate, int totalSteps) {
@@ -3060,15 +4010,25 @@ public class PhysicsService {
     }
 
     public String simulateBlackHoleAccretionRate(double blackHoleMass, double accretionDiskDensity, double timeStep, int totalSteps) {
-        StringBuilder accretionData = new StringBuilder();
+        return simulateBlackHoleAccretionRateTrajectory(blackHoleMass, accretionDiskDensity, timeStep, totalSteps).toString();
+    }
+
+    public Trajectory simulateBlackHoleAccretionRateTrajectory(double blackHoleMass, double accretionDiskDensity, double timeStep, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateBlackHoleAccretionRate(blackHoleMass, accretionDiskDensity, timeStep, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateBlackHoleAccretionRate(double blackHoleMass, double accretionDiskDensity, double timeStep, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Accretion Rate", totalSteps, 1);
         double accretionRate = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             accretionRate += blackHoleMass * accretionDiskDensity * timeStep * i;
-            accretionData.append("Step ").append(i).append(": Accretion Rate = ").append(accretionRate).append("\n");
+            sink.accept(i, accretionRate);
         }
 
-        return accretionData.toString();
+        sink.end();
     }
 
     public double simulateThermalRadiationAbsorption(double surfaceArea, double emissivity, double temperature, int totalSteps) {
@@ -3082,15 +4042,25 @@ public class PhysicsService {
     }
 
     public String simulateQuantumSuperpositionDecay(double initialState, double decayRate, double timeStep, int totalSteps) {
-        StringBuilder decayData = new StringBuilder();
+        return simulateQuantumSuperpositionDecayTrajectory(initialState, decayRate, timeStep, totalSteps).toString();
+    }
+
+    public Trajectory simulateQuantumSuperpositionDecayTrajectory(double initialState, double decayRate, double timeStep, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateQuantumSuperpositionDecay(initialState, decayRate, timeStep, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateQuantumSuperpositionDecay(double initialState, double decayRate, double timeStep, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Superposed State", totalSteps, 1);
         double superposedState = initialState;
 
         for (int i = 0; i < totalSteps; i++) {
             superposedState *= Math.exp(-decayRate * timeStep * i);
-            decayData.append("Step ").append(i).append(": Superposed State = ").append(superposedState).append("\n");
+            sink.accept(i, superposedState);
         }
 
-        return decayData.toString();
+        sink.end();
     }
 
     public double simulateCosmicNeutrinoBackground(double neutrinoDensity, double universeExpansionRate, int totalSteps) {
@@ -3104,37 +4074,57 @@ public class PhysicsService {
     }
 
     public String simulatePhotonPolarizationAngleShift(double polarizationAngle, double photonEnergy, double scatteringAngle, int totalSteps) {
-        StringBuilder angleData = new StringBuilder();
+        return simulatePhotonPolarizationAngleShiftTrajectory(polarizationAngle, photonEnergy, scatteringAngle, totalSteps).toString();
+    }
+
+    public Trajectory simulatePhotonPolarizationAngleShiftTrajectory(double polarizationAngle, double photonEnergy, double scatteringAngle, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulatePhotonPolarizationAngleShift(polarizationAngle, photonEnergy, scatteringAngle, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulatePhotonPolarizationAngleShift(double polarizationAngle, double photonEnergy, double scatteringAngle, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Shifted Polarization Angle", totalSteps, 1);
         double shiftedAngle = polarizationAngle;
 
         for (int i = 0; i < totalSteps; i++) {
             shiftedAngle += Math.sin(photonEnergy * i) * Math.cos(scatteringAngle * i);
-            angleData.append("Step ").append(i).append(": Shifted Polarization Angle = ").append(shiftedAngle).append("\n");
+            sink.accept(i, shiftedAngle);
         }
 
-        return angleData.toString();
+        sink.end();
     }
 
     public double simulateGravitationalPotentialEnergy(double mass1, double mass2, double distance, int totalSteps) {
         double potentialEnergy = 0;
 
         for (int i = 0; i < totalSteps; i++) {
-            potentialEnergy += (6.67430 * Math.pow(10, -11) * mass1 * mass2) / (distance * i + 1);
+            potentialEnergy += (GRAVITATIONAL_CONSTANT * mass1 * mass2) / (distance * i + 1);
         }
 
         return potentialEnergy;
     }
 
     public String simulateQuantumStateMeasurementProbability(double initialState, double measurementBias, double noiseLevel, int totalSteps) {
-        StringBuilder probabilityData = new StringBuilder();
+        return simulateQuantumStateMeasurementProbabilityTrajectory(initialState, measurementBias, noiseLevel, totalSteps).toString();
+    }
+
+    public Trajectory simulateQuantumStateMeasurementProbabilityTrajectory(double initialState, double measurementBias, double noiseLevel, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateQuantumStateMeasurementProbability(initialState, measurementBias, noiseLevel, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateQuantumStateMeasurementProbability(double initialState, double measurementBias, double noiseLevel, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Measurement Probability", totalSteps, 1);
         double measurementProbability = initialState;
 
         for (int i = 0; i < totalSteps; i++) {
             measurementProbability *= Math.sin(measurementBias * i) - noiseLevel * i;
-            probabilityData.append("Step ").append(i).append(": Measurement Probability = ").append(measurementProbability).append("\n");
+            sink.accept(i, measurementProbability);
         }
 
-        return probabilityData.toString();
+        sink.end();
     }
 
     public double simulateRelativisticForceDecay(double initialForce, double velocity, double decayRate, int totalSteps) {
@@ -3147,38 +4137,26 @@ public class PhysicsService {
         return force;
     }
 
-    public String simulateDarkEnergyDrivenExpansion(double initialExpansionRate, double darkEnergyDensity, int totalSteps) {
-        StringBuilder expansionData = new StringBuilder();
-        double expansionRate = initialExpansionRate;
-
-        for (int i = 0; i < totalSteps; i++) {
-            expansionRate += darkEnergyDensity * i;
-            expansionData.append("Step ").append(i).append(": Expansion Rate = ").append(expansionRate).append("\n");
-        }
-
-        return expansionData.toString();
+    public String simulateQuantumPhaseDecoherence(double initialPhase, double decoherenceFactor, double noiseInfluence, int totalSteps) {
+        return simulateQuantumPhaseDecoherenceTrajectory(initialPhase, decoherenceFactor, noiseInfluence, totalSteps).toString();
     }
 
-    public double simulatePhotonEnergyLoss(double photonEnergy, double scatteringAngle, double mediumDensity, int totalSteps) {
-        double energyLoss = photonEnergy;
-
-        for (int i = 0; i < totalSteps; i++) {
-            energyLoss *= Math.exp(-mediumDensity * scatteringAngle * i);
-        }
-
-        return energyLoss;
+    public Trajectory simulateQuantumPhaseDecoherenceTrajectory(double initialPhase, double decoherenceFactor, double noiseInfluence, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateQuantumPhaseDecoherence(initialPhase, decoherenceFactor, noiseInfluence, totalSteps, collector);
+        return collector.getTrajectory();
     }
 
-    public String simulateQuantumPhaseDecoherence(double initialPhase, double decoherenceFactor, double noiseInfluence, int totalSteps) {
-        StringBuilder decoherenceData = new StringBuilder();
+    public void simulateQuantumPhaseDecoherence(double initialPhase, double decoherenceFactor, double noiseInfluence, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Phase", totalSteps, 1);
         double phase = initialPhase;
 
         for (int i = 0; i < totalSteps; i++) {
             phase *= Math.exp(-decoherenceFactor * noiseInfluence * i);
-            decoherenceData.append("Step ").append(i).append(": Phase = ").append(phase).append("\n");
+            sink.accept(i, phase);
         }
 
-        return decoherenceData.toString();
+        sink.end();
     }
 
     public double simulateCosmicRayAbsorption(double initialFlux, double atmosphereDensity, double pathLength, int totalSteps) {
@@ -3192,15 +4170,25 @@ public class PhysicsService {
     }
 
     public String simulateBlackHoleSpinRate(double initialSpinRate, double accretionRate, double blackHoleMass, int totalSteps) {
-        StringBuilder spinRateData = new StringBuilder();
+        return simulateBlackHoleSpinRateTrajectory(initialSpinRate, accretionRate, blackHoleMass, totalSteps).toString();
+    }
+
+    public Trajectory simulateBlackHoleSpinRateTrajectory(double initialSpinRate, double accretionRate, double blackHoleMass, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateBlackHoleSpinRate(initialSpinRate, accretionRate, blackHoleMass, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateBlackHoleSpinRate(double initialSpinRate, double accretionRate, double blackHoleMass, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Spin Rate", totalSteps, 1);
         double spinRate = initialSpinRate;
 
         for (int i = 0; i < totalSteps; i++) {
             spinRate += accretionRate * blackHoleMass * i;
-            spinRateData.append("Step ").append(i).append(": Spin Rate = ").append(spinRate).append("\n");
+            sink.accept(i, spinRate);
         }
 
-        return spinRateData.toString();
+        sink.end();
     }
 
     public double simulateGravitationalWaveFrequency(double mass1, double mass2, double distance, int totalSteps) {
@@ -3214,15 +4202,25 @@ public class PhysicsService {
     }
 
     public String simulateQuantumBitFlipErrorRate(double initialState, double errorRate, double noiseLevel, int totalSteps) {
-        StringBuilder errorRateData = new StringBuilder();
+        return simulateQuantumBitFlipErrorRateTrajectory(initialState, errorRate, noiseLevel, totalSteps).toString();
+    }
+
+    public Trajectory simulateQuantumBitFlipErrorRateTrajectory(double initialState, double errorRate, double noiseLevel, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateQuantumBitFlipErrorRate(initialState, errorRate, noiseLevel, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateQuantumBitFlipErrorRate(double initialState, double errorRate, double noiseLevel, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Bit Flip Error Rate", totalSteps, 1);
         double bitFlipRate = initialState;
 
         for (int i = 0; i < totalSteps; i++) {
             bitFlipRate *= 1 - errorRate * noiseLevel * i;
-            errorRateData.append("Step ").append(i).append(": Bit Flip Error Rate = ").append(bitFlipRate).append("\n");
+            sink.accept(i, bitFlipRate);
         }
 
-        return errorRateData.toString();
+        sink.end();
     }
 
     public double simulateRelativisticEnergyReduction(double initialEnergy, double velocity, double decayRate, int totalSteps) {
@@ -3256,15 +4254,25 @@ public class PhysicsService {
     }
 
     public String simulateQuantumVacuumFluctuation(double vacuumEnergyDensity, double fluctuationAmplitude, int totalSteps) {
-        StringBuilder fluctuationData = new StringBuilder();
+        return simulateQuantumVacuumFluctuationTrajectory(vacuumEnergyDensity, fluctuationAmplitude, totalSteps).toString();
+    }
+
+    public Trajectory simulateQuantumVacuumFluctuationTrajectory(double vacuumEnergyDensity, double fluctuationAmplitude, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateQuantumVacuumFluctuation(vacuumEnergyDensity, fluctuationAmplitude, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateQuantumVacuumFluctuation(double vacuumEnergyDensity, double fluctuationAmplitude, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Vacuum Fluctuation", totalSteps, 1);
         double fluctuation = vacuumEnergyDensity;
 
         for (int i = 0; i < totalSteps; i++) {
             fluctuation += fluctuationAmplitude * Math.sin(i * Math.PI / 4);
-            fluctuationData.append("Step ").append(i).append(": Vacuum Fluctuation = ").append(fluctuation).append("\n");
+            sink.accept(i, fluctuation);
         }
 
-        return fluctuationData.toString();
+        sink.end();
     }
 
     public double simulateDarkMatterParticleInteraction(double interactionCrossSection, double velocity, double darkMatterDensity, int totalSteps) {
@@ -3278,37 +4286,57 @@ public class PhysicsService {
     }
 
     public String simulateQuantumFieldDecay(double initialFieldStrength, double decayRate, double interactionConstant, int totalSteps) {
-        StringBuilder decayData = new StringBuilder();
+        return simulateQuantumFieldDecayTrajectory(initialFieldStrength, decayRate, interactionConstant, totalSteps).toString();
+    }
+
+    public Trajectory simulateQuantumFieldDecayTrajectory(double initialFieldStrength, double decayRate, double interactionConstant, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateQuantumFieldDecay(initialFieldStrength, decayRate, interactionConstant, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateQuantumFieldDecay(double initialFieldStrength, double decayRate, double interactionConstant, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Field Strength", totalSteps, 1);
         double fieldStrength = initialFieldStrength;
 
         for (int i = 0; i < totalSteps; i++) {
             fieldStrength *= Math.exp(-decayRate * interactionConstant * i);
-            decayData.append("Step ").append(i).append(": Field Strength = ").append(fieldStrength).append("\n");
+            sink.accept(i, fieldStrength);
         }
 
-        return decayData.toString();
+        sink.end();
     }
 
     public double simulateGravitationalTimeWarp(double mass, double distance, double velocity, int totalSteps) {
         double timeWarp = 0;
 
         for (int i = 0; i < totalSteps; i++) {
-            timeWarp += (2 * 6.67430 * Math.pow(10, -11) * mass) / (distance * velocity * i + 1);
+            timeWarp += (2 * GRAVITATIONAL_CONSTANT * mass) / (distance * velocity * i + 1);
         }
 
         return timeWarp;
     }
 
     public String simulateQuantumEntanglementDisruption(double initialEntanglement, double noiseLevel, int totalSteps) {
-        StringBuilder entanglementData = new StringBuilder();
+        return simulateQuantumEntanglementDisruptionTrajectory(initialEntanglement, noiseLevel, totalSteps).toString();
+    }
+
+    public Trajectory simulateQuantumEntanglementDisruptionTrajectory(double initialEntanglement, double noiseLevel, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateQuantumEntanglementDisruption(initialEntanglement, noiseLevel, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateQuantumEntanglementDisruption(double initialEntanglement, double noiseLevel, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Entanglement", totalSteps, 1);
         double entanglement = initialEntanglement;
 
         for (int i = 0; i < totalSteps; i++) {
             entanglement *= Math.exp(-noiseLevel * i);
-            entanglementData.append("Step ").append(i).append(": Entanglement = ").append(entanglement).append("\n");
+            sink.accept(i, entanglement);
         }
 
-        return entanglementData.toString();
+        sink.end();
     }
 
     public double simulateNeutronStarMassAccretion(double initialMass, double accretionRate, int totalSteps) {
@@ -3322,252 +4350,47 @@ public class PhysicsService {
     }
 
     public String simulatePhotonEnergyRedshift(double photonEnergy, double redshiftFactor, double distance, int totalSteps) {
-        StringBuilder redshiftData = new StringBuilder();
-        double redshiftedEnergy = photonEnergy;
-
-        for (int i = 0; i < totalSteps; i++) {
-            redshiftedEnergy *= 1 + redshiftFactor * distance * i;
-            redshiftData.append("Step ").append(i).append(": Redshifted Energy = ").append(redshiftedEnergy).append("\n");
-        }
-
-        return redshiftData.toString();
-    }
-
-    public double simulateRelativisticLengthContraction(double initialLength, double velocity, double speedOfLight, int totalSteps) {
-        double contractedLength = initialLength;
-
-        for (int i = 0; i < totalSteps; i++) {
-            contractedLength *= Math.sqrt(1 - Math.pow(velocity / speedOfLight, 2));
-        }
-
-        return contractedLength;
-    }
-
-    public String simulateQuantumTeleportationErrorRate(double initialState, double errorRate, int totalSteps) {
-        StringBuilder errorRateData = new StringBuilder();
-        double errorRateValue = initialState;
-
-        for (int i = 0; i < totalSteps; i++) {
-            errorRateValue *= Math.exp(-errorRate * i);
-            errorRateData.append("Step ").append(i).append(": Error Rate = ").append(errorRateValue).append("\n");
-        }
-
-        return errorRateData.toString();
-    }
-
-    public double simulateDarkMatterGravitationalEffect(double darkMatterDensity, double distance, double velocity, int totalSteps) {
-        double gravitationalEffect = 0;
-
-        for (int i = 0; i < totalSteps; i++) {
-            gravitationalEffect += darkMatterDensity * distance / Math.pow(velocity * i + 1, 2);
-        }
-
-        return gravitationalEffect;
-    }
-
-    public double simulateQuantumCoherenceDecay(double initialCoherence, double decoherenceRate, int totalSteps) {
-        double coherence = initialCoherence;
-
-        for (int i = 0; i < totalSteps; i++) {
-            coherence *= Math.exp(-decoherenceRate * i);
-        }
-
-        return coherence;
-    }
-
-    public String simulateGravitonWaveDetection(double gravitonMass, double waveFrequency, double detectorSensitivity, int totalSteps) {
-        StringBuilder detectionData = new StringBuilder();
-        double detectionProbability = 0;
-
-        for (int i = 0; i < totalSteps; i++) {
-            detectionProbability += gravitonMass * waveFrequency * detectorSensitivity / (i + 1);
-            detectionData.append("Step ").append(i).append(": Detection Probability = ").append(detectionProbability).append("\n");
-        }
-
-        return detectionData.toString();
-    }
-
-    public double simulateCosmicNeutrinoFlux(double neutrinoEnergy, double sourceDistance, double mediumDensity, int totalSteps) {
-        double flux = neutrinoEnergy;
-
-        for (int i = 0; i < totalSteps; i++) {
-            flux *= Math.exp(-mediumDensity * sourceDistance * i);
-        }
-
-        return flux;
-    }
-
-    public double simulatePhotonEnergyAbsorption(double photonEnergy, double mediumDensity, double pathLength, int totalSteps) {
-        double absorbedEnergy = photonEnergy;
-
-        for (int i = 0; i < totalSteps; i++) {
-            absorbedEnergy *= Math.exp(-mediumDensity * pathLength * i);
-        }
-
-        return absorbedEnergy;
-    }
-
-    public double simulateAxionDecayRate(double axionMass, double decayConstant, double interactionStrength, int totalSteps) {
-        double decayRate = axionMass;
-
-        for (int i = 0; i < totalSteps; i++) {
-            decayRate *= Math.exp(-decayConstant * interactionStrength * i);
-        }
-
-        return decayRate;
-    }
-
-    public String simulateRelativisticTimeShift(double initialTime, double gravitationalPotential, double velocity, int totalSteps) {
-        StringBuilder timeShiftData = new StringBuilder();
-        double shiftedTime = initialTime;
-
-        for (int i = 0; i < totalSteps; i++) {
-            shiftedTime *= Math.sqrt(1 - (2 * gravitationalPotential / Math.pow(velocity * i + 1, 2)));
-            timeShiftData.append("Step ").append(i).append(": Time Shift = ").append(shiftedTime).append("\n");
-        }
-
-        return timeShiftData.toString();
-    }
-
-    public double simulateNeutrinoMassHierarchy(double neutrinoMass1, double neutrinoMass2, double distance, double energy, int totalSteps) {
-        double massDifference = neutrinoMass1 - neutrinoMass2;
-        double hierarchyFactor = 0;
-
-        for (int i = 0; i < totalSteps; i++) {
-            hierarchyFactor += Math.sin(1.27 * massDifference * distance / energy) * i;
-        }
-
-        return hierarchyFactor;
-    }
-
-    public double simulatePulsarMagnetosphere(double magneticFieldStrength, double spinRate, double starRadius, int totalSteps) {
-        double magnetosphereRadius = 0;
-
-        for (int i = 0; i < totalSteps; i++) {
-            magnetosphereRadius += (magneticFieldStrength * Math.pow(starRadius, 3)) / (spinRate * i + 1);
-        }
-
-        return magnetosphereRadius;
-    }
-
-    public String simulateQuarkGluonPlasmaExpansion(double plasmaDensity, double temperature, double expansionRate, int totalSteps) {
-        StringBuilder expansionData = new StringBuilder();
-        double volume = 0;
-
-        for (int i = 0; i < totalSteps; i++) {
-            volume += plasmaDensity * temperature * Math.pow(expansionRate, 3) * i;
-            expansionData.append("Step ").append(i).append(": Plasma Volume = ").append(volume).append("\n");
-        }
-
-        return expansionData.toString();
-    }
-
-    public double simulateBlackHoleEntropy(double blackHoleMass, double temperature, double eventHorizonRadius, int totalSteps) {
-        double entropy = 0;
-
-        for (int i = 0; i < totalSteps; i++) {
-            entropy += blackHoleMass * temperature * Math.pow(eventHorizonRadius, 2) * i;
-        }
-
-        return entropy;
-    }
-
-    public double simulateRelativisticEnergyEmission(double restMass, double velocity, double speedOfLight, int totalSteps) {
-        double energyEmission = 0;
-
-        for (int i = 0; i < totalSteps; i++) {
-            energyEmission += restMass * Math.pow(velocity, 2) / Math.sqrt(1 - Math.pow(velocity / speedOfLight, 2));
-        }
-
-        return energyEmission;
-    }
-
-    public String simulateDarkEnergyDrivenAcceleration(double initialAcceleration, double darkEnergyDensity, double universeExpansionRate, int totalSteps) {
-        StringBuilder accelerationData = new StringBuilder();
-        double acceleration = initialAcceleration;
-
-        for (int i = 0; i < totalSteps; i++) {
-            acceleration += darkEnergyDensity * universeExpansionRate * Math.pow(i, 2);
-            accelerationData.append("Step ").append(i).append(": Acceleration = ").append(acceleration).append("\n");
-        }
-
-        return accelerationData.toString();
+        return simulatePhotonEnergyRedshiftTrajectory(photonEnergy, redshiftFactor, distance, totalSteps).toString();
     }
 
-    public double simulatePhotonPolarizationRotation(double polarizationAngle, double photonEnergy, double mediumDensity, int totalSteps) {
-        double polarizationRotation = 0;
-
-        for (int i = 0; i < totalSteps; i++) {
-            polarizationRotation += photonEnergy * Math.sin(polarizationAngle * i) * Math.exp(-mediumDensity * i);
-        }
-
-        return polarizationRotation;
+    public Trajectory simulatePhotonEnergyRedshiftTrajectory(double photonEnergy, double redshiftFactor, double distance, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulatePhotonEnergyRedshift(photonEnergy, redshiftFactor, distance, totalSteps, collector);
+        return collector.getTrajectory();
     }
 
-    public String simulateRelativisticGravitationalRedshift(double gravitationalPotential, double velocity, double speedOfLight, int totalSteps) {
-        StringBuilder redshiftData = new StringBuilder();
-        double redshift = 0;
-
-        for (int i = 0; i < totalSteps; i++) {
-            redshift += gravitationalPotential / Math.sqrt(1 - Math.pow(velocity / speedOfLight, 2));
-            redshiftData.append("Step ").append(i).append(": Gravitational Redshift = ").append(redshift).append("\n");
-        }
-
-        return redshiftData.toString();
-    }
-
-    public double simulateThermodynamicFreeEnergy(double temperature, double entropy, double systemEnergy, int totalSteps) {
-        double freeEnergy = systemEnergy;
-
-        for (int i = 0; i < totalSteps; i++) {
-            freeEnergy -= temperature * entropy * i;
-        }
-
-        return freeEnergy;
-    }
-
-    public String simulateElectromagneticPulsePropagation(double pulseStrength, double mediumResistance, double pulseDuration, int totalSteps) {
-        StringBuilder pulseData = new StringBuilder();
-        double pulseEffect = 0;
+    public void simulatePhotonEnergyRedshift(double photonEnergy, double redshiftFactor, double distance, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Redshifted Energy", totalSteps, 1);
+        double redshiftedEnergy = photonEnergy;
 
         for (int i = 0; i < totalSteps; i++) {
-            pulseEffect = pulseStrength * Math.exp(-mediumResistance * pulseDuration * i);
-            pulseData.append("Step ").append(i).append(": Pulse Effect = ").append(pulseEffect).append("\n");
+            redshiftedEnergy *= 1 + redshiftFactor * distance * i;
+            sink.accept(i, redshiftedEnergy);
         }
 
-        return pulseData.toString();
+        sink.end();
     }
 
-    public double simulateBlackHoleJetEmission(double blackHoleMass, double magneticFieldStrength, double accretionDiskDensity, int totalSteps) {
-        double jetEnergy = 0;
-
-        for (int i = 0; i < totalSteps; i++) {
-            jetEnergy += blackHoleMass * accretionDiskDensity * Math.pow(magneticFieldStrength, 2) * i;
-        }
-
-        return jetEnergy;
+    public String simulateQuantumTeleportationErrorRate(double initialState, double errorRate, int totalSteps) {
+        return simulateQuantumTeleportationErrorRateTrajectory(initialState, errorRate, totalSteps).toString();
     }
 
-    public double simulateThermodynamicWork(double pressure, double volumeChange, int totalSteps) {
-        double work = 0;
-
-        for (int i = 0; i < totalSteps; i++) {
-            work += pressure * volumeChange * i;
-        }
-
-        return work;
+    public Trajectory simulateQuantumTeleportationErrorRateTrajectory(double initialState, double errorRate, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateQuantumTeleportationErrorRate(initialState, errorRate, totalSteps, collector);
+        return collector.getTrajectory();
     }
 
-    public String simulateNeutrinoDetectorSignal(double neutrinoFlux, double detectorSensitivity, double noiseLevel, int totalSteps) {
-        StringBuilder signalData = new StringBuilder();
-        double signalStrength = 0;
+    public void simulateQuantumTeleportationErrorRate(double initialState, double errorRate, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Error Rate", totalSteps, 1);
+        double errorRateValue = initialState;
 
         for (int i = 0; i < totalSteps; i++) {
-            signalStrength += neutrinoFlux * detectorSensitivity * i - noiseLevel * i;
-            signalData.append("Step ").append(i).append(": Signal Strength = ").append(signalStrength).append("\n");
+            errorRateValue *= Math.exp(-errorRate * i);
+            sink.accept(i, errorRateValue);
         }
 
-        return signalData.toString();
+        sink.end();
     }
 
     public double simulateQuantumWaveFunctionCollapse(double initialWaveFunction, double collapseRate, double interactionConstant, int totalSteps) {
@@ -3591,15 +4414,25 @@ public class PhysicsService {
     }
 
     public String simulateQuantumTunnelingEffect(double barrierHeight, double particleEnergy, double barrierWidth, int totalSteps) {
-        StringBuilder tunnelingData = new StringBuilder();
+        return simulateQuantumTunnelingEffectTrajectory(barrierHeight, particleEnergy, barrierWidth, totalSteps).toString();
+    }
+
+    public Trajectory simulateQuantumTunnelingEffectTrajectory(double barrierHeight, double particleEnergy, double barrierWidth, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateQuantumTunnelingEffect(barrierHeight, particleEnergy, barrierWidth, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateQuantumTunnelingEffect(double barrierHeight, double particleEnergy, double barrierWidth, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Tunneling Probability", totalSteps, 1);
         double tunnelingProbability = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             tunnelingProbability = Math.exp(-2 * barrierHeight * barrierWidth / particleEnergy) * i;
-            tunnelingData.append("Step ").append(i).append(": Tunneling Probability = ").append(tunnelingProbability).append("\n");
+            sink.accept(i, tunnelingProbability);
         }
 
-        return tunnelingData.toString();
+        sink.end();
     }
 
     public double simulatePhotonDeflectionByGravity(double photonEnergy, double gravitationalFieldStrength, double deflectionAngle, int totalSteps) {
@@ -3613,15 +4446,25 @@ public class PhysicsService {
     }
 
     public String simulateQuantumStateTransition(double initialState, double transitionRate, double noiseInfluence, int totalSteps) {
-        StringBuilder transitionData = new StringBuilder();
+        return simulateQuantumStateTransitionTrajectory(initialState, transitionRate, noiseInfluence, totalSteps).toString();
+    }
+
+    public Trajectory simulateQuantumStateTransitionTrajectory(double initialState, double transitionRate, double noiseInfluence, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateQuantumStateTransition(initialState, transitionRate, noiseInfluence, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateQuantumStateTransition(double initialState, double transitionRate, double noiseInfluence, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "State", totalSteps, 1);
         double state = initialState;
 
         for (int i = 0; i < totalSteps; i++) {
             state *= Math.exp(-transitionRate * noiseInfluence * i);
-            transitionData.append("Step ").append(i).append(": State = ").append(state).append("\n");
+            sink.accept(i, state);
         }
 
-        return transitionData.toString();
+        sink.end();
     }
 
     public double simulateRelativisticEnergyDecay(double initialEnergy, double velocity, double timeStep, int totalSteps) {
@@ -3645,15 +4488,25 @@ public class PhysicsService {
     }
 
     public String simulatePhotonPolarizationChange(double initialPolarization, double rotationRate, double photonEnergy, int totalSteps) {
-        StringBuilder polarizationData = new StringBuilder();
+        return simulatePhotonPolarizationChangeTrajectory(initialPolarization, rotationRate, photonEnergy, totalSteps).toString();
+    }
+
+    public Trajectory simulatePhotonPolarizationChangeTrajectory(double initialPolarization, double rotationRate, double photonEnergy, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulatePhotonPolarizationChange(initialPolarization, rotationRate, photonEnergy, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulatePhotonPolarizationChange(double initialPolarization, double rotationRate, double photonEnergy, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Polarization", totalSteps, 1);
         double polarization = initialPolarization;
 
         for (int i = 0; i < totalSteps; i++) {
             polarization *= Math.sin(rotationRate * photonEnergy * i);
-            polarizationData.append("Step ").append(i).append(": Polarization = ").append(polarization).append("\n");
+            sink.accept(i, polarization);
         }
 
-        return polarizationData.toString();
+        sink.end();
     }
 
     public double simulateNeutronStarMagneticField(double coreTemperature, double neutronDensity, double magneticFieldStrength, int totalSteps) {
@@ -3667,15 +4520,25 @@ public class PhysicsService {
     }
 
     public String simulateQuantumEntanglementFluctuation(double initialEntanglement, double fluctuationRate, int totalSteps) {
-        StringBuilder fluctuationData = new StringBuilder();
+        return simulateQuantumEntanglementFluctuationTrajectory(initialEntanglement, fluctuationRate, totalSteps).toString();
+    }
+
+    public Trajectory simulateQuantumEntanglementFluctuationTrajectory(double initialEntanglement, double fluctuationRate, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateQuantumEntanglementFluctuation(initialEntanglement, fluctuationRate, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateQuantumEntanglementFluctuation(double initialEntanglement, double fluctuationRate, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Entanglement", totalSteps, 1);
         double entanglement = initialEntanglement;
 
         for (int i = 0; i < totalSteps; i++) {
             entanglement *= Math.cos(fluctuationRate * i);
-            fluctuationData.append("Step ").append(i).append(": Entanglement = ").append(entanglement).append("\n");
+            sink.accept(i, entanglement);
         }
 
-        return fluctuationData.toString();
+        sink.end();
     }
 
     public double simulateDarkMatterAnnihilationRate(double darkMatterDensity, double interactionCrossSection, double velocity, int totalSteps) {
@@ -3688,18 +4551,6 @@ public class PhysicsService {
         return annihilationRate;
     }
 
-    public String simulateGravitationalLensEffect(double mass, double lightAngle, double distance, int totalSteps) {
-        StringBuilder lensEffectData = new StringBuilder();
-        double lensEffect = 0;
-
-        for (int i = 0; i < totalSteps; i++) {
-            lensEffect += (mass * lightAngle) / (distance * i + 1);
-            lensEffectData.append("Step ").append(i).append(": Lens Effect = ").append(lensEffect).append("\n");
-        }
-
-        return lensEffectData.toString();
-    }
-
     public double simulateQuantumFieldStrength(double initialFieldStrength, double fluctuationRate, double interactionConstant, int totalSteps) {
         double fieldStrength = initialFieldStrength;
 
@@ -3711,15 +4562,25 @@ public class PhysicsService {
     }
 
     public String simulateNeutrinoOscillationRate(double neutrinoMassDifference, double energy, double distance, int totalSteps) {
-        StringBuilder oscillationData = new StringBuilder();
+        return simulateNeutrinoOscillationRateTrajectory(neutrinoMassDifference, energy, distance, totalSteps).toString();
+    }
+
+    public Trajectory simulateNeutrinoOscillationRateTrajectory(double neutrinoMassDifference, double energy, double distance, int totalSteps) {
+        TrajectoryCollector collector = new TrajectoryCollector();
+        simulateNeutrinoOscillationRate(neutrinoMassDifference, energy, distance, totalSteps, collector);
+        return collector.getTrajectory();
+    }
+
+    public void simulateNeutrinoOscillationRate(double neutrinoMassDifference, double energy, double distance, int totalSteps, TrajectorySink sink) {
+        sink.begin("Step ", "Oscillation Rate", totalSteps, 1);
         double oscillationRate = 0;
 
         for (int i = 0; i < totalSteps; i++) {
             oscillationRate += Math.sin(1.27 * neutrinoMassDifference * distance / energy) * i;
-            oscillationData.append("Step ").append(i).append(": Oscillation Rate = ").append(oscillationRate).append("\n");
+            sink.accept(i, oscillationRate);
         }
 
-        return oscillationData.toString();
+        sink.end();
     }
 
     public double simulateRelativisticForceShift(double initialForce, double velocity, double decayRate, int totalSteps) {
@@ -3731,4 +4592,28 @@ public class PhysicsService {
 
         return force;
     }
+
+    private static SecondOrderSystem dampedOscillator(double mass, double springConstant, double dampingCoefficient) {
+        return (t, state, out, offset) -> out[offset] = -(springConstant / mass) * state[0] - (dampingCoefficient / mass) * state[1];
+    }
+
+    private static SecondOrderSystem harmonicOscillator(double mass, double springConstant) {
+        return (t, state, out, offset) -> out[offset] = -(springConstant / mass) * state[0];
+    }
+
+    private static OdeSystem heatConduction(double ambientTemperature, double heatTransferCoefficient) {
+        return (t, state, out) -> out[0] = -(heatTransferCoefficient * (state[0] - ambientTemperature));
+    }
+
+    private static void requirePositiveSteps(int totalSteps) {
+        if (totalSteps <= 0) {
+            throw new IllegalArgumentException("totalSteps must be positive: " + totalSteps);
+        }
+    }
+
+    private static void requirePositiveStep(double timeStep) {
+        if (!(timeStep > 0)) {
+            throw new IllegalArgumentException("timeStep must be positive: " + timeStep);
+        }
+    }
 }
@@ -0,0 +1,16 @@
+package com.demoapp.services;
+
+/**
+ * Uniform {@code [0, 1)} doubles for the stochastic kernels. Implementations must be safe to call
+ * from any thread.
+ */
+public interface RandomSource {
+
+    double nextDouble();
+
+    default void nextDoubles(double[] target) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] = nextDouble();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.demoapp.services;
+
+/**
+ * Second-order system {@code x'' = a(t, x, x')}, stored as a first-order state
+ * {@code [x_0 .. x_n-1, v_0 .. v_n-1]} so it also works with the general-purpose integrators. The
+ * symplectic integrators in {@link FixedStepIntegrator} require this form.
+ */
+@FunctionalInterface
+public interface SecondOrderSystem extends OdeSystem {
+
+    /**
+     * Writes the {@code n = state.length / 2} accelerations into {@code out[offset .. offset + n)}.
+     * Must not modify {@code state}.
+     */
+    void acceleration(double t, double[] state, double[] out, int offset);
+
+    @Override
+    default void derivatives(double t, double[] state, double[] out) {
+        int n = state.length / 2;
+        System.arraycopy(state, n, out, 0, n);
+        acceleration(t, state, out, n);
+    }
+}
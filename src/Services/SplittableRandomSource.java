@@ -0,0 +1,49 @@
+package com.demoapp.services;
+
+import java.util.SplittableRandom;
+
+/**
+ * Seeded, reproducible source for regression runs.
+ * <p>
+ * Each thread draws from its own {@link SplittableRandom} stream, split from the seeded root the first
+ * time that thread asks for a number. A single-threaded run is therefore fully determined by the seed.
+ * For parallel runs that must be reproducible, give every worker its own source via {@link #split()}
+ * in a fixed order instead of sharing one instance.
+ */
+public final class SplittableRandomSource implements RandomSource {
+
+    private final SplittableRandom root;
+    private final ThreadLocal<SplittableRandom> streams;
+
+    public SplittableRandomSource(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    private SplittableRandomSource(SplittableRandom root) {
+        this.root = root;
+        this.streams = ThreadLocal.withInitial(this::splitRoot);
+    }
+
+    @Override
+    public double nextDouble() {
+        return streams.get().nextDouble();
+    }
+
+    @Override
+    public void nextDoubles(double[] target) {
+        SplittableRandom random = streams.get();
+        for (int i = 0; i < target.length; i++) {
+            target[i] = random.nextDouble();
+        }
+    }
+
+    public SplittableRandomSource split() {
+        return new SplittableRandomSource(splitRoot());
+    }
+
+    private SplittableRandom splitRoot() {
+        synchronized (root) {
+            return root.split();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.demoapp.services;
+
+/**
+ * Sees the state after every accepted integration step. The array is the integrator's working state,
+ * so it must be copied if kept, and must not be modified.
+ */
+@FunctionalInterface
+public interface StepObserver {
+
+    StepObserver NONE = (step, t, state) -> {
+    };
+
+    void onStep(int step, double t, double[] state);
+}
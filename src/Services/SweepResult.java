@@ -0,0 +1,52 @@
+package com.demoapp.services;
+
+import java.util.Arrays;
+
+/**
+ * Dense result grid of a {@link ParameterSweep}, stored row-major in a flat {@code double[]}: the last
+ * parameter varies fastest. The layout depends only on the ranges, never on scheduling.
+ */
+public final class SweepResult {
+
+    private final int[] shape;
+    private final double[] values;
+
+    SweepResult(int[] shape, double[] values) {
+        this.shape = shape;
+        this.values = values;
+    }
+
+    public int[] getShape() {
+        return shape.clone();
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public double get(int... indices) {
+        return values[flatIndex(indices)];
+    }
+
+    public double getFlat(int index) {
+        return values[index];
+    }
+
+    public double[] toArray() {
+        return Arrays.copyOf(values, values.length);
+    }
+
+    private int flatIndex(int[] indices) {
+        if (indices.length != shape.length) {
+            throw new IllegalArgumentException("Expected " + shape.length + " indices but got " + indices.length);
+        }
+        int index = 0;
+        for (int d = 0; d < shape.length; d++) {
+            if (indices[d] < 0 || indices[d] >= shape[d]) {
+                throw new IndexOutOfBoundsException("Index " + indices[d] + " out of range for dimension " + d + " of size " + shape[d]);
+            }
+            index = index * shape[d] + indices[d];
+        }
+        return index;
+    }
+}
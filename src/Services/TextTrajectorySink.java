@@ -0,0 +1,66 @@
+package com.demoapp.services;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Streams the "Step i: Label = value" text of a run to an {@link Appendable} (a {@code Writer},
+ * socket stream wrapper, {@code StringBuilder}, ...) one line per step.
+ */
+public class TextTrajectorySink implements TrajectorySink {
+
+    private final Appendable out;
+    private String stepPrefix = "Step ";
+    private String label = "";
+    private int columns = 1;
+
+    public TextTrajectorySink(Appendable out) {
+        this.out = out;
+    }
+
+    @Override
+    public void begin(String stepPrefix, String label, int steps, int columns) {
+        this.stepPrefix = stepPrefix;
+        this.label = label;
+        this.columns = columns;
+    }
+
+    @Override
+    public void accept(int step, double value) {
+        try {
+            out.append(stepPrefix).append(Integer.toString(step)).append(": ").append(label).append(" = ")
+                    .append(Double.toString(value)).append('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void accept(int step, int column, double value) {
+        try {
+            if (column == 0) {
+                out.append(stepPrefix).append(Integer.toString(step)).append(": ").append(label).append(" = ");
+            } else {
+                out.append(", ");
+            }
+            out.append(Double.toString(value));
+            if (column == columns - 1) {
+                out.append('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void end() {
+        if (out instanceof Flushable) {
+            try {
+                ((Flushable) out).flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.demoapp.services;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Unseeded source backed by {@link ThreadLocalRandom}: no allocation and no shared state between threads.
+ */
+public final class ThreadLocalRandomSource implements RandomSource {
+
+    public static final ThreadLocalRandomSource INSTANCE = new ThreadLocalRandomSource();
+
+    private ThreadLocalRandomSource() {
+    }
+
+    @Override
+    public double nextDouble() {
+        return ThreadLocalRandom.current().nextDouble();
+    }
+
+    @Override
+    public void nextDoubles(double[] target) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < target.length; i++) {
+            target[i] = random.nextDouble();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.demoapp.services;
+
+import java.util.Arrays;
+
+/**
+ * Per-step output of a {@code simulate*} run, stored as one flat row-major {@code double[]} of
+ * {@code steps * columns} values.
+ * <p>
+ * The "Step i: Label = value" text the simulations used to build eagerly is only produced when
+ * {@link #toString()} or {@link #appendTo(StringBuilder)} is called.
+ */
+public final class Trajectory {
+
+    private static final String DEFAULT_STEP_PREFIX = "Step ";
+    private static final int MAX_PRESIZED_LENGTH = 1 << 24;
+
+    private final String stepPrefix;
+    private final String label;
+    private final int steps;
+    private final int columns;
+    private final double[] values;
+
+    public Trajectory(String label, int steps) {
+        this(DEFAULT_STEP_PREFIX, label, steps, 1);
+    }
+
+    public Trajectory(String label, int steps, int columns) {
+        this(DEFAULT_STEP_PREFIX, label, steps, columns);
+    }
+
+    public Trajectory(String stepPrefix, String label, int steps, int columns) {
+        if (columns <= 0) {
+            throw new IllegalArgumentException("columns must be positive: " + columns);
+        }
+        this.stepPrefix = stepPrefix;
+        this.label = label;
+        this.steps = Math.max(steps, 0);
+        this.columns = columns;
+        this.values = new double[this.steps * columns];
+    }
+
+    public void set(int step, double value) {
+        values[step * columns] = value;
+    }
+
+    public void set(int step, int column, double value) {
+        values[step * columns + column] = value;
+    }
+
+    public double get(int step) {
+        return values[step * columns];
+    }
+
+    public double get(int step, int column) {
+        return values[step * columns + column];
+    }
+
+    public double last() {
+        if (steps == 0) {
+            throw new IllegalStateException("Trajectory is empty");
+        }
+        return get(steps - 1);
+    }
+
+    public int size() {
+        return steps;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public String getStepPrefix() {
+        return stepPrefix;
+    }
+
+    public double[] toArray() {
+        return Arrays.copyOf(values, values.length);
+    }
+
+    public double[] column(int column) {
+        double[] result = new double[steps];
+        for (int i = 0; i < steps; i++) {
+            result[i] = values[i * columns + column];
+        }
+        return result;
+    }
+
+    public StringBuilder appendTo(StringBuilder builder) {
+        for (int i = 0; i < steps; i++) {
+            builder.append(stepPrefix).append(i).append(": ").append(label).append(" = ");
+            int offset = i * columns;
+            builder.append(values[offset]);
+            for (int c = 1; c < columns; c++) {
+                builder.append(", ").append(values[offset + c]);
+            }
+            builder.append("\n");
+        }
+        return builder;
+    }
+
+    @Override
+    public String toString() {
+        long estimatedLength = (long) steps * (label.length() + 24L * columns + 16);
+        return appendTo(new StringBuilder((int) Math.min(estimatedLength, MAX_PRESIZED_LENGTH))).toString();
+    }
+}
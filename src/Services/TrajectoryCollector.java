@@ -0,0 +1,28 @@
+package com.demoapp.services;
+
+public class TrajectoryCollector implements TrajectorySink {
+
+    private Trajectory trajectory;
+
+    @Override
+    public void begin(String stepPrefix, String label, int steps, int columns) {
+        trajectory = new Trajectory(stepPrefix, label, steps, columns);
+    }
+
+    @Override
+    public void accept(int step, double value) {
+        trajectory.set(step, value);
+    }
+
+    @Override
+    public void accept(int step, int column, double value) {
+        trajectory.set(step, column, value);
+    }
+
+    public Trajectory getTrajectory() {
+        if (trajectory == null) {
+            throw new IllegalStateException("No simulation has been run into this collector");
+        }
+        return trajectory;
+    }
+}
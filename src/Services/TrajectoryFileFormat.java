@@ -0,0 +1,168 @@
+package com.demoapp.services;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Layout shared by {@link MappedTrajectoryWriter} and {@link MappedTrajectoryFile}. All numbers are
+ * little-endian:
+ * <pre>
+ *  0  magic "DTRJ"
+ *  4  u16 version, u16 reserved
+ *  8  i32 data offset (header length, a multiple of 8)
+ * 12  i32 columns
+ * 16  i64 steps
+ * 24  string method, string step prefix, string label   (i32 byte length + UTF-8)
+ *     i32 parameter count, then per parameter: string name, f64 value
+ *     zero padding up to the data offset
+ *     f64 values, column by column: column c, step s at dataOffset + 8 * (c * steps + s)
+ * </pre>
+ * Storing each column contiguously lets a reader view a whole series as a {@code DoubleBuffer} without
+ * copying. The data is mapped in segments of at most {@value #SEGMENT_BYTES} bytes because a single
+ * {@link MappedByteBuffer} cannot exceed 2 GiB.
+ */
+final class TrajectoryFileFormat {
+
+    static final byte[] MAGIC = {'D', 'T', 'R', 'J'};
+    static final short VERSION = 1;
+    static final int SEGMENT_SHIFT = 30;
+    static final long SEGMENT_BYTES = 1L << SEGMENT_SHIFT;
+
+    private TrajectoryFileFormat() {
+    }
+
+    static ByteBuffer encodeHeader(String method, Map<String, Double> parameters, String stepPrefix, String label, long steps, int columns) {
+        byte[] methodBytes = method.getBytes(StandardCharsets.UTF_8);
+        byte[] prefixBytes = stepPrefix.getBytes(StandardCharsets.UTF_8);
+        byte[] labelBytes = label.getBytes(StandardCharsets.UTF_8);
+        byte[][] names = new byte[parameters.size()][];
+        int length = 24 + 4 + methodBytes.length + 4 + prefixBytes.length + 4 + labelBytes.length + 4;
+        int i = 0;
+        for (String name : parameters.keySet()) {
+            names[i] = name.getBytes(StandardCharsets.UTF_8);
+            length += 4 + names[i].length + 8;
+            i++;
+        }
+        int dataOffset = (length + 7) & ~7;
+
+        ByteBuffer header = ByteBuffer.allocate(dataOffset).order(ByteOrder.LITTLE_ENDIAN);
+        header.put(MAGIC).putShort(VERSION).putShort((short) 0).putInt(dataOffset).putInt(columns).putLong(steps);
+        putString(header, methodBytes);
+        putString(header, prefixBytes);
+        putString(header, labelBytes);
+        header.putInt(parameters.size());
+        i = 0;
+        for (double value : parameters.values()) {
+            putString(header, names[i++]);
+            header.putDouble(value);
+        }
+        header.position(0);
+        return header;
+    }
+
+    static Header decodeHeader(FileChannel channel) throws IOException {
+        ByteBuffer fixed = read(channel, 0, 24);
+        byte[] magic = new byte[MAGIC.length];
+        fixed.get(magic);
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (magic[i] != MAGIC[i]) {
+                throw new IOException("Not a trajectory file");
+            }
+        }
+        short version = fixed.getShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported trajectory file version " + version);
+        }
+        fixed.getShort();
+        int dataOffset = fixed.getInt();
+        int columns = fixed.getInt();
+        long steps = fixed.getLong();
+        if (dataOffset < 24 || (dataOffset & 7) != 0 || columns <= 0 || steps < 0) {
+            throw new IOException("Corrupt trajectory header");
+        }
+        long fileLength;
+        try {
+            fileLength = Math.addExact(dataOffset, Math.multiplyExact(Math.multiplyExact(steps, (long) columns), 8L));
+        } catch (ArithmeticException e) {
+            throw new IOException("Corrupt trajectory header: " + steps + " steps x " + columns + " columns overflows", e);
+        }
+        if (fileLength > channel.size()) {
+            throw new IOException("Trajectory file is truncated");
+        }
+
+        ByteBuffer rest = read(channel, 24, dataOffset - 24);
+        try {
+            String method = getString(rest);
+            String stepPrefix = getString(rest);
+            String label = getString(rest);
+            int count = rest.getInt();
+            Map<String, Double> parameters = new LinkedHashMap<>();
+            for (int i = 0; i < count; i++) {
+                String name = getString(rest);
+                parameters.put(name, rest.getDouble());
+            }
+            return new Header(method, Collections.unmodifiableMap(parameters), stepPrefix, label, steps, columns, dataOffset);
+        } catch (RuntimeException e) {
+            throw new IOException("Corrupt trajectory header", e);
+        }
+    }
+
+    static MappedByteBuffer[] map(FileChannel channel, FileChannel.MapMode mode, long offset, long length) throws IOException {
+        int count = (int) ((length + SEGMENT_BYTES - 1) >>> SEGMENT_SHIFT);
+        MappedByteBuffer[] segments = new MappedByteBuffer[count];
+        for (int i = 0; i < count; i++) {
+            long start = (long) i << SEGMENT_SHIFT;
+            segments[i] = channel.map(mode, offset + start, Math.min(SEGMENT_BYTES, length - start));
+            segments[i].order(ByteOrder.LITTLE_ENDIAN);
+        }
+        return segments;
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Trajectory file is truncated");
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] bytes) {
+        buffer.putInt(bytes.length).put(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static final class Header {
+        final String method;
+        final Map<String, Double> parameters;
+        final String stepPrefix;
+        final String label;
+        final long steps;
+        final int columns;
+        final int dataOffset;
+
+        Header(String method, Map<String, Double> parameters, String stepPrefix, String label, long steps, int columns, int dataOffset) {
+            this.method = method;
+            this.parameters = parameters;
+            this.stepPrefix = stepPrefix;
+            this.label = label;
+            this.steps = steps;
+            this.columns = columns;
+            this.dataOffset = dataOffset;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.demoapp.services;
+
+/**
+ * Receives the steps of a {@code simulate*} run as they are computed, so a run never has to be held
+ * in memory. Simulations call {@link #begin} once, then {@code accept} for every step in order, then
+ * {@link #end}.
+ * <p>
+ * Runs with several columns call {@link #accept(int, int, double)} once per column of a step, so that
+ * is the method a lambda implements; single-column runs may call {@link #accept(int, double)}, which
+ * is column 0.
+ */
+@FunctionalInterface
+public interface TrajectorySink {
+
+    default void begin(String stepPrefix, String label, int steps, int columns) {
+    }
+
+    default void accept(int step, double value) {
+        accept(step, 0, value);
+    }
+
+    void accept(int step, int column, double value);
+
+    default void end() {
+    }
+}
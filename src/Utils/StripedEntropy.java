@@ -0,0 +1,69 @@
+package com.demoapp.utils;
+
+import java.security.SecureRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Random bytes for token nonces and keys, served from prefilled {@link SecureRandom} buffers.
+ * <p>
+ * A single shared {@code SecureRandom} serialises every caller on its internal lock, and a
+ * {@link ThreadLocal} one would be created and seeded again for every virtual thread. Instead the
+ * calling thread's id is hashed onto a fixed, power-of-two number of stripes, at least two per core.
+ * Each stripe has its own generator and a {@value #BUFFER_SIZE} byte buffer behind a lock. Most calls
+ * just copy from the buffer, and the buffer is refilled from the generator when it runs low. Requests
+ * larger than the buffer get a fresh generator of their own.
+ */
+public final class StripedEntropy {
+
+    private static final int BUFFER_SIZE = 4096;
+
+    private static final Stripe[] STRIPES = createStripes(Runtime.getRuntime().availableProcessors() * 2);
+
+    private StripedEntropy() {
+    }
+
+    public static void nextBytes(byte[] target) {
+        if (target.length > BUFFER_SIZE) {
+            new SecureRandom().nextBytes(target);
+            return;
+        }
+        long id = Thread.currentThread().threadId();
+        Stripe stripe = STRIPES[(int) (id ^ (id >>> 32)) & (STRIPES.length - 1)];
+        stripe.lock.lock();
+        try {
+            stripe.copyTo(target);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    public static byte[] nextBytes(int length) {
+        byte[] bytes = new byte[length];
+        nextBytes(bytes);
+        return bytes;
+    }
+
+    private static Stripe[] createStripes(int count) {
+        Stripe[] stripes = new Stripe[Integer.highestOneBit(Math.max(count, 1) * 2 - 1)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe();
+        }
+        return stripes;
+    }
+
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final SecureRandom random = new SecureRandom();
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private int position = BUFFER_SIZE;
+
+        void copyTo(byte[] target) {
+            if (BUFFER_SIZE - position < target.length) {
+                random.nextBytes(buffer);
+                position = 0;
+            }
+            System.arraycopy(buffer, position, target, 0, target.length);
+            position += target.length;
+        }
+    }
+}
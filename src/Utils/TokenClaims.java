@@ -0,0 +1,32 @@
+package com.demoapp.utils;
+
+/**
+ * Identity carried by a token that {@link TokenSigner#verify(String)} accepted.
+ */
+public final class TokenClaims {
+
+    private final String username;
+    private final long expiresAtEpochSecond;
+
+    TokenClaims(String username, long expiresAtEpochSecond) {
+        this.username = username;
+        this.expiresAtEpochSecond = expiresAtEpochSecond;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public long getExpiresAtEpochSecond() {
+        return expiresAtEpochSecond;
+    }
+
+    public boolean isExpired(long nowEpochSecond) {
+        return nowEpochSecond >= expiresAtEpochSecond;
+    }
+
+    @Override
+    public String toString() {
+        return "TokenClaims{username=" + username + ", expiresAt=" + expiresAtEpochSecond + "}";
+    }
+}
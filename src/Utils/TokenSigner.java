@@ -0,0 +1,173 @@
+package com.demoapp.utils;
+
+import com.demoapp.services.BoundedCache;
+import com.demoapp.services.CacheStats;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Issues and verifies self-contained HMAC-SHA256 session tokens, so checking a token needs no
+ * {@code UserService} or database round trip.
+ * <p>
+ * A token is {@code base64url(username) "." expiresAtEpochSecond "." base64url(nonce) "." base64url(mac)}
+ * where the MAC covers everything before the last dot. Signatures are compared with
+ * {@link MessageDigest#isEqual(byte[], byte[])}, which takes the same time wherever the first
+ * difference is. Tokens that verified recently are served from a bounded cache until they expire.
+ * <p>
+ * The key comes from the {@value #KEY_PROPERTY} system property (base64). Without it a random key is
+ * generated at startup, which means tokens stop verifying after a restart and are not accepted by other
+ * instances.
+ */
+public class TokenSigner {
+
+    public static final String KEY_PROPERTY = "demoapp.token.key";
+
+    /**
+     * Longest username, in UTF-8 bytes, whose token stays within what {@link #verify(String)} accepts:
+     * 1024 characters minus three dots, a 19 digit expiry, a 22 character nonce and a 43 character MAC
+     * leaves 937 base64 characters, which hold 702 bytes.
+     */
+    public static final int MAX_USERNAME_BYTES = 702;
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final long DEFAULT_TTL_SECONDS = 3600;
+    private static final int DEFAULT_CACHE_SIZE = 100_000;
+    private static final int NONCE_BYTES = 16;
+    private static final int MAX_TOKEN_LENGTH = 1024;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final long ttlSeconds;
+    private final MacStripe[] macs;
+    private final BoundedCache<String, TokenClaims> verified;
+
+    public TokenSigner() {
+        this(configuredKey(), DEFAULT_TTL_SECONDS, DEFAULT_CACHE_SIZE);
+    }
+
+    public TokenSigner(byte[] key, long ttlSeconds, int cacheSize) {
+        if (key.length < 32) {
+            throw new IllegalArgumentException("Signing key must be at least 256 bits");
+        }
+        if (ttlSeconds <= 0) {
+            throw new IllegalArgumentException("ttlSeconds must be positive: " + ttlSeconds);
+        }
+        this.key = new SecretKeySpec(key.clone(), ALGORITHM);
+        this.ttlSeconds = ttlSeconds;
+        this.macs = new MacStripe[Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 4 - 1)];
+        for (int i = 0; i < macs.length; i++) {
+            macs[i] = new MacStripe(this.key);
+        }
+        this.verified = new BoundedCache<>(cacheSize, ttlSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@link #isIssuable(String)} rejects {@code username}
+     */
+    public String issue(String username) {
+        if (!isIssuable(username)) {
+            throw new IllegalArgumentException("username must be 1 to " + MAX_USERNAME_BYTES + " UTF-8 bytes");
+        }
+        long expiresAt = System.currentTimeMillis() / 1000 + ttlSeconds;
+        String payload = ENCODER.encodeToString(username.getBytes(StandardCharsets.UTF_8))
+                + "." + expiresAt
+                + "." + ENCODER.encodeToString(StripedEntropy.nextBytes(NONCE_BYTES));
+        String token = payload + "." + ENCODER.encodeToString(sign(payload));
+        verified.put(token, new TokenClaims(username, expiresAt));
+        return token;
+    }
+
+    /**
+     * @return whether {@link #issue(String)} can sign a token for {@code username}: it must be non-empty
+     *         and at most {@link #MAX_USERNAME_BYTES} bytes in UTF-8
+     */
+    public static boolean isIssuable(String username) {
+        return username != null && !username.isEmpty() && username.length() <= MAX_USERNAME_BYTES
+                && username.getBytes(StandardCharsets.UTF_8).length <= MAX_USERNAME_BYTES;
+    }
+
+    /**
+     * @return the token's claims, or {@code null} if it is malformed, forged or expired
+     */
+    public TokenClaims verify(String token) {
+        if (token == null || token.length() > MAX_TOKEN_LENGTH) {
+            return null;
+        }
+        long now = System.currentTimeMillis() / 1000;
+
+        TokenClaims cached = verified.get(token);
+        if (cached != null) {
+            return cached.isExpired(now) ? null : cached;
+        }
+
+        int macStart = token.lastIndexOf('.');
+        int nonceStart = macStart <= 0 ? -1 : token.lastIndexOf('.', macStart - 1);
+        int expiryStart = nonceStart <= 0 ? -1 : token.lastIndexOf('.', nonceStart - 1);
+        if (expiryStart <= 0) {
+            return null;
+        }
+
+        try {
+            byte[] mac = DECODER.decode(token.substring(macStart + 1));
+            if (!MessageDigest.isEqual(mac, sign(token.substring(0, macStart)))) {
+                return null;
+            }
+            long expiresAt = Long.parseLong(token.substring(expiryStart + 1, nonceStart));
+            String username = new String(DECODER.decode(token.substring(0, expiryStart)), StandardCharsets.UTF_8);
+            TokenClaims claims = new TokenClaims(username, expiresAt);
+            if (claims.isExpired(now)) {
+                return null;
+            }
+            verified.put(token, claims);
+            return claims;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    public CacheStats getVerificationCacheStats() {
+        return verified.stats();
+    }
+
+    private byte[] sign(String payload) {
+        long id = Thread.currentThread().threadId();
+        MacStripe stripe = macs[(int) (id ^ (id >>> 32)) & (macs.length - 1)];
+        stripe.lock.lock();
+        try {
+            return stripe.mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private static byte[] configuredKey() {
+        String configured = System.getProperty(KEY_PROPERTY);
+        if (configured != null) {
+            return Base64.getDecoder().decode(configured);
+        }
+        return StripedEntropy.nextBytes(32);
+    }
+
+    private static final class MacStripe {
+        final ReentrantLock lock = new ReentrantLock();
+        final Mac mac;
+
+        MacStripe(SecretKeySpec key) {
+            try {
+                this.mac = Mac.getInstance(ALGORITHM);
+                this.mac.init(key);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(ALGORITHM + " is not available", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.demoapp.validators;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Validates large user imports record by record across all cores.
+ * <p>
+ * The calling thread only splits the input into batches of lines; parsing and validation run on the
+ * executor. At most {@code maxInFlightBatches} batches are buffered at a time, so memory stays flat
+ * however large the file is. Failures are pushed to a {@link FailureListener} as they are found
+ * instead of being collected.
+ */
+public class BulkUserValidator {
+
+    @FunctionalInterface
+    public interface FailureListener {
+        /**
+         * Called concurrently from worker threads, in no particular order.
+         *
+         * @param lineNumber 1-based line of the record in the input
+         */
+        void onFailure(long lineNumber, ValidationFailure failure);
+    }
+
+    private static final int DEFAULT_BATCH_SIZE = 1024;
+
+    private final InputValidator validator;
+    private final ExecutorService executor;
+    private final int batchSize;
+    private final int maxInFlightBatches;
+
+    public BulkUserValidator() {
+        this(new InputValidator(), ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE,
+                Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    public BulkUserValidator(InputValidator validator, ExecutorService executor, int batchSize, int maxInFlightBatches) {
+        if (batchSize <= 0 || maxInFlightBatches <= 0) {
+            throw new IllegalArgumentException("batchSize and maxInFlightBatches must be positive");
+        }
+        this.validator = validator;
+        this.executor = executor;
+        this.batchSize = batchSize;
+        this.maxInFlightBatches = maxInFlightBatches;
+    }
+
+    public BulkValidationSummary validateCsv(Reader input, FailureListener listener) throws IOException, InterruptedException {
+        return validate(input, UserRecordFormat.CSV, listener);
+    }
+
+    public BulkValidationSummary validateNdjson(Reader input, FailureListener listener) throws IOException, InterruptedException {
+        return validate(input, UserRecordFormat.NDJSON, listener);
+    }
+
+    public BulkValidationSummary validate(Reader input, UserRecordFormat format, FailureListener listener)
+            throws IOException, InterruptedException {
+        BufferedReader reader = input instanceof BufferedReader ? (BufferedReader) input : new BufferedReader(input);
+        Semaphore inFlight = new Semaphore(maxInFlightBatches);
+        LongAdder records = new LongAdder();
+        LongAdder failures = new LongAdder();
+        AtomicReference<Throwable> workerError = new AtomicReference<>();
+
+        try {
+            long lineNumber = 0;
+            String[] batch = new String[batchSize];
+            int batchLength = 0;
+            long batchFirstLine = 1;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber == 1 && format.isHeader(line)) {
+                    continue;
+                }
+                if (batchLength == 0) {
+                    batchFirstLine = lineNumber;
+                }
+                batch[batchLength++] = line;
+                if (batchLength == batchSize) {
+                    submit(batch, batchLength, batchFirstLine, format, listener, inFlight, records, failures, workerError);
+                    batch = new String[batchSize];
+                    batchLength = 0;
+                }
+                if (workerError.get() != null) {
+                    break;
+                }
+            }
+            if (batchLength > 0) {
+                submit(batch, batchLength, batchFirstLine, format, listener, inFlight, records, failures, workerError);
+            }
+        } finally {
+            // Also on failure, so no batch is still calling the listener once this method has returned.
+            inFlight.acquireUninterruptibly(maxInFlightBatches);
+            inFlight.release(maxInFlightBatches);
+        }
+
+        Throwable error = workerError.get();
+        if (error instanceof RuntimeException) {
+            throw (RuntimeException) error;
+        }
+        if (error instanceof Error) {
+            throw (Error) error;
+        }
+        return new BulkValidationSummary(records.sum(), failures.sum());
+    }
+
+    private void submit(String[] lines, int count, long firstLine, UserRecordFormat format, FailureListener listener,
+                        Semaphore inFlight, LongAdder records, LongAdder failures, AtomicReference<Throwable> workerError)
+            throws InterruptedException {
+        inFlight.acquire();
+        try {
+            executor.execute(() -> {
+                try {
+                    validateBatch(lines, count, firstLine, format, listener, records, failures);
+                } catch (Throwable t) {
+                    workerError.compareAndSet(null, t);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.release();
+            throw e;
+        }
+    }
+
+    private void validateBatch(String[] lines, int count, long firstLine, UserRecordFormat format, FailureListener listener,
+                               LongAdder records, LongAdder failures) {
+        long batchRecords = 0;
+        long batchFailures = 0;
+        for (int i = 0; i < count; i++) {
+            String line = lines[i];
+            if (line.isEmpty()) {
+                continue;
+            }
+            batchRecords++;
+            String[] fields = format.parse(line);
+            ValidationFailure failure = fields == null
+                    ? ValidationFailure.MALFORMED_RECORD
+                    : validator.findFailure(fields[0], fields[1], fields[2]);
+            if (failure != null) {
+                batchFailures++;
+                listener.onFailure(firstLine + i, failure);
+            }
+        }
+        records.add(batchRecords);
+        failures.add(batchFailures);
+    }
+}
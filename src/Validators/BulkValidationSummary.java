@@ -0,0 +1,29 @@
+package com.demoapp.validators;
+
+public final class BulkValidationSummary {
+
+    private final long recordCount;
+    private final long failureCount;
+
+    public BulkValidationSummary(long recordCount, long failureCount) {
+        this.recordCount = recordCount;
+        this.failureCount = failureCount;
+    }
+
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    public long getFailureCount() {
+        return failureCount;
+    }
+
+    public long getValidCount() {
+        return recordCount - failureCount;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkValidationSummary{records=" + recordCount + ", failures=" + failureCount + "}";
+    }
+}
@@ -2,10 +2,66 @@ package com.demoapp.validators;
 
 public class InputValidator {
 
+    private static final int MIN_TOP_LEVEL_DOMAIN_LENGTH = 2;
+    private static final int MAX_TOP_LEVEL_DOMAIN_LENGTH = 7;
+
+    /**
+     * Single-pass, allocation-free equivalent of
+     * {@code ^[a-zA-Z0-9_+&*-]+(?:\.[a-zA-Z0-9_+&*-]+)*@(?:[a-zA-Z0-9-]+\.)+[a-zA-Z]{2,7}$}.
+     * Runs in linear time on any input, so hostile strings cannot cause backtracking stalls.
+     */
     public boolean isValidEmail(String email) {
-        String emailRegex = "^[a-zA-Z0-9_+&*-]+(?:\\.[a-zA-Z0-9_+&*-]+)*@(?:[a-zA-Z0-9-]+\\.)+[a-zA-Z]{2,7}$";
+        if (email == null) {
+            return false;
+        }
+        int length = email.length();
+        int i = 0;
+
+        boolean segmentStarted = false;
+        for (; i < length; i++) {
+            char c = email.charAt(i);
+            if (c == '@') {
+                break;
+            }
+            if (c == '.') {
+                if (!segmentStarted) {
+                    return false;
+                }
+                segmentStarted = false;
+            } else if (isLocalPartChar(c)) {
+                segmentStarted = true;
+            } else {
+                return false;
+            }
+        }
+        if (i == length || !segmentStarted) {
+            return false;
+        }
 
-        return email != null && email.matches(emailRegex);
+        int labels = 0;
+        int labelLength = 0;
+        boolean labelAllLetters = true;
+        for (i++; i < length; i++) {
+            char c = email.charAt(i);
+            if (c == '.') {
+                if (labelLength == 0) {
+                    return false;
+                }
+                labels++;
+                labelLength = 0;
+                labelAllLetters = true;
+            } else if (isDomainChar(c)) {
+                labelLength++;
+                labelAllLetters &= isAsciiLetter(c);
+            } else {
+                return false;
+            }
+        }
+
+        return labels > 0
+                && labelAllLetters
+                && labelLength >= MIN_TOP_LEVEL_DOMAIN_LENGTH
+                && labelLength <= MAX_TOP_LEVEL_DOMAIN_LENGTH;
     }
 
     public boolean isValidPassword(String password) {
@@ -17,6 +73,40 @@ public class InputValidator {
     }
 
     public boolean validateUserInput(String username, String email, String password) {
-        return isValidUsername(username) && isValidEmail(email) && isValidPassword(password);
+        return findFailure(username, email, password) == null;
+    }
+
+    /**
+     * Runs the checks cheapest first and stops at the first one that fails.
+     *
+     * @return the failed check, or {@code null} if the input is valid
+     */
+    public ValidationFailure findFailure(String username, String email, String password) {
+        if (!isValidUsername(username)) {
+            return ValidationFailure.INVALID_USERNAME;
+        }
+        if (!isValidPassword(password)) {
+            return ValidationFailure.INVALID_PASSWORD;
+        }
+        if (!isValidEmail(email)) {
+            return ValidationFailure.INVALID_EMAIL;
+        }
+        return null;
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isLocalPartChar(char c) {
+        return isAsciiLetter(c) || isAsciiDigit(c) || c == '_' || c == '+' || c == '&' || c == '*' || c == '-';
+    }
+
+    private static boolean isDomainChar(char c) {
+        return isAsciiLetter(c) || isAsciiDigit(c) || c == '-';
     }
 }
@@ -0,0 +1,250 @@
+package com.demoapp.validators;
+
+/**
+ * Line formats accepted by {@link BulkUserValidator}. Each parser returns
+ * {@code {username, email, password}} or {@code null} if the line is not a well-formed record.
+ */
+public enum UserRecordFormat {
+
+    /**
+     * {@code username,email,password}, with optional RFC 4180 double-quoting; a leading
+     * {@code username,email,password} header line is skipped. Records are split on line breaks before
+     * they are parsed, so unlike RFC 4180 a quoted field cannot contain one: such a record is reported
+     * as malformed, and its continuation line as a record of its own.
+     */
+    CSV {
+        @Override
+        String[] parse(String line) {
+            String[] fields = new String[3];
+            int field = 0;
+            int i = 0;
+            int length = line.length();
+            while (true) {
+                if (field == fields.length) {
+                    return null;
+                }
+                StringBuilder value = new StringBuilder();
+                if (i < length && line.charAt(i) == '"') {
+                    i++;
+                    while (true) {
+                        if (i >= length) {
+                            return null;
+                        }
+                        char c = line.charAt(i++);
+                        if (c == '"') {
+                            if (i < length && line.charAt(i) == '"') {
+                                value.append('"');
+                                i++;
+                            } else {
+                                break;
+                            }
+                        } else {
+                            value.append(c);
+                        }
+                    }
+                    if (i < length && line.charAt(i) != ',') {
+                        return null;
+                    }
+                } else {
+                    while (i < length && line.charAt(i) != ',') {
+                        value.append(line.charAt(i++));
+                    }
+                }
+                fields[field++] = value.toString();
+                if (i >= length) {
+                    break;
+                }
+                i++;
+            }
+            return field == fields.length ? fields : null;
+        }
+
+        @Override
+        boolean isHeader(String line) {
+            return line.trim().equalsIgnoreCase("username,email,password");
+        }
+    },
+
+    /**
+     * One flat JSON object per line with string members {@code username}, {@code email} and
+     * {@code password}; other members are ignored.
+     */
+    NDJSON {
+        @Override
+        String[] parse(String line) {
+            String[] fields = new String[3];
+            JsonLineParser parser = new JsonLineParser(line);
+            if (!parser.readObject(fields)) {
+                return null;
+            }
+            return fields;
+        }
+
+        @Override
+        boolean isHeader(String line) {
+            return false;
+        }
+    };
+
+    abstract String[] parse(String line);
+
+    abstract boolean isHeader(String line);
+
+    private static final class JsonLineParser {
+
+        private final String line;
+        private int position;
+
+        JsonLineParser(String line) {
+            this.line = line;
+        }
+
+        boolean readObject(String[] fields) {
+            skipWhitespace();
+            if (!consume('{')) {
+                return false;
+            }
+            skipWhitespace();
+            if (consume('}')) {
+                return atEnd();
+            }
+            while (true) {
+                String name = readString();
+                skipWhitespace();
+                if (name == null || !consume(':')) {
+                    return false;
+                }
+                skipWhitespace();
+                int slot = slotFor(name);
+                if (peek() == '"') {
+                    String value = readString();
+                    if (value == null) {
+                        return false;
+                    }
+                    if (slot >= 0) {
+                        fields[slot] = value;
+                    }
+                } else if (slot >= 0 || !skipScalar()) {
+                    return false;
+                }
+                skipWhitespace();
+                if (consume('}')) {
+                    return atEnd();
+                }
+                if (!consume(',')) {
+                    return false;
+                }
+                skipWhitespace();
+            }
+        }
+
+        private static int slotFor(String name) {
+            switch (name) {
+                case "username":
+                    return 0;
+                case "email":
+                    return 1;
+                case "password":
+                    return 2;
+                default:
+                    return -1;
+            }
+        }
+
+        private String readString() {
+            if (!consume('"')) {
+                return null;
+            }
+            StringBuilder value = new StringBuilder();
+            while (position < line.length()) {
+                char c = line.charAt(position++);
+                if (c == '"') {
+                    return value.toString();
+                }
+                if (c != '\\') {
+                    value.append(c);
+                    continue;
+                }
+                if (position >= line.length()) {
+                    return null;
+                }
+                char escaped = line.charAt(position++);
+                switch (escaped) {
+                    case '"':
+                    case '\\':
+                    case '/':
+                        value.append(escaped);
+                        break;
+                    case 'b':
+                        value.append('\b');
+                        break;
+                    case 'f':
+                        value.append('\f');
+                        break;
+                    case 'n':
+                        value.append('\n');
+                        break;
+                    case 'r':
+                        value.append('\r');
+                        break;
+                    case 't':
+                        value.append('\t');
+                        break;
+                    case 'u':
+                        if (position + 4 > line.length()) {
+                            return null;
+                        }
+                        try {
+                            value.append((char) Integer.parseInt(line.substring(position, position + 4), 16));
+                        } catch (NumberFormatException e) {
+                            return null;
+                        }
+                        position += 4;
+                        break;
+                    default:
+                        return null;
+                }
+            }
+            return null;
+        }
+
+        // Numbers, booleans and null for members we do not read.
+        private boolean skipScalar() {
+            int start = position;
+            while (position < line.length()) {
+                char c = line.charAt(position);
+                if (c == ',' || c == '}' || Character.isWhitespace(c)) {
+                    break;
+                }
+                if (c == '{' || c == '[' || c == '"') {
+                    return false;
+                }
+                position++;
+            }
+            return position > start;
+        }
+
+        private void skipWhitespace() {
+            while (position < line.length() && Character.isWhitespace(line.charAt(position))) {
+                position++;
+            }
+        }
+
+        private boolean consume(char expected) {
+            if (peek() == expected) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private char peek() {
+            return position < line.length() ? line.charAt(position) : '\0';
+        }
+
+        private boolean atEnd() {
+            skipWhitespace();
+            return position == line.length();
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.demoapp.validators;
+
+public enum ValidationFailure {
+    MALFORMED_RECORD,
+    INVALID_USERNAME,
+    INVALID_PASSWORD,
+    INVALID_EMAIL
+}